@@ -0,0 +1,194 @@
+package net.jbock.examples;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the time to first parse of the example commands.
+ * Each run starts a fresh JVM with {@link ColdStartMain}, which invokes
+ * {@code parseOrExit} once and reports the time from {@code main}
+ * to the parse result.
+ * The number of loaded classes is taken from the {@code class+load} log
+ * of the forked JVM, so the measurement itself does not load any classes.
+ *
+ * <p>Run it with {@code gradle :benchmarks:coldStart}.
+ * The following system properties are recognized:
+ *
+ * <ul>
+ *   <li>{@code jbock.coldstart.runs}: number of JVMs per command, default {@code 20}
+ *   <li>{@code jbock.coldstart.cds}: if {@code true}, also measure with
+ *       a dynamic AppCDS archive
+ *   <li>{@code jbock.coldstart.budget}: maximum median time to first parse
+ *       in milliseconds; the harness fails if any command exceeds it
+ * </ul>
+ */
+public final class ColdStart {
+
+    private static final Map<String, List<String>> COMMANDS = commands();
+
+    private static final String HEADER = String.format(Locale.ROOT, "%-8s %-8s %10s %10s %12s %9s %9s",
+            "command", "mode", "median ms", "p99 ms", "process ms", "classes", "app");
+
+    private ColdStart() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("jbock.coldstart.runs", 20);
+        boolean cds = Boolean.getBoolean("jbock.coldstart.cds");
+        String budget = System.getProperty("jbock.coldstart.budget", "");
+        Path workDir = Files.createTempDirectory("jbock-coldstart");
+        List<Result> results = new ArrayList<>();
+        System.out.println(HEADER);
+        for (Map.Entry<String, List<String>> command : COMMANDS.entrySet()) {
+            List<String> options = new ArrayList<>();
+            Result result = measure(command.getKey(), "default", options, command.getValue(), runs, workDir);
+            System.out.println(result);
+            results.add(result);
+            if (cds) {
+                Path archive = workDir.resolve(command.getKey() + ".jsa");
+                launch(List.of("-XX:ArchiveClassesAtExit=" + archive), command.getKey(), command.getValue(), workDir);
+                options.add("-XX:SharedArchiveFile=" + archive);
+                Result cdsResult = measure(command.getKey(), "appcds", options, command.getValue(), runs, workDir);
+                System.out.println(cdsResult);
+                results.add(cdsResult);
+            }
+        }
+        if (!budget.isEmpty()) {
+            checkBudget(results, Double.parseDouble(budget));
+        }
+    }
+
+    private static void checkBudget(List<Result> results, double budgetMillis) {
+        for (Result result : results) {
+            if (result.medianNanos / 1e6 > budgetMillis) {
+                throw new IllegalStateException(String.format(Locale.ROOT,
+                        "time to first parse of %s (%s) is %.2f ms, which exceeds the budget of %.2f ms",
+                        result.command, result.mode, result.medianNanos / 1e6, budgetMillis));
+            }
+        }
+    }
+
+    private static Result measure(
+            String command,
+            String mode,
+            List<String> jvmOptions,
+            List<String> tokens,
+            int runs,
+            Path workDir) throws IOException, InterruptedException {
+        launch(jvmOptions, command, tokens, workDir); // warm the file system cache
+        long[] parseNanos = new long[runs];
+        long[] processNanos = new long[runs];
+        long[] classes = new long[runs];
+        long[] appClasses = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            Run run = launch(jvmOptions, command, tokens, workDir);
+            parseNanos[i] = run.parseNanos;
+            processNanos[i] = run.processNanos;
+            classes[i] = run.classes;
+            appClasses[i] = run.appClasses;
+        }
+        return new Result(command, mode,
+                percentile(parseNanos, 50),
+                percentile(parseNanos, 99),
+                percentile(processNanos, 50),
+                percentile(classes, 50),
+                percentile(appClasses, 50));
+    }
+
+    private static Run launch(
+            List<String> jvmOptions,
+            String command,
+            List<String> tokens,
+            Path workDir) throws IOException, InterruptedException {
+        Path classLog = workDir.resolve("class-load.log");
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(jvmOptions);
+        cmd.add("-Xlog:class+load=info:file=" + classLog);
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(ColdStartMain.class.getName());
+        cmd.add(command);
+        cmd.addAll(tokens);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes()).trim();
+        int exitCode = process.waitFor();
+        long processNanos = System.nanoTime() - start;
+        if (exitCode != 0) {
+            throw new IllegalStateException("exit code " + exitCode + " for " + cmd + ":\n" + output);
+        }
+        List<String> loaded = Files.readAllLines(classLog);
+        long appClasses = loaded.stream()
+                .filter(line -> line.contains(" net.jbock.") || line.contains(" io.jbock."))
+                .count();
+        return new Run(Long.parseLong(output), processNanos, loaded.size(), appClasses);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static Map<String, List<String>> commands() {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        result.put("git", List.of("commit", "--bare", "src/Main.java"));
+        result.put("curl", List.of("-X", "POST", "-H", "Accept: application/json", "-vi", "https://example.com"));
+        result.put("tar", List.of("-xvzf", "archive.tar.gz"));
+        result.put("rest", List.of("--file", "a.txt", "one", "two"));
+        result.put("super", List.of("-q", "build", "--offline"));
+        return result;
+    }
+
+    private static final class Run {
+
+        final long parseNanos;
+        final long processNanos;
+        final long classes;
+        final long appClasses;
+
+        Run(long parseNanos, long processNanos, long classes, long appClasses) {
+            this.parseNanos = parseNanos;
+            this.processNanos = processNanos;
+            this.classes = classes;
+            this.appClasses = appClasses;
+        }
+    }
+
+    private static final class Result {
+
+        final String command;
+        final String mode;
+        final long medianNanos;
+        final long p99Nanos;
+        final long processNanos;
+        final long classes;
+        final long appClasses;
+
+        Result(String command, String mode, long medianNanos, long p99Nanos,
+               long processNanos, long classes, long appClasses) {
+            this.command = command;
+            this.mode = mode;
+            this.medianNanos = medianNanos;
+            this.p99Nanos = p99Nanos;
+            this.processNanos = processNanos;
+            this.classes = classes;
+            this.appClasses = appClasses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-8s %-8s %10.2f %10.2f %12.1f %9d %9d",
+                    command, mode, medianNanos / 1e6, p99Nanos / 1e6, processNanos / 1e6, classes, appClasses);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.jbock.examples;
+
+import java.util.Arrays;
+
+/**
+ * The program that {@link ColdStart} runs in a fresh JVM.
+ * The first argument selects the example command,
+ * the remaining arguments are passed to its {@code parseOrExit} method.
+ * Prints the nanoseconds from the start of {@code main}
+ * until the parse result is available.
+ */
+public final class ColdStartMain {
+
+    private ColdStartMain() {
+    }
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        String[] tokens = Arrays.copyOfRange(args, 1, args.length);
+        Object result = parseOrExit(args[0], tokens);
+        long nanos = System.nanoTime() - start;
+        if (result == null) {
+            throw new AssertionError("no result");
+        }
+        System.out.println(nanos);
+    }
+
+    private static Object parseOrExit(String command, String[] tokens) {
+        switch (command) {
+            case "git":
+                return new GitArgumentsParser().parseOrExit(tokens);
+            case "curl":
+                return new CurlArgumentsParser().parseOrExit(tokens);
+            case "tar":
+                return new TarArgumentsParser().parseOrExit(tokens);
+            case "rest":
+                return new RestArgumentsParser().parseOrExit(tokens);
+            case "super":
+                return new SuperArgumentsParser().parseOrExit(tokens);
+            default:
+                throw new IllegalArgumentException("unknown command: " + command);
+        }
+    }
+}
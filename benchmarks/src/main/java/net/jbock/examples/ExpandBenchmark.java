@@ -0,0 +1,73 @@
+package net.jbock.examples;
+
+import io.jbock.util.Either;
+import net.jbock.util.AtFileError;
+import net.jbock.util.ParseRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code @-file} expansion with {@link ParseRequest#expand()}.
+ * The at-file contains plain, quoted, escaped and continued lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpandBenchmark {
+
+    private Path atFile;
+    private String[] expandArgs;
+    private final String[] simpleArgs = {"-X", "POST", "-H", "Accept: application/json", "https://example.com"};
+
+    @Setup(Level.Trial)
+    public void writeAtFile() throws IOException {
+        atFile = Files.createTempFile("jbock-benchmark", ".args");
+        Files.write(atFile, List.of(
+                "-X",
+                "POST",
+                "-H",
+                "'Content-Type: application/json'",
+                "--header=\"Accept: */*\"",
+                "--data",
+                "{\\\"name\\\": \\\"jbock\\\",\\",
+                " \\\"tags\\\": [\\\"cli\\\", \\\"parser\\\"]}",
+                "-v",
+                "tab\\tseparated",
+                "https://example.com/api/v1/items"));
+        expandArgs = new String[]{"@" + atFile, "--include"};
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteAtFile() throws IOException {
+        Files.deleteIfExists(atFile);
+    }
+
+    @Benchmark
+    public Either<? extends AtFileError, List<String>> expand() {
+        return ParseRequest.from(expandArgs).expand();
+    }
+
+    @Benchmark
+    public Either<? extends AtFileError, List<String>> simple() {
+        return ParseRequest.from(simpleArgs).expand();
+    }
+}
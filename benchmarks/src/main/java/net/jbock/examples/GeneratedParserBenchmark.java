@@ -0,0 +1,85 @@
+package net.jbock.examples;
+
+import io.jbock.util.Either;
+import net.jbock.util.ParsingFailed;
+import net.jbock.util.SuperResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the generated parsers of some example commands
+ * over realistic command lines.
+ * The benchmark class is in the package of the examples,
+ * because most of the generated parsers are package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedParserBenchmark {
+
+    private final List<String> git = List.of("commit", "--bare", "src/Main.java", "--", "-m", "fix the build");
+
+    private final List<String> curl = List.of(
+            "-X", "POST",
+            "-H", "Content-Type: application/json",
+            "--header=Accept: application/json",
+            "-vi",
+            "https://example.com/api/v1/items");
+
+    private final List<String> tar = List.of("-xvzf", "archive.tar.gz");
+
+    private final List<String> rest = List.of("--file", "a.txt", "--file=b.txt", "one", "two", "three");
+
+    private final List<String> superCommand = List.of("-q", "build", "--offline", "-x", "test");
+
+    private final List<String> curlError = List.of("-X", "GET", "--request", "POST");
+
+    private final GitArgumentsParser gitParser = new GitArgumentsParser();
+    private final CurlArgumentsParser curlParser = new CurlArgumentsParser();
+    private final TarArgumentsParser tarParser = new TarArgumentsParser();
+    private final RestArgumentsParser restParser = new RestArgumentsParser();
+    private final SuperArgumentsParser superParser = new SuperArgumentsParser();
+
+    @Benchmark
+    public Either<ParsingFailed, GitArguments> git() {
+        return gitParser.parse(git);
+    }
+
+    @Benchmark
+    public Either<ParsingFailed, CurlArguments> curl() {
+        return curlParser.parse(curl);
+    }
+
+    @Benchmark
+    public Either<ParsingFailed, CurlArguments> curlError() {
+        return curlParser.parse(curlError);
+    }
+
+    @Benchmark
+    public Either<ParsingFailed, TarArguments> tar() {
+        return tarParser.parse(tar);
+    }
+
+    @Benchmark
+    public Either<ParsingFailed, RestArguments> rest() {
+        return restParser.parse(rest);
+    }
+
+    @Benchmark
+    public Either<ParsingFailed, SuperResult<SuperArguments>> superCommand() {
+        return superParser.parse(superCommand);
+    }
+}
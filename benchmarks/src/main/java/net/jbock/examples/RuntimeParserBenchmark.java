@@ -0,0 +1,130 @@
+package net.jbock.examples;
+
+import net.jbock.parse.OptionKind;
+import net.jbock.parse.OptionLookup;
+import net.jbock.parse.OptionState;
+import net.jbock.parse.OptionStateModeFlag;
+import net.jbock.parse.OptionStateNonRepeatable;
+import net.jbock.parse.OptionStateRepeatable;
+import net.jbock.parse.ParseResult;
+import net.jbock.parse.ParserTable;
+import net.jbock.parse.StandardParser;
+import net.jbock.parse.SuperParser;
+import net.jbock.parse.TableParser;
+import net.jbock.parse.VarargsParameterParser;
+import net.jbock.util.ExToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the runtime parser classes on the same option set,
+ * without string conversion.
+ * The generated parsers use {@link TableParser};
+ * {@link StandardParser}, {@link VarargsParameterParser} and {@link SuperParser}
+ * are measured with the per-call {@link OptionState} setup that they require.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("removal")
+public class RuntimeParserBenchmark {
+
+    private enum Opt {
+        REQUEST, HEADER, VERBOSE, INCLUDE
+    }
+
+    private static final Map<String, Opt> OPTION_NAMES = Map.of(
+            "--request", Opt.REQUEST,
+            "-X", Opt.REQUEST,
+            "--header", Opt.HEADER,
+            "-H", Opt.HEADER,
+            "--verbose", Opt.VERBOSE,
+            "-v", Opt.VERBOSE,
+            "--include", Opt.INCLUDE,
+            "-i", Opt.INCLUDE);
+
+    private static final OptionLookup<Opt> LOOKUP = OptionLookup.fromMap(OPTION_NAMES);
+
+    private static final OptionKind[] KINDS = {
+            OptionKind.NON_REPEATABLE, OptionKind.REPEATABLE, OptionKind.MODE_FLAG, OptionKind.MODE_FLAG};
+
+    private static final ParserTable<Opt> STANDARD_TABLE = ParserTable.standard("bench", LOOKUP, 1, KINDS);
+    private static final ParserTable<Opt> VARARGS_TABLE = ParserTable.varargs("bench", LOOKUP, 0, KINDS);
+    private static final ParserTable<Opt> SUPER_TABLE = ParserTable.superCommand("bench", LOOKUP, 1, KINDS);
+
+    private final List<String> tokens = List.of(
+            "-X", "POST",
+            "-H", "Content-Type: application/json",
+            "--header=Accept: application/json",
+            "-vi",
+            "https://example.com/api/v1/items");
+
+    private final List<String> superTokens = List.of(
+            "-vi", "-X", "POST", "build", "--offline", "-x", "test");
+
+    @Benchmark
+    public ParseResult<Opt> standardParser() throws ExToken {
+        StandardParser<Opt> parser = StandardParser.create(LOOKUP, optionStates(), 1);
+        parser.parse(tokens);
+        return parser;
+    }
+
+    @Benchmark
+    public ParseResult<Opt> varargsParameterParser() throws ExToken {
+        VarargsParameterParser<Opt> parser = VarargsParameterParser.create(LOOKUP, optionStates(), 0);
+        parser.parse(tokens);
+        return parser;
+    }
+
+    @Benchmark
+    public ParseResult<Opt> superParser() throws ExToken {
+        SuperParser<Opt> parser = SuperParser.create(LOOKUP, optionStates(), 1);
+        parser.parse(superTokens);
+        return parser;
+    }
+
+    @Benchmark
+    public ParseResult<Opt> tableParserStandard() throws ExToken {
+        TableParser<Opt> parser = STANDARD_TABLE.newParser();
+        parser.parse(tokens);
+        return parser;
+    }
+
+    @Benchmark
+    public ParseResult<Opt> tableParserVarargs() throws ExToken {
+        TableParser<Opt> parser = VARARGS_TABLE.newParser();
+        parser.parse(tokens);
+        return parser;
+    }
+
+    @Benchmark
+    public ParseResult<Opt> tableParserSuper() throws ExToken {
+        TableParser<Opt> parser = SUPER_TABLE.newParser();
+        parser.parse(superTokens);
+        return parser;
+    }
+
+    private static Map<Opt, OptionState> optionStates() {
+        Map<Opt, OptionState> result = new EnumMap<>(Opt.class);
+        result.put(Opt.REQUEST, new OptionStateNonRepeatable());
+        result.put(Opt.HEADER, new OptionStateRepeatable());
+        result.put(Opt.VERBOSE, new OptionStateModeFlag());
+        result.put(Opt.INCLUDE, new OptionStateModeFlag());
+        return result;
+    }
+}
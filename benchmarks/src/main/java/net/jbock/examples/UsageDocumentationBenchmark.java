@@ -0,0 +1,59 @@
+package net.jbock.examples;
+
+import net.jbock.contrib.StandardErrorHandler;
+import net.jbock.model.CommandModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering of the usage documentation.
+ * {@code render} always lays out the text,
+ * while {@code printPrerendered} prints the version that
+ * the annotation processor rendered at compile time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UsageDocumentationBenchmark {
+
+    private final CommandModel curl = new CurlArgumentsParser().createModel();
+    private final CommandModel git = new GitArgumentsParser().createModel();
+
+    private final StandardErrorHandler handler = StandardErrorHandler.builder()
+            .withTerminalWidth(100)
+            .build();
+
+    private final StandardErrorHandler prerenderedHandler = StandardErrorHandler.builder()
+            .withTerminalWidth(80)
+            .withOutputStream(new PrintStream(OutputStream.nullOutputStream()))
+            .build();
+
+    @Benchmark
+    public String renderCurl() {
+        return handler.renderUsageDocumentation(curl);
+    }
+
+    @Benchmark
+    public String renderGit() {
+        return handler.renderUsageDocumentation(git);
+    }
+
+    @Benchmark
+    public void printPrerendered() {
+        prerenderedHandler.printUsageDocumentation(curl);
+    }
+}
@@ -32,7 +32,7 @@ public abstract class AnnotatedMethod {
     }
 
     public final String methodName() {
-        return method().getSimpleName().toString();
+        return executable().simpleName();
     }
 
     public final TypeMirror returnType() {
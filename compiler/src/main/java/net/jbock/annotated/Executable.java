@@ -5,6 +5,7 @@ import net.jbock.Option;
 import net.jbock.Parameter;
 import net.jbock.Parameters;
 import net.jbock.VarargsParameter;
+import net.jbock.common.ModelAccess;
 import net.jbock.common.ValidationFailure;
 import net.jbock.processor.SourceElement;
 
@@ -37,10 +38,16 @@ abstract class Executable {
 
     private final ExecutableElement method;
     private final Optional<TypeElement> converter;
+    private final String simpleName;
+    private final List<Modifier> accessModifiers;
 
     Executable(ExecutableElement method, Optional<TypeElement> converter) {
         this.method = method;
         this.converter = converter;
+        this.simpleName = method.getSimpleName().toString();
+        this.accessModifiers = method.getModifiers().stream()
+                .filter(ACCESS_MODIFIERS::contains)
+                .collect(toList());
     }
 
     static class Factory {
@@ -119,17 +126,16 @@ abstract class Executable {
     abstract List<String> description();
 
     final ExecutableElement method() {
+        ModelAccess.check();
         return method;
     }
 
-    final Name simpleName() {
-        return method.getSimpleName();
+    final String simpleName() {
+        return simpleName;
     }
 
     final List<Modifier> accessModifiers() {
-        return method().getModifiers().stream()
-                .filter(ACCESS_MODIFIERS::contains)
-                .collect(toList());
+        return accessModifiers;
     }
 
     private static Optional<TypeElement> findConverterAttribute(AnnotationMirror annotationMirror) {
@@ -147,6 +153,7 @@ abstract class Executable {
     }
 
     final Optional<TypeElement> converter() {
+        ModelAccess.check();
         return converter;
     }
 
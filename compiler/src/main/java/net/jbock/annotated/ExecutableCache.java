@@ -0,0 +1,48 @@
+package net.jbock.annotated;
+
+import io.jbock.util.Either;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import net.jbock.common.ProcessorStats;
+import net.jbock.common.ValidationFailure;
+
+import javax.lang.model.element.ExecutableElement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the validated abstract methods of base classes and interfaces,
+ * so that a base type that is shared by many commands is only validated once.
+ * The cache must be cleared after each round,
+ * because the elements are not valid across rounds.
+ */
+@Singleton
+public final class ExecutableCache {
+
+    private final Map<ExecutableElement, Either<ValidationFailure, Executable>> executables = new HashMap<>();
+
+    private final ProcessorStats stats;
+
+    @Inject
+    ExecutableCache(ProcessorStats stats) {
+        this.stats = stats;
+    }
+
+    Either<ValidationFailure, Executable> get(
+            ExecutableElement method,
+            Function<ExecutableElement, Either<ValidationFailure, Executable>> validate) {
+        Either<ValidationFailure, Executable> result = executables.get(method);
+        if (result == null) {
+            result = validate.apply(method);
+            executables.put(method, result);
+        } else {
+            stats.executableCacheHit();
+        }
+        return result;
+    }
+
+    public void clear() {
+        executables.clear();
+    }
+}
@@ -2,28 +2,33 @@ package net.jbock.annotated;
 
 import io.jbock.util.Either;
 import jakarta.inject.Inject;
+import net.jbock.common.SafeElements;
+import net.jbock.common.SafeTypes;
 import net.jbock.common.ValidationFailure;
 import net.jbock.processor.SourceElement;
 import net.jbock.validate.ValidateScope;
 
-import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
-import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static io.jbock.util.Either.left;
 import static io.jbock.util.Eithers.allFailures;
 import static java.util.stream.Collectors.toList;
 import static javax.lang.model.element.Modifier.ABSTRACT;
 import static net.jbock.common.Annotations.methodLevelAnnotations;
+import static net.jbock.common.Suppliers.memoize;
 import static net.jbock.common.TypeTool.AS_DECLARED;
 import static net.jbock.common.TypeTool.AS_TYPE_ELEMENT;
 
@@ -32,18 +37,28 @@ public class ExecutableElementsFinder {
 
     private final SourceElement sourceElement;
     private final Executable.Factory executableFactory;
+    private final SafeElements elements;
+    private final SafeTypes types;
+    private final ExecutableCache executableCache;
 
     @Inject
     ExecutableElementsFinder(
             SourceElement sourceElement,
-            Executable.Factory executableFactory) {
+            Executable.Factory executableFactory,
+            SafeElements elements,
+            SafeTypes types,
+            ExecutableCache executableCache) {
         this.sourceElement = sourceElement;
         this.executableFactory = executableFactory;
+        this.elements = elements;
+        this.types = types;
+        this.executableCache = executableCache;
     }
 
     /**
      * Returns a Right-Either containing all annotated parameterless
-     * abstract methods.
+     * abstract methods, including the methods that are inherited
+     * from base classes and interfaces.
      *
      * <p>If one of the abstract methods is not annotated,
      * or not parameterless, a Left-Either is returned.
@@ -52,8 +67,8 @@ public class ExecutableElementsFinder {
      *         or a nonempty list of validation failures
      */
     Either<List<ValidationFailure>, List<Executable>> findExecutableElements() {
-        return checkInterfaceOrSimpleClass()
-                .or(this::checkNoInterfaces)
+        return checkNoGenericSupertypes(sourceElement.element())
+                .or(this::checkNoConflictingMethods)
                 .map(List::of)
                 .<Either<List<ValidationFailure>, List<Executable>>>map(Either::left)
                 .orElseGet(this::validParameterlessAbstract);
@@ -61,43 +76,69 @@ public class ExecutableElementsFinder {
 
     private Either<List<ValidationFailure>, List<Executable>> validParameterlessAbstract() {
         return abstractMethods().stream()
-                .map(this::validateAbstractMethod)
+                .map(this::validateAbstractMethodCached)
                 .collect(allFailures());
     }
 
-    private Optional<ValidationFailure> checkInterfaceOrSimpleClass() {
-        if (sourceElement.isInterface()) {
-            return Optional.empty();
+    /* Left-Optional
+     * The return type of an inherited method must not depend on the command.
+     */
+    private Optional<ValidationFailure> checkNoGenericSupertypes(TypeElement type) {
+        List<TypeMirror> supertypes = new ArrayList<>(type.getInterfaces());
+        supertypes.add(type.getSuperclass());
+        for (TypeMirror supertype : supertypes) {
+            Optional<DeclaredType> declared = AS_DECLARED.visit(supertype);
+            if (declared.isEmpty()) {
+                continue;
+            }
+            Optional<TypeElement> element = AS_TYPE_ELEMENT.visit(declared.get().asElement());
+            if (element.isEmpty()) {
+                continue;
+            }
+            if (!element.get().getTypeParameters().isEmpty()) {
+                return Optional.of(sourceElement.fail("invalid supertype: " +
+                        element.get().getQualifiedName() + " may not have type parameters"));
+            }
+            Optional<ValidationFailure> failure = checkNoGenericSupertypes(element.get());
+            if (failure.isPresent()) {
+                return failure;
+            }
         }
-        return AS_DECLARED.visit(sourceElement.element().getSuperclass())
-                .map(DeclaredType::asElement)
-                .flatMap(AS_TYPE_ELEMENT::visit)
-                .flatMap(superClass -> superClass.getSuperclass().getKind() == TypeKind.NONE ?
-                        Optional.empty() :
-                        Optional.of(sourceElement.fail(
-                                "invalid superclass: expecting java.lang.Object, but found: "
-                                        + superClass.getQualifiedName())));
+        return Optional.empty();
     }
 
-    private Optional<ValidationFailure> checkNoInterfaces() {
-        List<? extends TypeMirror> interfaces = sourceElement.element().getInterfaces();
-        if (interfaces.isEmpty()) {
-            return Optional.empty();
+    /* Left-Optional
+     * Two inherited abstract methods with the same name cannot be implemented separately.
+     */
+    private Optional<ValidationFailure> checkNoConflictingMethods() {
+        Map<Name, ExecutableElement> byName = new LinkedHashMap<>();
+        for (ExecutableElement method : abstractMethods()) {
+            ExecutableElement previous = byName.put(method.getSimpleName(), method);
+            if (previous != null) {
+                return Optional.of(sourceElement.fail("conflicting inherited methods: '" +
+                        method.getSimpleName() + "' is declared in " +
+                        previous.getEnclosingElement().getSimpleName() + " and " +
+                        method.getEnclosingElement().getSimpleName()));
+            }
         }
-        return Optional.of(sourceElement.fail(
-                "invalid command class: the command class or interface may not implement or extend any interfaces," +
-                        " but found: " + interfaces.stream()
-                        .map(AS_DECLARED::visit)
-                        .flatMap(Optional::stream)
-                        .map(DeclaredType::asElement)
-                        .map(Element::getSimpleName)
-                        .collect(toList())));
+        return Optional.empty();
     }
 
+    private final Supplier<List<ExecutableElement>> abstractMethods = memoize(() ->
+            elements().getLocalAndInheritedMethods(sourceElement().element(), types()).stream()
+                    .filter(m -> m.getModifiers().contains(ABSTRACT))
+                    .collect(toList()));
+
     private List<ExecutableElement> abstractMethods() {
-        return ElementFilter.methodsIn(sourceElement.element().getEnclosedElements()).stream()
-                .filter(m -> m.getModifiers().contains(ABSTRACT))
-                .collect(toList());
+        return abstractMethods.get();
+    }
+
+    private Either<ValidationFailure, Executable> validateAbstractMethodCached(
+            ExecutableElement method) {
+        if (method.getEnclosingElement().equals(sourceElement.element())) {
+            return validateAbstractMethod(method);
+        }
+        return executableCache.get(method, this::validateAbstractMethod);
     }
 
     private Either<ValidationFailure, Executable> validateAbstractMethod(
@@ -131,6 +172,18 @@ public class ExecutableElementsFinder {
                         .collect(toList())));
     }
 
+    private SourceElement sourceElement() {
+        return sourceElement;
+    }
+
+    private SafeElements elements() {
+        return elements;
+    }
+
+    private SafeTypes types() {
+        return types;
+    }
+
     private ValidationFailure missingAnnotationError(
             ExecutableElement method) {
         String message = "missing annotation: add one of these annotations: " + methodLevelAnnotations().stream()
@@ -7,7 +7,6 @@ import net.jbock.common.ValidationFailure;
 import net.jbock.processor.SourceElement;
 
 import javax.lang.model.element.ExecutableElement;
-import javax.lang.model.element.Name;
 import javax.lang.model.type.DeclaredType;
 import java.util.List;
 import java.util.Locale;
@@ -74,8 +73,8 @@ final class SourceElementWithMethods {
                 .anyMatch(this::isInaccessible);
     }
 
-    private String enumNameFor(Name sourceMethodName) {
-        String enumName = "_".contentEquals(sourceMethodName) ?
+    private String enumNameFor(String sourceMethodName) {
+        String enumName = "_".equals(sourceMethodName) ?
                 "_1" : // avoid potential keyword issue
                 SnakeName.create(sourceMethodName).snake('_').toUpperCase(Locale.ROOT);
         return uniqueNameSet.getUniqueName(enumName);
@@ -0,0 +1,82 @@
+package net.jbock.common;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Processor options that control code generation.
+ */
+public final class GeneratorOptions {
+
+    /**
+     * If this processor option is set to {@code true}, the generated code
+     * does not contain lambdas, method references or streams.
+     * This avoids the bootstrap cost of {@code invokedynamic}
+     * the first time a command line is parsed.
+     */
+    public static final String OPTION_LAMBDA_FREE = "jbock.lambdaFree";
+
+    /**
+     * If this processor option is set, reachability metadata for GraalVM native-image
+     * is written to {@code META-INF/native-image/<value>/}.
+     * The value should be of the form {@code <group>/<artifact>}.
+     */
+    public static final String OPTION_NATIVE_IMAGE = "jbock.nativeImage";
+
+    /**
+     * Number of threads that build the generated classes.
+     * Validation and file writing always happen on the processor thread.
+     * The default is {@code 1}, which means no additional threads are used.
+     *
+     * <p>This option is experimental, and its effect on compile time
+     * has not been measured. Only the building of the {@code TypeSpec}s
+     * runs in parallel, which may be a small part of the processing time.
+     */
+    public static final String OPTION_PARALLELISM = "jbock.parallelism";
+
+    private final boolean lambdaFree;
+    private final String nativeImage;
+    private final int parallelism;
+
+    private GeneratorOptions(boolean lambdaFree, String nativeImage, int parallelism) {
+        this.lambdaFree = lambdaFree;
+        this.nativeImage = nativeImage;
+        this.parallelism = parallelism;
+    }
+
+    public static GeneratorOptions create(Map<String, String> options) {
+        return new GeneratorOptions(
+                Boolean.parseBoolean(options.get(OPTION_LAMBDA_FREE)),
+                options.get(OPTION_NATIVE_IMAGE),
+                parseParallelism(options.get(OPTION_PARALLELISM)));
+    }
+
+    private static int parseParallelism(String value) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    public boolean lambdaFree() {
+        return lambdaFree;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the {@code <group>/<artifact>} part of the reachability metadata path,
+     * or an empty value if no metadata should be written.
+     */
+    public Optional<String> nativeImage() {
+        return Optional.ofNullable(nativeImage)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty());
+    }
+}
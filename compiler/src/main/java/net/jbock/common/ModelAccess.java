@@ -0,0 +1,43 @@
+package net.jbock.common;
+
+/**
+ * The javac model is not thread-safe.
+ * With {@link GeneratorOptions#OPTION_PARALLELISM}, the generated classes
+ * are built on worker threads, which must not touch any {@code Element}
+ * or {@code TypeMirror}. The accessors that return model objects
+ * invoke {@link #check()}, so that such an access fails
+ * instead of silently racing with the processor thread.
+ */
+public final class ModelAccess {
+
+    private ModelAccess() {
+    }
+
+    /**
+     * Creates a daemon thread that is not allowed to access the javac model.
+     *
+     * @param runnable the task of the thread
+     * @return a new thread
+     */
+    public static Thread newWorkerThread(Runnable runnable) {
+        Thread thread = new WorkerThread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Throws if the current thread is a worker thread.
+     */
+    public static void check() {
+        if (Thread.currentThread() instanceof WorkerThread) {
+            throw new IllegalStateException("javac model accessed from " + Thread.currentThread().getName());
+        }
+    }
+
+    private static final class WorkerThread extends Thread {
+
+        WorkerThread(Runnable runnable) {
+            super(runnable, "jbock-worker");
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package net.jbock.common;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects timings and counters of the annotation processor.
+ * This is only active if the processor option {@value #OPTION_STATS}
+ * is set to {@code true}, otherwise all methods are no-ops.
+ */
+public final class ProcessorStats {
+
+    public static final String OPTION_STATS = "jbock.stats";
+    public static final String OPTION_STATS_FILE = "jbock.statsFile";
+
+    private static final int SLOWEST_COMMANDS = 10;
+
+    public enum Phase {
+        COMMAND_STEP("CommandStep"),
+        METHOD_STEP("MethodStep"),
+        VALIDATION("CommandProcessor.generate"),
+        // nested in VALIDATION, so its time is also contained in the VALIDATION time
+        MAPPING("CommandProcessor.generate/MappingFinder"),
+        WRITING("ParserClass.define"),
+        FILE_WRITE("SourceFileGenerator.write");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<Phase, LongAdder> nanos = new EnumMap<>(Phase.class);
+    private final ConcurrentMap<String, Long> commandNanos = new ConcurrentHashMap<>();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder methods = new LongAdder();
+    private final LongAdder generatedBytes = new LongAdder();
+    private final LongAdder executableCacheHits = new LongAdder();
+    private final LongAdder mappingCacheHits = new LongAdder();
+
+    private ProcessorStats(boolean enabled) {
+        this.enabled = enabled;
+        for (Phase phase : Phase.values()) {
+            nanos.put(phase, new LongAdder());
+        }
+    }
+
+    public static ProcessorStats create(Map<String, String> options) {
+        return new ProcessorStats(Boolean.parseBoolean(options.get(OPTION_STATS)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns a timestamp, to be passed to {@link #stop(Phase, long)}.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void stop(Phase phase, long start) {
+        if (enabled) {
+            nanos.get(phase).add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the total processing time of a command.
+     *
+     * @param className the name of the command class
+     * @param start the result of {@link #start()}
+     */
+    public void commandDone(String className, long start) {
+        if (enabled) {
+            commands.increment();
+            commandNanos.merge(className, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    public void addMethods(int count) {
+        if (enabled) {
+            methods.add(count);
+        }
+    }
+
+    public void addGeneratedBytes(long count) {
+        if (enabled) {
+            generatedBytes.add(count);
+        }
+    }
+
+    /**
+     * Records that the validation of an inherited method was reused.
+     */
+    public void executableCacheHit() {
+        if (enabled) {
+            executableCacheHits.increment();
+        }
+    }
+
+    /**
+     * Records that the mapping of an inherited method was reused.
+     */
+    public void mappingCacheHit() {
+        if (enabled) {
+            mappingCacheHits.increment();
+        }
+    }
+
+    /**
+     * Returns a human-readable report.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder("jbock processor stats:");
+        for (Phase phase : Phase.values()) {
+            sb.append(System.lineSeparator())
+                    .append("  ").append(phase.label).append(": ")
+                    .append(millis(nanos.get(phase).sum())).append(" ms");
+        }
+        sb.append(System.lineSeparator()).append("  commands: ").append(commands.sum());
+        sb.append(System.lineSeparator()).append("  methods: ").append(methods.sum());
+        sb.append(System.lineSeparator()).append("  generated bytes: ").append(generatedBytes.sum());
+        sb.append(System.lineSeparator()).append("  executable cache hits: ").append(executableCacheHits.sum());
+        sb.append(System.lineSeparator()).append("  mapping cache hits: ").append(mappingCacheHits.sum());
+        List<Map.Entry<String, Long>> slowest = slowestCommands();
+        if (!slowest.isEmpty()) {
+            sb.append(System.lineSeparator()).append("  slowest commands:");
+        }
+        for (Map.Entry<String, Long> entry : slowest.subList(0, Math.min(SLOWEST_COMMANDS, slowest.size()))) {
+            sb.append(System.lineSeparator())
+                    .append("    ").append(entry.getKey()).append(": ")
+                    .append(millis(entry.getValue())).append(" ms");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the same data as {@link #summary()}, in JSON format.
+     * Times are in milliseconds, and all commands are listed.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\n  \"phases\": {");
+        Phase[] phases = Phase.values();
+        for (int i = 0; i < phases.length; i++) {
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    ").append(quote(phases[i].label)).append(": ")
+                    .append(millis(nanos.get(phases[i]).sum()));
+        }
+        sb.append("\n  },\n");
+        sb.append("  \"commands\": ").append(commands.sum()).append(",\n");
+        sb.append("  \"methods\": ").append(methods.sum()).append(",\n");
+        sb.append("  \"generatedBytes\": ").append(generatedBytes.sum()).append(",\n");
+        sb.append("  \"executableCacheHits\": ").append(executableCacheHits.sum()).append(",\n");
+        sb.append("  \"mappingCacheHits\": ").append(mappingCacheHits.sum()).append(",\n");
+        sb.append("  \"commandTimes\": {");
+        List<Map.Entry<String, Long>> slowest = slowestCommands();
+        for (int i = 0; i < slowest.size(); i++) {
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    ").append(quote(slowest.get(i).getKey())).append(": ")
+                    .append(millis(slowest.get(i).getValue()));
+        }
+        sb.append(slowest.isEmpty() ? "}\n" : "\n  }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private List<Map.Entry<String, Long>> slowestCommands() {
+        List<Map.Entry<String, Long>> result = new ArrayList<>(commandNanos.entrySet());
+        result.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        return result;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String quote(String s) {
+        return '"' + s.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -1,8 +1,12 @@
 package net.jbock.common;
 
+import io.jbock.auto.common.MoreElements;
+
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.Elements;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * A wrapper around {@link Elements} where none of the methods can return {@code null}.
@@ -18,4 +22,14 @@ public class SafeElements {
     public Optional<TypeElement> getTypeElement(String name) {
         return Optional.ofNullable(elements.getTypeElement(name));
     }
+
+    /**
+     * Returns the methods of {@code type}, including inherited methods,
+     * but not the methods that are overridden.
+     *
+     * @see MoreElements#getLocalAndInheritedMethods(TypeElement, javax.lang.model.util.Types, Elements)
+     */
+    public Set<ExecutableElement> getLocalAndInheritedMethods(TypeElement type, SafeTypes types) {
+        return MoreElements.getLocalAndInheritedMethods(type, types.types(), elements);
+    }
 }
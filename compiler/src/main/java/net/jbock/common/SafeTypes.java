@@ -38,4 +38,8 @@ public final class SafeTypes {
     public TypeMirror erasure(TypeMirror t) {
         return types.erasure(t);
     }
+
+    Types types() {
+        return types;
+    }
 }
@@ -11,6 +11,8 @@ import javax.lang.model.type.TypeVisitor;
 import javax.lang.model.util.SimpleAnnotationValueVisitor9;
 import javax.lang.model.util.SimpleElementVisitor9;
 import javax.lang.model.util.SimpleTypeVisitor9;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class TypeTool {
@@ -66,6 +68,12 @@ public class TypeTool {
 
     private final SafeElements elements;
 
+    // resolved types by canonical name, valid for the current round only
+    private final Map<String, Optional<TypeMirror>> typeCache = new HashMap<>();
+
+    // erasures by canonical name, valid for the current round only
+    private final Map<String, Optional<TypeMirror>> erasureCache = new HashMap<>();
+
     // visible for testing
     public TypeTool(SafeElements elements, SafeTypes types) {
         this.types = types;
@@ -83,12 +91,37 @@ public class TypeTool {
      * Works for classes with no type parameters.
      */
     public boolean isSameType(TypeMirror mirror, String canonicalName) {
-        return elements.getTypeElement(canonicalName)
-                .map(TypeElement::asType)
+        return getType(canonicalName)
                 .map(type -> types.isSameType(mirror, type))
                 .orElse(false);
     }
 
+    /**
+     * Checks if the erasure of {@code mirror} is the same
+     * as the erasure of {@code cl}.
+     */
+    public boolean isSameErasure(TypeMirror mirror, Class<?> cl) {
+        return erasureCache.computeIfAbsent(cl.getCanonicalName(),
+                        name -> getType(name).map(types::erasure))
+                .map(erasure -> types.isSameType(types.erasure(mirror), erasure))
+                .orElse(false);
+    }
+
+    /**
+     * Forgets all resolved types.
+     * Type mirrors should not be reused across processing rounds,
+     * so this should be invoked at the end of each round.
+     */
+    public void clearCache() {
+        typeCache.clear();
+        erasureCache.clear();
+    }
+
+    private Optional<TypeMirror> getType(String canonicalName) {
+        return typeCache.computeIfAbsent(canonicalName,
+                name -> elements.getTypeElement(name).map(TypeElement::asType));
+    }
+
     /**
      * {@code someClass} must be a class with exactly one type parameter.
      */
@@ -8,6 +8,8 @@ import net.jbock.common.Suppliers;
 import net.jbock.convert.match.Match;
 import net.jbock.model.Multiplicity;
 
+import javax.lang.model.type.TypeMirror;
+
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -54,6 +56,18 @@ public final class Mapping<M extends AnnotatedMethod> {
         return createConverterExpression;
     }
 
+    /**
+     * Returns the same mapping for a different source method,
+     * which must be based on the same executable element.
+     */
+    public <N extends AnnotatedMethod> Mapping<N> withSourceMethod(N sourceMethod) {
+        return new Mapping<>(createConverterExpression, match.withSourceMethod(sourceMethod), nullary);
+    }
+
+    public TypeMirror baseType() {
+        return match.baseType();
+    }
+
     public Optional<CodeBlock> extractExpr() {
         return match.extractExpr();
     }
@@ -0,0 +1,50 @@
+package net.jbock.convert;
+
+import io.jbock.util.Either;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import net.jbock.annotated.AnnotatedMethod;
+import net.jbock.common.ProcessorStats;
+import net.jbock.common.ValidationFailure;
+
+import javax.lang.model.element.ExecutableElement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the mappings of methods that are inherited from a base class or interface,
+ * so that the converters of a shared base type are only resolved once.
+ * The cache must be cleared after each round,
+ * because the elements are not valid across rounds.
+ */
+@Singleton
+public final class MappingCache {
+
+    private final Map<ExecutableElement, Either<ValidationFailure, Mapping<?>>> mappings = new HashMap<>();
+
+    private final ProcessorStats stats;
+
+    @Inject
+    MappingCache(ProcessorStats stats) {
+        this.stats = stats;
+    }
+
+    <M extends AnnotatedMethod> Either<ValidationFailure, Mapping<M>> get(
+            M sourceMethod,
+            Function<M, Either<ValidationFailure, Mapping<M>>> findMapping) {
+        Either<ValidationFailure, Mapping<?>> result = mappings.get(sourceMethod.method());
+        if (result == null) {
+            result = findMapping.apply(sourceMethod).map(mapping -> mapping);
+            mappings.put(sourceMethod.method(), result);
+        } else {
+            stats.mappingCacheHit();
+        }
+        // the enum name of the source method depends on the command
+        return result.map(mapping -> mapping.withSourceMethod(sourceMethod));
+    }
+
+    public void clear() {
+        mappings.clear();
+    }
+}
@@ -6,6 +6,7 @@ import io.jbock.util.Either;
 import jakarta.inject.Inject;
 import net.jbock.VarargsParameter;
 import net.jbock.annotated.AnnotatedMethod;
+import net.jbock.common.ProcessorStats;
 import net.jbock.common.Util;
 import net.jbock.common.ValidationFailure;
 import net.jbock.convert.map.AutoOrEnumMapper;
@@ -17,11 +18,13 @@ import net.jbock.processor.SourceElement;
 import net.jbock.util.StringConverter;
 import net.jbock.validate.ValidateScope;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import java.util.Optional;
 
 import static io.jbock.util.Either.right;
 import static javax.lang.model.element.Modifier.ABSTRACT;
+import static net.jbock.common.ProcessorStats.Phase.MAPPING;
 
 @ValidateScope
 public class MappingFinder {
@@ -31,6 +34,8 @@ public class MappingFinder {
     private final SourceElement sourceElement;
     private final Util util;
     private final MatchFinder matchFinder;
+    private final ProcessorStats stats;
+    private final MappingCache mappingCache;
 
     @Inject
     MappingFinder(
@@ -38,27 +43,49 @@ public class MappingFinder {
             Lazy<ConverterValidator> converterValidator,
             SourceElement sourceElement,
             Util util,
-            MatchFinder matchFinder) {
+            MatchFinder matchFinder,
+            ProcessorStats stats,
+            MappingCache mappingCache) {
         this.autoOrEnumMapper = autoOrEnumMapper;
         this.converterValidator = converterValidator;
         this.sourceElement = sourceElement;
         this.util = util;
         this.matchFinder = matchFinder;
+        this.stats = stats;
+        this.mappingCache = mappingCache;
     }
 
     public <M extends AnnotatedMethod>
     Either<ValidationFailure, Mapping<M>> findMapping(
             M sourceMethod) {
+        long start = stats.start();
+        Either<ValidationFailure, Mapping<M>> result = isInherited(sourceMethod) ?
+                mappingCache.get(sourceMethod, this::findMappingUncached) :
+                findMappingUncached(sourceMethod);
+        stats.stop(MAPPING, start);
+        return result;
+    }
+
+    private <M extends AnnotatedMethod>
+    Either<ValidationFailure, Mapping<M>> findMappingUncached(
+            M sourceMethod) {
         return matchFinder.findMatch(sourceMethod)
                 .flatMap(this::findMappingWithMatch);
     }
 
+    private boolean isInherited(AnnotatedMethod sourceMethod) {
+        return !sourceMethod.method().getEnclosingElement().equals(sourceElement.element());
+    }
+
     public <M extends AnnotatedMethod>
     Either<ValidationFailure, Mapping<M>> findNullaryMapping(
             M sourceMethod) {
-        return matchFinder.createNullaryMatch(sourceMethod)
+        long start = stats.start();
+        Either<ValidationFailure, Mapping<M>> result = matchFinder.createNullaryMatch(sourceMethod)
                 .map(match -> Mapping.create(
                         CodeBlock.of("$T.identity())", StringConverter.class), match, true));
+        stats.stop(MAPPING, start);
+        return result;
     }
 
     private <M extends AnnotatedMethod>
@@ -78,17 +105,21 @@ public class MappingFinder {
     }
 
     /* Left-Optional
+     * The converter of an inherited method must be nested in the class that declares the method.
+     * This way, the mapping does not depend on the command.
      */
     private <M extends AnnotatedMethod>
     Optional<ValidationFailure> checkConverterIsInnerClass(
             M sourceMethod,
             TypeElement converter) {
-        boolean nested = util.getEnclosingElements(converter).contains(sourceElement.element());
+        Element declaringType = sourceMethod.method().getEnclosingElement();
+        boolean nested = util.getEnclosingElements(converter).contains(declaringType);
         if (!nested) {
             return Optional.of(sourceMethod.fail("converter of '" +
                     sourceMethod.methodName() +
-                    "' must be an inner class of the command class '" +
-                    sourceElement.element().getSimpleName() + "'"));
+                    "' must be an inner class of the " +
+                    (isInherited(sourceMethod) ? "class" : "command class") + " '" +
+                    declaringType.getSimpleName() + "'"));
         }
         return Optional.empty();
     }
@@ -3,58 +3,56 @@ package net.jbock.convert.map;
 import io.jbock.javapoet.CodeBlock;
 import jakarta.inject.Inject;
 import net.jbock.annotated.AnnotatedMethod;
-import net.jbock.common.TypeTool;
 import net.jbock.contrib.StandardConverters;
 import net.jbock.convert.Mapping;
 import net.jbock.convert.match.Match;
 import net.jbock.validate.ValidateScope;
 
-import javax.lang.model.type.TypeMirror;
+import javax.lang.model.element.TypeElement;
 import java.io.File;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
+import static net.jbock.common.TypeTool.AS_DECLARED;
+import static net.jbock.common.TypeTool.AS_TYPE_ELEMENT;
+
 @ValidateScope
 class AutoMappings {
 
-    private final TypeTool tool;
-    private final List<AutoMapping> mappings;
+    // auto mappings by qualified name of the base type
+    private static final Map<String, AutoMapping> MAPPINGS = autoMappings();
 
     @Inject
-    AutoMappings(TypeTool tool) {
-        this.tool = tool;
-        this.mappings = autoMappings();
+    AutoMappings() {
     }
 
     <M extends AnnotatedMethod>
     Optional<Mapping<M>> findAutoMapping(
             Match<M> match) {
-        TypeMirror baseType = match.baseType();
-        for (AutoMapping conversion : mappings) {
-            if (tool.isSameType(baseType, conversion.qualifiedName)) {
-                Mapping<M> mapping = Mapping.create(conversion.createConverterExpression, match);
-                return Optional.of(mapping);
-            }
-        }
-        return Optional.empty();
+        return AS_DECLARED.visit(match.baseType())
+                .filter(declaredType -> declaredType.getTypeArguments().isEmpty())
+                .flatMap(declaredType -> AS_TYPE_ELEMENT.visit(declaredType.asElement()))
+                .map(TypeElement::getQualifiedName)
+                .map(qualifiedName -> MAPPINGS.get(qualifiedName.toString()))
+                .map(conversion -> Mapping.create(conversion.createConverterExpression, match));
     }
 
-    private static AutoMapping create(
+    private static Map.Entry<String, AutoMapping> create(
             Class<?> autoType,
             String methodName) {
         String canonicalName = autoType.getCanonicalName();
         CodeBlock createConverterExpression = CodeBlock.of("$T.$L()", StandardConverters.class, methodName);
-        return new AutoMapping(canonicalName, createConverterExpression);
+        return Map.entry(canonicalName, new AutoMapping(createConverterExpression));
     }
 
-    private static List<AutoMapping> autoMappings() {
-        return List.of(
+    private static Map<String, AutoMapping> autoMappings() {
+        return Map.ofEntries(
                 create(String.class, "asString"),
                 create(Integer.class, "asInteger"),
                 create(Path.class, "asPath"),
@@ -73,11 +71,9 @@ class AutoMappings {
     }
 
     private static final class AutoMapping {
-        final String qualifiedName;
         final CodeBlock createConverterExpression;
 
-        AutoMapping(String qualifiedName, CodeBlock createConverterExpression) {
-            this.qualifiedName = qualifiedName;
+        AutoMapping(CodeBlock createConverterExpression) {
             this.createConverterExpression = createConverterExpression;
         }
     }
@@ -4,6 +4,7 @@ import io.jbock.javapoet.CodeBlock;
 import io.jbock.util.Either;
 import jakarta.inject.Inject;
 import net.jbock.annotated.AnnotatedMethod;
+import net.jbock.common.GeneratorOptions;
 import net.jbock.common.TypeTool;
 import net.jbock.common.Util;
 import net.jbock.common.ValidationFailure;
@@ -24,11 +25,14 @@ import static io.jbock.util.Either.left;
 public class AutoOrEnumMapper {
 
     private final AutoMappings autoMappings;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     AutoOrEnumMapper(
-            AutoMappings autoMappings) {
+            AutoMappings autoMappings,
+            GeneratorOptions generatorOptions) {
         this.autoMappings = autoMappings;
+        this.generatorOptions = generatorOptions;
     }
 
     public <M extends AnnotatedMethod>
@@ -48,8 +52,11 @@ public class AutoOrEnumMapper {
                 .flatMap(TypeTool.AS_TYPE_ELEMENT::visit)
                 .filter(element -> element.getKind() == ElementKind.ENUM)
                 .map(enumType -> {
-                    CodeBlock mapper = CodeBlock.of("$1T.create($2T::valueOf, $2T::values)",
-                            EnumConverter.class, enumType.asType());
+                    CodeBlock mapper = generatorOptions.lambdaFree() ?
+                            CodeBlock.of("$1T.create($2T.values())",
+                                    EnumConverter.class, enumType.asType()) :
+                            CodeBlock.of("$1T.create($2T::valueOf, $2T::values)",
+                                    EnumConverter.class, enumType.asType());
                     return Mapping.create(mapper, match);
                 });
     }
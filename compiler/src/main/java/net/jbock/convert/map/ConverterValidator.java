@@ -3,8 +3,7 @@ package net.jbock.convert.map;
 import io.jbock.util.Either;
 import jakarta.inject.Inject;
 import net.jbock.annotated.AnnotatedMethod;
-import net.jbock.common.SafeElements;
-import net.jbock.common.SafeTypes;
+import net.jbock.common.TypeTool;
 import net.jbock.common.ValidationFailure;
 import net.jbock.convert.Mapping;
 import net.jbock.convert.match.Match;
@@ -24,17 +23,14 @@ import static net.jbock.common.TypeTool.AS_DECLARED;
 @ValidateScope
 public class ConverterValidator {
 
-    private final SafeTypes types;
-    private final SafeElements elements;
+    private final TypeTool tool;
     private final MappingFactory.Factory mappingFactoryFactory;
 
     @Inject
     ConverterValidator(
-            SafeTypes types,
-            SafeElements elements,
+            TypeTool tool,
             MappingFactory.Factory mappingFactoryFactory) {
-        this.types = types;
-        this.elements = elements;
+        this.tool = tool;
         this.mappingFactoryFactory = mappingFactoryFactory;
     }
 
@@ -65,7 +61,7 @@ public class ConverterValidator {
     Optional<Either<ValidationFailure, MappingFactory>> checkSuppliedConverter(
             TypeElement converter, Match<M> match) {
         return converter.getInterfaces().stream()
-                .filter(inter -> isSameErasure(inter, Supplier.class))
+                .filter(inter -> tool.isSameErasure(inter, Supplier.class))
                 .map(AS_DECLARED::visit)
                 .flatMap(Optional::stream)
                 .findFirst()
@@ -81,7 +77,7 @@ public class ConverterValidator {
             return left(match.fail(converterRawType(supplierType)));
         }
         return AS_DECLARED.visit(supplierType.getTypeArguments().get(0))
-                .filter(typeArgument -> isSameErasure(typeArgument, StringConverter.class))
+                .filter(typeArgument -> tool.isSameErasure(typeArgument, StringConverter.class))
                 .<Either<ValidationFailure, DeclaredType>>map(Either::right)
                 .orElseGet(() -> left(match.fail(errorConverterType())))
                 .flatMap(suppliedType -> handleConverter(converter, match, suppliedType, true));
@@ -91,19 +87,12 @@ public class ConverterValidator {
     Optional<Either<ValidationFailure, MappingFactory>> checkDirectConverter(
             TypeElement converter, Match<M> match) {
         return Optional.of(converter.getSuperclass())
-                .filter(inter -> isSameErasure(inter, StringConverter.class))
+                .filter(inter -> tool.isSameErasure(inter, StringConverter.class))
                 .flatMap(AS_DECLARED::visit)
                 .map(converterType ->
                         handleConverter(converter, match, converterType, false));
     }
 
-    private boolean isSameErasure(TypeMirror x, Class<?> y) {
-        return elements.getTypeElement(y.getCanonicalName())
-                .map(TypeElement::asType)
-                .map(type -> types.isSameType(types.erasure(x), types.erasure(type)))
-                .orElse(false);
-    }
-
     private String errorConverterType() {
         return "invalid converter class: converter must extend " + StringConverter.class.getSimpleName() +
                 "<X> or implement " + Supplier.class.getSimpleName() +
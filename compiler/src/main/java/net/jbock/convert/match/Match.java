@@ -2,6 +2,7 @@ package net.jbock.convert.match;
 
 import io.jbock.javapoet.CodeBlock;
 import net.jbock.annotated.AnnotatedMethod;
+import net.jbock.common.ModelAccess;
 import net.jbock.common.ValidationFailure;
 import net.jbock.model.Multiplicity;
 
@@ -49,6 +50,7 @@ public final class Match<M extends AnnotatedMethod> {
     }
 
     public TypeMirror baseType() {
+        ModelAccess.check();
         return baseType;
     }
 
@@ -67,4 +69,12 @@ public final class Match<M extends AnnotatedMethod> {
     public Optional<CodeBlock> extractExpr() {
         return extractExpr;
     }
+
+    /**
+     * Returns the same match for a different source method,
+     * which must be based on the same executable element.
+     */
+    public <N extends AnnotatedMethod> Match<N> withSourceMethod(N sourceMethod) {
+        return new Match<>(baseType, multiplicity, extractExpr, sourceMethod);
+    }
 }
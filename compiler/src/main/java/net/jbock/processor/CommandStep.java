@@ -7,25 +7,40 @@ import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import net.jbock.Command;
 import net.jbock.SuperCommand;
+import net.jbock.common.GeneratorOptions;
+import net.jbock.common.ModelAccess;
+import net.jbock.common.ProcessorStats;
 import net.jbock.common.Util;
 import net.jbock.common.ValidationFailure;
 import net.jbock.validate.CommandProcessor;
 import net.jbock.validate.ValidateComponent;
+import net.jbock.writing.CommandRepresentation;
 import net.jbock.writing.ContextComponent;
+import net.jbock.writing.ReachabilityMetadata;
 
 import javax.annotation.processing.Messager;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static io.jbock.auto.common.BasicAnnotationProcessor.Step;
 import static io.jbock.util.Either.right;
 import static java.util.stream.Collectors.toSet;
 import static net.jbock.common.Annotations.typeLevelAnnotations;
+import static net.jbock.common.ProcessorStats.Phase.COMMAND_STEP;
+import static net.jbock.common.ProcessorStats.Phase.VALIDATION;
+import static net.jbock.common.ProcessorStats.Phase.WRITING;
 import static net.jbock.common.Util.checkNoDuplicateAnnotations;
 
 /**
@@ -39,6 +54,8 @@ class CommandStep implements Step {
     private final SourceFileGenerator sourceFileGenerator;
     private final Provider<ValidateComponent.Builder> validateComponentProvider;
     private final Provider<ContextComponent.Factory> contextComponentProvider;
+    private final ProcessorStats stats;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     CommandStep(
@@ -46,12 +63,16 @@ class CommandStep implements Step {
             Util util,
             SourceFileGenerator sourceFileGenerator,
             Provider<ValidateComponent.Builder> validateComponentProvider,
-            Provider<ContextComponent.Factory> contextComponentProvider) {
+            Provider<ContextComponent.Factory> contextComponentProvider,
+            ProcessorStats stats,
+            GeneratorOptions generatorOptions) {
         this.messager = messager;
         this.util = util;
         this.sourceFileGenerator = sourceFileGenerator;
         this.validateComponentProvider = validateComponentProvider;
         this.contextComponentProvider = contextComponentProvider;
+        this.stats = stats;
+        this.generatorOptions = generatorOptions;
     }
 
     @Override
@@ -63,27 +84,117 @@ class CommandStep implements Step {
 
     @Override
     public Set<? extends Element> process(Map<String, Set<Element>> elementsByAnnotation) {
+        long start = stats.start();
         List<Element> elements = elementsByAnnotation.values().stream()
                 .flatMap(Set::stream)
                 .collect(Collectors.toList());
-        ElementFilter.typesIn(elements)
-                .forEach(element ->
-                        validateSourceElement(element).ifLeftOrElse(
-                                this::printFailures,
-                                this::processSourceElement));
+        List<TypeElement> types = ElementFilter.typesIn(elements);
+        if (generatorOptions.parallelism() > 1 && types.size() > 1) {
+            processInParallel(types);
+        } else {
+            types.forEach(element ->
+                    validateSourceElement(element).ifLeftOrElse(
+                            this::printFailures,
+                            this::processSourceElement));
+        }
+        stats.stop(COMMAND_STEP, start);
         return Set.of();
     }
 
+    /*
+     * Validation and file writing use the javac model or the Filer, so they happen on this thread.
+     * Only the TypeSpecs are built on the pool. The files are written in the original order.
+     */
+    private void processInParallel(List<TypeElement> types) {
+        List<Job> jobs = new ArrayList<>(types.size());
+        for (TypeElement element : types) {
+            validateSourceElement(element).ifLeftOrElse(
+                    this::printFailures,
+                    sourceElement -> validate(sourceElement).ifPresent(jobs::add));
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(
+                Math.min(generatorOptions.parallelism(), jobs.size()), ModelAccess::newWorkerThread);
+        try {
+            List<Future<TypeSpec>> typeSpecs = new ArrayList<>(jobs.size());
+            for (Job job : jobs) {
+                typeSpecs.add(pool.submit(() -> define(job.component)));
+            }
+            for (int i = 0; i < jobs.size(); i++) {
+                Job job = jobs.get(i);
+                writeSpec(job.sourceElement, getResult(typeSpecs.get(i)));
+                writeMetadata(job.sourceElement, job.component);
+                stats.commandDone(job.sourceElement.element().getQualifiedName().toString(), job.start);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Optional<Job> validate(SourceElement sourceElement) {
+        long start = stats.start();
+        CommandProcessor processor = validateComponentProvider.get()
+                .sourceElement(sourceElement)
+                .build()
+                .processor();
+        long validationStart = stats.start();
+        Either<List<ValidationFailure>, CommandRepresentation> result = processor.generate();
+        stats.stop(VALIDATION, validationStart);
+        if (result.isLeft()) {
+            result.getLeft().ifPresent(this::printFailures);
+            stats.commandDone(sourceElement.element().getQualifiedName().toString(), start);
+            return Optional.empty();
+        }
+        CommandRepresentation commandRepresentation = result.getRight().orElseThrow();
+        commandRepresentation.preResolve();
+        ContextComponent component = contextComponentProvider.get().create(commandRepresentation);
+        return Optional.of(new Job(sourceElement, component, start));
+    }
+
+    private static TypeSpec getResult(Future<TypeSpec> typeSpec) {
+        try {
+            return typeSpec.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     private void processSourceElement(SourceElement sourceElement) {
+        long start = stats.start();
         CommandProcessor processor = validateComponentProvider.get()
                 .sourceElement(sourceElement)
                 .build()
                 .processor();
-        processor.generate()
-                .map(commandRepresentation -> contextComponentProvider.get().create(commandRepresentation))
+        long validationStart = stats.start();
+        Either<List<ValidationFailure>, CommandRepresentation> result = processor.generate();
+        stats.stop(VALIDATION, validationStart);
+        result.map(commandRepresentation -> contextComponentProvider.get().create(commandRepresentation))
                 .ifLeftOrElse(
                         this::printFailures,
-                        component -> writeSpec(sourceElement, component.parserClass().define()));
+                        component -> {
+                            writeSpec(sourceElement, define(component));
+                            writeMetadata(sourceElement, component);
+                        });
+        stats.commandDone(sourceElement.element().getQualifiedName().toString(), start);
+    }
+
+    private TypeSpec define(ContextComponent component) {
+        long start = stats.start();
+        TypeSpec typeSpec = component.parserClass().define();
+        stats.stop(WRITING, start);
+        return typeSpec;
     }
 
     private void writeSpec(SourceElement sourceElement, TypeSpec typeSpec) {
@@ -97,6 +208,12 @@ class CommandStep implements Step {
         sourceFileGenerator.write(sourceElement, javaFile);
     }
 
+    private void writeMetadata(SourceElement sourceElement, ContextComponent component) {
+        ReachabilityMetadata metadata = component.reachabilityMetadata();
+        metadata.content().ifPresent(content -> metadata.path().ifPresent(path ->
+                sourceFileGenerator.writeResource(sourceElement, path, content)));
+    }
+
     private Either<List<ValidationFailure>, SourceElement> validateSourceElement(
             TypeElement element) {
         return util.commonTypeChecks(element)
@@ -104,7 +221,47 @@ class CommandStep implements Step {
                 .<Either<List<ValidationFailure>, SourceElement>>map(Either::left)
                 .orElseGet(() -> right(SourceElement.create(element)))
                 .filter(sourceElement -> checkNoDuplicateAnnotations(
-                        sourceElement.element(), typeLevelAnnotations()).map(List::of));
+                        sourceElement.element(), typeLevelAnnotations()).map(List::of))
+                .filter(this::checkSubcommands);
+    }
+
+    /*
+     * Reads the subcommand table on this thread,
+     * because the javac model is not used by the writing phase.
+     */
+    private Optional<List<ValidationFailure>> checkSubcommands(SourceElement sourceElement) {
+        List<ValidationFailure> failures = new ArrayList<>();
+        for (TypeElement subcommand : sourceElement.subcommandTypes()) {
+            String name = subcommand.getSimpleName().toString();
+            if (subcommand.equals(sourceElement.element())) {
+                failures.add(sourceElement.fail("invalid subcommand: " +
+                        "a command can not be its own subcommand"));
+            } else if (subcommand.getAnnotation(Command.class) == null
+                    && subcommand.getAnnotation(SuperCommand.class) == null) {
+                failures.add(sourceElement.fail("invalid subcommand: class '" + name +
+                        "' must be annotated with " + Command.class.getCanonicalName()));
+            } else if (!isParserAccessible(sourceElement, subcommand)) {
+                failures.add(sourceElement.fail("invalid subcommand: class '" + name +
+                        "' must be in the same package, or have a public parser"));
+            }
+        }
+        if (!failures.isEmpty()) {
+            return Optional.of(failures);
+        }
+        Set<String> names = new HashSet<>();
+        for (SubcommandElement subcommand : sourceElement.subcommands()) {
+            if (!names.add(subcommand.name())) {
+                failures.add(sourceElement.fail("duplicate subcommand name: " + subcommand.name()));
+            }
+        }
+        return failures.isEmpty() ? Optional.empty() : Optional.of(failures);
+    }
+
+    private boolean isParserAccessible(SourceElement sourceElement, TypeElement subcommand) {
+        SourceElement subcommandElement = SourceElement.create(subcommand);
+        return !subcommandElement.accessModifiers().isEmpty() ||
+                subcommandElement.generatedClass().packageName()
+                        .equals(sourceElement.generatedClass().packageName());
     }
 
     private void printFailures(List<ValidationFailure> failures) {
@@ -112,4 +269,17 @@ class CommandStep implements Step {
             failure.writeTo(messager);
         }
     }
+
+    private static final class Job {
+
+        final SourceElement sourceElement;
+        final ContextComponent component;
+        final long start;
+
+        Job(SourceElement sourceElement, ContextComponent component, long start) {
+            this.sourceElement = sourceElement;
+            this.component = component;
+            this.start = start;
+        }
+    }
 }
@@ -2,8 +2,16 @@ package net.jbock.processor;
 
 import io.jbock.auto.common.BasicAnnotationProcessor;
 
+import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import java.util.List;
+import java.util.Set;
+
+import static net.jbock.common.GeneratorOptions.OPTION_LAMBDA_FREE;
+import static net.jbock.common.GeneratorOptions.OPTION_NATIVE_IMAGE;
+import static net.jbock.common.GeneratorOptions.OPTION_PARALLELISM;
+import static net.jbock.common.ProcessorStats.OPTION_STATS;
+import static net.jbock.common.ProcessorStats.OPTION_STATS_FILE;
 
 /**
  * This is the jbock annotation processor.
@@ -11,14 +19,31 @@ import java.util.List;
  */
 public final class JbockProcessor extends BasicAnnotationProcessor {
 
+    private ProcessorComponent component;
+
     @Override
     protected List<Step> steps() {
-        ProcessorComponent component = ProcessorComponent.create(processingEnv);
+        component = ProcessorComponent.create(processingEnv);
         return List.of(
                 component.commandStep(),
                 component.methodStep());
     }
 
+    @Override
+    protected void postRound(RoundEnvironment roundEnv) {
+        component.tool().clearCache();
+        component.executableCache().clear();
+        component.mappingCache().clear();
+        if (roundEnv.processingOver()) {
+            component.statsReporter().report();
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(OPTION_STATS, OPTION_STATS_FILE, OPTION_LAMBDA_FREE, OPTION_NATIVE_IMAGE, OPTION_PARALLELISM);
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
@@ -4,6 +4,7 @@ import io.jbock.auto.common.BasicAnnotationProcessor.Step;
 import jakarta.inject.Inject;
 import net.jbock.Command;
 import net.jbock.SuperCommand;
+import net.jbock.common.ProcessorStats;
 import net.jbock.common.Util;
 import net.jbock.common.ValidationFailure;
 
@@ -14,6 +15,7 @@ import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.TypeKind;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -23,6 +25,7 @@ import static java.util.stream.Collectors.toSet;
 import static javax.lang.model.element.Modifier.ABSTRACT;
 import static javax.lang.model.util.ElementFilter.methodsIn;
 import static net.jbock.common.Annotations.methodLevelAnnotations;
+import static net.jbock.common.ProcessorStats.Phase.METHOD_STEP;
 
 class MethodStep implements Step {
 
@@ -36,11 +39,13 @@ class MethodStep implements Step {
 
     private final Messager messager;
     private final Util util;
+    private final ProcessorStats stats;
 
     @Inject
-    MethodStep(Messager messager, Util util) {
+    MethodStep(Messager messager, Util util, ProcessorStats stats) {
         this.messager = messager;
         this.util = util;
+        this.stats = stats;
     }
 
     @Override
@@ -52,10 +57,13 @@ class MethodStep implements Step {
 
     @Override
     public Set<? extends Element> process(Map<String, Set<Element>> elementsByAnnotation) {
+        long start = stats.start();
         List<Element> elements = elementsByAnnotation.values().stream()
                 .flatMap(Set::stream)
                 .collect(Collectors.toList());
-        for (ExecutableElement method : methodsIn(elements)) {
+        List<ExecutableElement> methods = methodsIn(elements);
+        stats.addMethods(methods.size());
+        for (ExecutableElement method : methods) {
             validateCommandAnnotationPresent(method)
                     .or(() -> validateAbstract(method))
                     .or(() -> validateTypeParameters(method))
@@ -63,19 +71,26 @@ class MethodStep implements Step {
                     .or(() -> util.checkExceptionsInDeclaration(method))
                     .ifPresent(failure -> failure.writeTo(messager));
         }
+        stats.stop(METHOD_STEP, start);
         return Set.of();
     }
 
+    /* Annotated methods may also be declared in a base type of the command,
+     * which is an unannotated abstract class or interface.
+     */
     private Optional<ValidationFailure> validateCommandAnnotationPresent(ExecutableElement method) {
         Element enclosingElement = method.getEnclosingElement();
         if (enclosingElement.getAnnotation(Command.class) != null
                 || enclosingElement.getAnnotation(SuperCommand.class) != null) {
             return Optional.empty();
         }
-        String enclosingElementKind = enclosingElement.getKind() == ElementKind.INTERFACE ?
-                "interface" : "abstract class";
+        if (enclosingElement.getKind() == ElementKind.INTERFACE
+                || (enclosingElement.getKind() == ElementKind.CLASS
+                && enclosingElement.getModifiers().contains(ABSTRACT))) {
+            return Optional.empty();
+        }
         return Optional.of(new ValidationFailure("missing command annotation: " +
-                enclosingElementKind + " '" + enclosingElement.getSimpleName() +
+                enclosingElement.getKind().name().toLowerCase(Locale.ROOT) + " '" + enclosingElement.getSimpleName() +
                 "' must be annotated with " + Command.class.getCanonicalName() + " or " + SuperCommand.class.getCanonicalName(),
                 enclosingElement));
     }
@@ -2,12 +2,25 @@ package net.jbock.processor;
 
 import dagger.BindsInstance;
 import dagger.Component;
+import jakarta.inject.Singleton;
+import net.jbock.annotated.ExecutableCache;
+import net.jbock.common.TypeTool;
+import net.jbock.convert.MappingCache;
 
 import javax.annotation.processing.ProcessingEnvironment;
 
+@Singleton
 @Component(modules = ProcessorModule.class)
 interface ProcessorComponent {
 
+    TypeTool tool();
+
+    ExecutableCache executableCache();
+
+    MappingCache mappingCache();
+
+    StatsReporter statsReporter();
+
     MethodStep methodStep();
 
     CommandStep commandStep();
@@ -3,6 +3,9 @@ package net.jbock.processor;
 import dagger.Module;
 import dagger.Provides;
 import dagger.Reusable;
+import jakarta.inject.Singleton;
+import net.jbock.common.GeneratorOptions;
+import net.jbock.common.ProcessorStats;
 import net.jbock.common.SafeElements;
 import net.jbock.common.SafeTypes;
 import net.jbock.common.TypeTool;
@@ -39,8 +42,20 @@ interface ProcessorModule {
     }
 
     @Provides
-    @Reusable
+    @Singleton
     static TypeTool tool(SafeElements elements, SafeTypes types) {
         return new TypeTool(elements, types);
     }
+
+    @Provides
+    @Singleton
+    static ProcessorStats stats(ProcessingEnvironment processingEnvironment) {
+        return ProcessorStats.create(processingEnvironment.getOptions());
+    }
+
+    @Provides
+    @Singleton
+    static GeneratorOptions generatorOptions(ProcessingEnvironment processingEnvironment) {
+        return GeneratorOptions.create(processingEnvironment.getOptions());
+    }
 }
@@ -4,20 +4,27 @@ import io.jbock.javapoet.ClassName;
 import io.jbock.javapoet.TypeName;
 import net.jbock.Command;
 import net.jbock.SuperCommand;
+import net.jbock.common.ModelAccess;
 import net.jbock.common.SnakeName;
+import net.jbock.common.Suppliers;
 import net.jbock.common.ValidationFailure;
 
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static net.jbock.common.Constants.optionalString;
 
 public class SourceElement {
 
     private final TypeElement sourceElement;
+    private final String simpleName;
+    private final boolean isInterface;
     private final List<Modifier> accessModifiers;
     private final String programName;
     private final ClassName generatedClass;
@@ -26,6 +33,7 @@ public class SourceElement {
     private final boolean skipGeneratingParseOrExitMethod;
     private final List<String> description;
     private final boolean superCommand;
+    private final List<TypeElement> subcommandTypes;
 
     private SourceElement(
             TypeElement sourceElement,
@@ -36,8 +44,11 @@ public class SourceElement {
             String descriptionKey,
             boolean skipGeneratingParseOrExitMethod,
             List<String> description,
-            boolean superCommand) {
+            boolean superCommand,
+            List<TypeElement> subcommandTypes) {
         this.sourceElement = sourceElement;
+        this.simpleName = sourceElement.getSimpleName().toString();
+        this.isInterface = sourceElement.getKind() == ElementKind.INTERFACE;
         this.accessModifiers = accessModifiers;
         this.programName = programName;
         this.generatedClass = generatedClass;
@@ -46,6 +57,7 @@ public class SourceElement {
         this.skipGeneratingParseOrExitMethod = skipGeneratingParseOrExitMethod;
         this.description = description;
         this.superCommand = superCommand;
+        this.subcommandTypes = subcommandTypes;
     }
 
     static SourceElement create(TypeElement typeElement) {
@@ -63,9 +75,11 @@ public class SourceElement {
         boolean skipGeneratingParseOrExitMethod = isSkipGeneratingParseOrExitMethod(typeElement);
         List<String> description = List.of(getDescription(typeElement));
         boolean superCommand = isSuperCommand(typeElement);
+        List<TypeElement> subcommandTypes = List.copyOf(SubcommandElement.findSubcommandTypes(typeElement));
         return new SourceElement(typeElement, accessModifiers,
                 programName, generatedClass, optionEnumType,
-                descriptionKey, skipGeneratingParseOrExitMethod, description, superCommand);
+                descriptionKey, skipGeneratingParseOrExitMethod, description, superCommand,
+                subcommandTypes);
     }
 
     private static String getDescriptionKey(TypeElement typeElement) {
@@ -117,11 +131,28 @@ public class SourceElement {
     }
 
     public TypeElement element() {
+        ModelAccess.check();
         return sourceElement;
     }
 
+    /**
+     * Returns the element for {@code TypeSpec.Builder.addOriginatingElement},
+     * which only stores the reference.
+     * Unlike {@link #element()}, this may be invoked on a worker thread.
+     */
+    public TypeElement originatingElement() {
+        return sourceElement;
+    }
+
+    public String simpleName() {
+        return simpleName;
+    }
+
+    private final Supplier<TypeName> typeName = Suppliers.memoize(() ->
+            TypeName.get(element().asType()));
+
     public TypeName typeName() {
-        return TypeName.get(sourceElement.asType());
+        return typeName.get();
     }
 
     public ValidationFailure fail(String message) {
@@ -145,7 +176,7 @@ public class SourceElement {
     }
 
     public boolean isInterface() {
-        return sourceElement.getKind() == ElementKind.INTERFACE;
+        return isInterface;
     }
 
     public String programName() {
@@ -163,4 +194,28 @@ public class SourceElement {
     public boolean skipGeneratingParseOrExitMethod() {
         return skipGeneratingParseOrExitMethod;
     }
+
+    /**
+     * Returns the classes from the {@link SuperCommand#subcommands()} attribute.
+     * These are not validated yet.
+     */
+    List<TypeElement> subcommandTypes() {
+        return subcommandTypes;
+    }
+
+    private final Supplier<List<SubcommandElement>> subcommands = Suppliers.memoize(() -> {
+        List<SubcommandElement> result = new ArrayList<>(subcommandTypes().size());
+        for (TypeElement subcommandType : subcommandTypes()) {
+            result.add(SubcommandElement.create(subcommandType));
+        }
+        result.sort(Comparator.comparing(SubcommandElement::name));
+        return List.copyOf(result);
+    });
+
+    /**
+     * Returns the subcommands, sorted by name.
+     */
+    public List<SubcommandElement> subcommands() {
+        return subcommands.get();
+    }
 }
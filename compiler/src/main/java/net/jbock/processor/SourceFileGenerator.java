@@ -3,35 +3,131 @@ package net.jbock.processor;
 import dagger.Reusable;
 import io.jbock.javapoet.JavaFile;
 import jakarta.inject.Inject;
+import net.jbock.common.ProcessorStats;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 
 import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static net.jbock.common.ProcessorStats.Phase.FILE_WRITE;
 
 @Reusable
 class SourceFileGenerator {
 
     private final Filer filer;
     private final Messager messager;
+    private final ProcessorStats stats;
 
     @Inject
-    SourceFileGenerator(Filer filer, Messager messager) {
+    SourceFileGenerator(Filer filer, Messager messager, ProcessorStats stats) {
         this.filer = filer;
         this.messager = messager;
+        this.stats = stats;
     }
 
     void write(SourceElement sourceElement, JavaFile javaFile) {
         try {
-            javaFile.writeTo(filer);
+            long start = stats.start();
+            if (stats.isEnabled()) {
+                writeCounting(javaFile);
+            } else {
+                javaFile.writeTo(filer);
+            }
+            stats.stop(FILE_WRITE, start);
         } catch (IOException e) {
-            StringWriter sw = new StringWriter();
-            e.printStackTrace(new PrintWriter(sw));
-            String stack = sw.toString();
-            messager.printMessage(ERROR, stack, sourceElement.element());
+            printError(sourceElement, e);
+        }
+    }
+
+    void writeResource(SourceElement sourceElement, String path, String content) {
+        try {
+            long start = stats.start();
+            FileObject resource = filer.createResource(CLASS_OUTPUT, "", path, sourceElement.element());
+            try (CountingWriter writer = new CountingWriter(resource.openWriter())) {
+                writer.write(content);
+                stats.addGeneratedBytes(writer.bytes);
+            }
+            stats.stop(FILE_WRITE, start);
+        } catch (IOException e) {
+            printError(sourceElement, e);
+        }
+    }
+
+    /* Same as JavaFile.writeTo(Filer), but counts the bytes while writing. */
+    private void writeCounting(JavaFile javaFile) throws IOException {
+        String fileName = javaFile.packageName.isEmpty() ?
+                javaFile.typeSpec.name :
+                javaFile.packageName + "." + javaFile.typeSpec.name;
+        JavaFileObject sourceFile = filer.createSourceFile(fileName,
+                javaFile.typeSpec.originatingElements.toArray(new Element[0]));
+        try (CountingWriter writer = new CountingWriter(sourceFile.openWriter())) {
+            javaFile.writeTo(writer);
+            stats.addGeneratedBytes(writer.bytes);
+        } catch (IOException | RuntimeException e) {
+            try {
+                sourceFile.delete();
+            } catch (RuntimeException ignored) {
+            }
+            throw e;
+        }
+    }
+
+    private void printError(SourceElement sourceElement, IOException e) {
+        StringWriter sw = new StringWriter();
+        e.printStackTrace(new PrintWriter(sw));
+        String stack = sw.toString();
+        messager.printMessage(ERROR, stack, sourceElement.element());
+    }
+
+    /* Counts the UTF-8 encoded length of the characters that are written. */
+    private static final class CountingWriter extends FilterWriter {
+
+        long bytes;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            bytes += utf8Length((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(cbuf[i]);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(str.charAt(i));
+            }
+        }
+
+        // a surrogate pair is encoded in four bytes, so each half counts as two
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            }
+            if (c < 0x800 || Character.isSurrogate(c)) {
+                return 2;
+            }
+            return 3;
         }
     }
 }
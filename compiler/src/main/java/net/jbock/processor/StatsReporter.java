@@ -0,0 +1,58 @@
+package net.jbock.processor;
+
+import jakarta.inject.Inject;
+import net.jbock.common.ProcessorStats;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.Writer;
+
+import static javax.tools.Diagnostic.Kind.NOTE;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static net.jbock.common.ProcessorStats.OPTION_STATS_FILE;
+
+/**
+ * Reports the {@link ProcessorStats} at the end of processing.
+ */
+class StatsReporter {
+
+    private final ProcessorStats stats;
+    private final Messager messager;
+    private final Filer filer;
+    private final ProcessingEnvironment processingEnvironment;
+
+    @Inject
+    StatsReporter(
+            ProcessorStats stats,
+            Messager messager,
+            Filer filer,
+            ProcessingEnvironment processingEnvironment) {
+        this.stats = stats;
+        this.messager = messager;
+        this.filer = filer;
+        this.processingEnvironment = processingEnvironment;
+    }
+
+    void report() {
+        if (!stats.isEnabled()) {
+            return;
+        }
+        messager.printMessage(NOTE, stats.summary());
+        String statsFile = processingEnvironment.getOptions().get(OPTION_STATS_FILE);
+        if (statsFile == null || statsFile.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = filer.createResource(CLASS_OUTPUT, "", statsFile);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(stats.toJson());
+            }
+        } catch (IOException e) {
+            messager.printMessage(WARNING, "could not write " + statsFile + ": " + e.getMessage());
+        }
+    }
+}
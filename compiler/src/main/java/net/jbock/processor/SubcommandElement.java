@@ -0,0 +1,104 @@
+package net.jbock.processor;
+
+import io.jbock.javapoet.ClassName;
+import net.jbock.SuperCommand;
+import net.jbock.common.ModelAccess;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static net.jbock.common.TypeTool.ANNOTATION_VALUE_AS_TYPE;
+import static net.jbock.common.TypeTool.AS_DECLARED;
+import static net.jbock.common.TypeTool.AS_TYPE_ELEMENT;
+
+/**
+ * An entry of the {@link SuperCommand#subcommands()} attribute.
+ */
+public final class SubcommandElement {
+
+    private static final SimpleAnnotationValueVisitor9<List<? extends AnnotationValue>, Void> AS_ARRAY =
+            new SimpleAnnotationValueVisitor9<>(List.of()) {
+                @Override
+                public List<? extends AnnotationValue> visitArray(List<? extends AnnotationValue> values, Void unused) {
+                    return values;
+                }
+            };
+
+    private final TypeElement element;
+    private final String name;
+    private final String description;
+    private final ClassName parserClass;
+
+    private SubcommandElement(
+            TypeElement element,
+            String name,
+            String description,
+            ClassName parserClass) {
+        this.element = element;
+        this.name = name;
+        this.description = description;
+        this.parserClass = parserClass;
+    }
+
+    /**
+     * Creates the table entry for a subcommand.
+     * The subcommand must be annotated with {@code Command} or {@code SuperCommand}.
+     */
+    static SubcommandElement create(TypeElement element) {
+        SourceElement subcommand = SourceElement.create(element);
+        String description = subcommand.description().isEmpty() ? "" : subcommand.description().get(0);
+        return new SubcommandElement(element, subcommand.programName(),
+                description, subcommand.generatedClass());
+    }
+
+    /**
+     * Returns the classes in the {@code subcommands} attribute, in source order.
+     */
+    static List<TypeElement> findSubcommandTypes(TypeElement typeElement) {
+        List<TypeElement> result = new ArrayList<>();
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(SuperCommand.class.getCanonicalName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e
+                    : annotationMirror.getElementValues().entrySet()) {
+                if (!"subcommands".contentEquals(e.getKey().getSimpleName())) {
+                    continue;
+                }
+                for (AnnotationValue value : AS_ARRAY.visit(e.getValue())) {
+                    ANNOTATION_VALUE_AS_TYPE.visit(value)
+                            .flatMap(AS_DECLARED::visit)
+                            .map(DeclaredType::asElement)
+                            .flatMap(AS_TYPE_ELEMENT::visit)
+                            .ifPresent(result::add);
+                }
+            }
+        }
+        return result;
+    }
+
+    public TypeElement element() {
+        ModelAccess.check();
+        return element;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String description() {
+        return description;
+    }
+
+    public ClassName parserClass() {
+        return parserClass;
+    }
+}
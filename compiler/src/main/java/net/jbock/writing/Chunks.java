@@ -0,0 +1,32 @@
+package net.jbock.writing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits long sequences of generated statements into helper methods.
+ * This keeps the generated methods well below the method size limit
+ * of the class file format, and below the size limit for JIT compilation.
+ */
+final class Chunks {
+
+    /**
+     * Maximum number of items that are handled in the same generated method.
+     */
+    static final int CHUNK_SIZE = 50;
+
+    static boolean isLarge(List<?> items) {
+        return items.size() > CHUNK_SIZE;
+    }
+
+    static <E> List<List<E>> chunks(List<E> items) {
+        List<List<E>> result = new ArrayList<>((items.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int i = 0; i < items.size(); i += CHUNK_SIZE) {
+            result.add(items.subList(i, Math.min(items.size(), i + CHUNK_SIZE)));
+        }
+        return result;
+    }
+
+    private Chunks() {
+    }
+}
@@ -1,10 +1,10 @@
 package net.jbock.writing;
 
 import io.jbock.javapoet.ClassName;
-import io.jbock.javapoet.FieldSpec;
 import net.jbock.annotated.AnnotatedOption;
 import net.jbock.annotated.AnnotatedParameter;
 import net.jbock.annotated.AnnotatedVarargsParameter;
+import net.jbock.common.ModelAccess;
 import net.jbock.convert.Mapping;
 import net.jbock.processor.SourceElement;
 import net.jbock.validate.ContextBuilder;
@@ -14,10 +14,6 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static javax.lang.model.element.Modifier.FINAL;
-import static javax.lang.model.element.Modifier.PRIVATE;
-import static net.jbock.common.Constants.STRING;
-import static net.jbock.common.Constants.mapOf;
 import static net.jbock.common.Suppliers.memoize;
 
 public final class CommandRepresentation {
@@ -48,14 +44,6 @@ public final class CommandRepresentation {
         return contextBuilder.namedOptions();
     }
 
-    private final Supplier<FieldSpec> optionNames = memoize(() -> FieldSpec.builder(
-                    mapOf(STRING, optType()), "optionNames")
-            .addModifiers(PRIVATE, FINAL).build());
-
-    FieldSpec optionNames() {
-        return optionNames.get();
-    }
-
     private final Supplier<ClassName> optType = memoize(() -> namedOptions().isEmpty() ?
             ClassName.get(Void.class) : // javapoet #739
             sourceElement().optionEnumType());
@@ -73,4 +61,19 @@ public final class CommandRepresentation {
     List<Mapping<?>> allMappings() {
         return allMappings.get();
     }
+
+    /**
+     * Reads the values from the javac model that code generation needs,
+     * and which are not already resolved during validation.
+     * After this, {@link ParserClass#define()} can run on another thread,
+     * because the javac model is not thread-safe.
+     * The model accessors fail on such a thread, see {@link ModelAccess}.
+     */
+    public void preResolve() {
+        sourceElement().typeName();
+        sourceElement().subcommands();
+        for (Mapping<?> m : allMappings()) {
+            m.field();
+        }
+    }
 }
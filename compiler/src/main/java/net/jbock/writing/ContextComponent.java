@@ -9,6 +9,8 @@ public interface ContextComponent {
 
     ParserClass parserClass();
 
+    ReachabilityMetadata reachabilityMetadata();
+
     @Subcomponent.Factory
     interface Factory {
 
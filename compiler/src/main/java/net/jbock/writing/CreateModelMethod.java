@@ -1,7 +1,10 @@
 package net.jbock.writing;
 
 import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.FieldSpec;
 import io.jbock.javapoet.MethodSpec;
+import io.jbock.javapoet.ParameterSpec;
+import io.jbock.javapoet.TypeSpec;
 import jakarta.inject.Inject;
 import net.jbock.annotated.AnnotatedOption;
 import net.jbock.convert.Mapping;
@@ -9,6 +12,7 @@ import net.jbock.model.CommandModel;
 import net.jbock.model.Multiplicity;
 import net.jbock.model.Option;
 import net.jbock.model.Parameter;
+import net.jbock.processor.SubcommandElement;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,47 +20,146 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static io.jbock.javapoet.MethodSpec.methodBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
 import static net.jbock.common.Suppliers.memoize;
+import static net.jbock.writing.Chunks.chunks;
+import static net.jbock.writing.Chunks.isLarge;
 import static net.jbock.writing.CodeBlocks.joinByComma;
 import static net.jbock.writing.CodeBlocks.joinByNewline;
 
 @WritingScope
 final class CreateModelMethod extends HasCommandRepresentation {
 
+    private final UsageDocumentationFields usageDocumentationFields;
+
     @Inject
-    CreateModelMethod(CommandRepresentation commandRepresentation) {
+    CreateModelMethod(
+            CommandRepresentation commandRepresentation,
+            UsageDocumentationFields usageDocumentationFields) {
         super(commandRepresentation);
+        this.usageDocumentationFields = usageDocumentationFields;
     }
 
-    private final Supplier<MethodSpec> define = memoize(() -> {
+    private final Supplier<List<CodeBlock>> items = memoize(() -> {
         List<CodeBlock> code = new ArrayList<>();
-        code.add(CodeBlock.of("return $T.builder()", CommandModel.class));
-        sourceElement().descriptionKey().ifPresent(key ->
-                code.add(CodeBlock.of(".withDescriptionKey($S)", key)));
-        for (String descriptionLine : sourceElement().description()) {
-            code.add(CodeBlock.of(".addDescriptionLine($S)", descriptionLine));
-        }
-        code.add(CodeBlock.of(".withProgramName($S)", sourceElement().programName()));
-        if (isSuperCommand()) {
-            code.add(CodeBlock.of(".withSuperCommand($L)", true));
-        }
         for (Mapping<AnnotatedOption> c : namedOptions()) {
             code.add(CodeBlock.of(".addOption($L)", optionBlock(c)));
         }
         Stream.concat(positionalParameters().stream(), varargsParameter().stream())
                 .forEach(c -> code.add(CodeBlock.of(".addParameter($L)", parameterBlock(c))));
-        code.add(CodeBlock.of(".build()"));
-        return methodBuilder("createModel")
-                .addStatement(joinByNewline(code))
+        for (SubcommandElement subcommand : sourceElement().subcommands()) {
+            code.add(CodeBlock.of(".addSubcommand($S, $S)", subcommand.name(), subcommand.description()));
+        }
+        return code;
+    });
+
+    private final Supplier<List<MethodSpec>> addItemsMethods = memoize(() -> {
+        if (!isLarge(items.get())) {
+            return List.of();
+        }
+        ParameterSpec builder = builderParameter();
+        List<MethodSpec> result = new ArrayList<>();
+        for (List<CodeBlock> chunk : chunks(items.get())) {
+            CodeBlock.Builder code = CodeBlock.builder();
+            for (CodeBlock item : chunk) {
+                code.addStatement("$N$L", builder, item);
+            }
+            result.add(methodBuilder("addItems" + result.size())
+                    .addParameter(builder)
+                    .addCode(code.build())
+                    .addModifiers(PRIVATE, STATIC)
+                    .build());
+        }
+        return result;
+    });
+
+    private final Supplier<MethodSpec> build = memoize(() -> {
+        ParameterSpec builder = builderParameter();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $L", builder.type, builder, joinByNewline(header()));
+        for (MethodSpec addItems : addItemsMethods.get()) {
+            code.addStatement("$N($N)", addItems, builder);
+        }
+        List<CodeBlock> footer = new ArrayList<>();
+        footer.add(CodeBlock.of("$N", builder));
+        footer.addAll(usageDocumentationFields().builderCalls());
+        footer.add(CodeBlock.of(".build()"));
+        code.addStatement("return $L", joinByNewline(footer));
+        return methodBuilder("build")
+                .addCode(code.build())
                 .returns(CommandModel.class)
-                .addModifiers(sourceElement().accessModifiers())
+                .addModifiers(PRIVATE, STATIC)
                 .build();
     });
 
+    private final Supplier<FieldSpec> model = memoize(() -> {
+        FieldSpec.Builder field = FieldSpec.builder(CommandModel.class, "MODEL", STATIC, FINAL);
+        if (isLarge(items.get())) {
+            return field.initializer("$N()", build.get()).build();
+        }
+        List<CodeBlock> code = new ArrayList<>(header());
+        code.addAll(items.get());
+        code.addAll(usageDocumentationFields().builderCalls());
+        code.add(CodeBlock.of(".build()"));
+        return field.initializer(joinByNewline(code)).build();
+    });
+
+    private final Supplier<TypeSpec> holder = memoize(() -> {
+        TypeSpec.Builder spec = TypeSpec.classBuilder(
+                        sourceElement().generatedClass().nestedClass("ModelHolder"))
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .addField(model.get());
+        if (isLarge(items.get())) {
+            spec.addMethod(build.get());
+            spec.addMethods(addItemsMethods.get());
+        }
+        return spec.build();
+    });
+
+    private final Supplier<MethodSpec> define = memoize(() -> methodBuilder("createModel")
+            .addStatement("return $N.$N", holder.get(), model.get())
+            .returns(CommandModel.class)
+            .addModifiers(sourceElement().accessModifiers())
+            .build());
+
     MethodSpec get() {
         return define.get();
     }
 
+    /**
+     * Returns the holder class that contains the shared command model.
+     * The model is created when the holder class is initialized,
+     * which happens at the first invocation of {@code createModel}.
+     */
+    TypeSpec holder() {
+        return holder.get();
+    }
+
+    private UsageDocumentationFields usageDocumentationFields() {
+        return usageDocumentationFields;
+    }
+
+    private List<CodeBlock> header() {
+        List<CodeBlock> code = new ArrayList<>();
+        code.add(CodeBlock.of("$T.builder()", CommandModel.class));
+        sourceElement().descriptionKey().ifPresent(key ->
+                code.add(CodeBlock.of(".withDescriptionKey($S)", key)));
+        for (String descriptionLine : sourceElement().description()) {
+            code.add(CodeBlock.of(".addDescriptionLine($S)", descriptionLine));
+        }
+        code.add(CodeBlock.of(".withProgramName($S)", sourceElement().programName()));
+        if (isSuperCommand()) {
+            code.add(CodeBlock.of(".withSuperCommand($L)", true));
+        }
+        return code;
+    }
+
+    private static ParameterSpec builderParameter() {
+        return ParameterSpec.builder(CommandModel.Builder.class, "builder").build();
+    }
+
     private CodeBlock optionBlock(Mapping<AnnotatedOption> m) {
         List<CodeBlock> names = new ArrayList<>();
         for (String name : m.sourceMethod().names()) {
@@ -34,7 +34,7 @@ final class GeneratedTypes extends HasCommandRepresentation {
     }
 
     ClassName implType() {
-        return sourceElement().generatedClass().nestedClass(sourceElement().element().getSimpleName() + "_Impl");
+        return sourceElement().generatedClass().nestedClass(sourceElement().simpleName() + "_Impl");
     }
 
     TypeName parseResultType() {
@@ -1,7 +1,6 @@
 package net.jbock.writing;
 
 import io.jbock.javapoet.ClassName;
-import io.jbock.javapoet.FieldSpec;
 import net.jbock.annotated.AnnotatedOption;
 import net.jbock.annotated.AnnotatedParameter;
 import net.jbock.annotated.AnnotatedVarargsParameter;
@@ -31,10 +30,6 @@ abstract class HasCommandRepresentation {
         return commandRepresentation.optType();
     }
 
-    final FieldSpec optionNames() {
-        return commandRepresentation.optionNames();
-    }
-
     final List<Mapping<AnnotatedParameter>> positionalParameters() {
         return commandRepresentation.positionalParameters();
     }
@@ -2,6 +2,7 @@ package net.jbock.writing;
 
 import io.jbock.javapoet.ClassName;
 import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.FieldSpec;
 import io.jbock.javapoet.MethodSpec;
 import io.jbock.javapoet.ParameterSpec;
 import io.jbock.javapoet.ParameterizedTypeName;
@@ -12,6 +13,7 @@ import net.jbock.annotated.AnnotatedMethod;
 import net.jbock.annotated.AnnotatedOption;
 import net.jbock.annotated.AnnotatedParameter;
 import net.jbock.annotated.AnnotatedVarargsParameter;
+import net.jbock.common.GeneratorOptions;
 import net.jbock.common.Suppliers;
 import net.jbock.convert.Mapping;
 import net.jbock.model.ItemType;
@@ -19,9 +21,11 @@ import net.jbock.parse.ParseResult;
 import net.jbock.util.ExConvert;
 import net.jbock.util.ExFailure;
 import net.jbock.util.ExMissingItem;
+import net.jbock.util.StringConverter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
@@ -29,7 +33,9 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.STATIC;
 import static net.jbock.common.Constants.EITHERS;
+import static net.jbock.common.Constants.LIST_OF_STRING;
 import static net.jbock.common.Constants.STRING;
+import static net.jbock.writing.Chunks.isLarge;
 import static net.jbock.writing.CodeBlocks.joinByNewline;
 
 /**
@@ -39,12 +45,15 @@ import static net.jbock.writing.CodeBlocks.joinByNewline;
 final class ImplClass extends HasCommandRepresentation {
 
     private final GeneratedTypes generatedTypes;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     ImplClass(GeneratedTypes generatedTypes,
-              CommandRepresentation commandRepresentation) {
+              CommandRepresentation commandRepresentation,
+              GeneratorOptions generatorOptions) {
         super(commandRepresentation);
         this.generatedTypes = generatedTypes;
+        this.generatorOptions = generatorOptions;
     }
 
     TypeSpec define() {
@@ -62,13 +71,14 @@ final class ImplClass extends HasCommandRepresentation {
                 .addMethods(allMappings().stream()
                         .map(this::parameterMethodOverride)
                         .collect(toList()))
+                .addMethods(fieldInitMethods())
                 .build();
     }
 
     private MethodSpec parameterMethodOverride(Mapping<?> m) {
         AnnotatedMethod sourceMethod = m.sourceMethod();
         return MethodSpec.methodBuilder(sourceMethod.methodName())
-                .returns(TypeName.get(sourceMethod.returnType()))
+                .returns(m.field().type)
                 .addModifiers(sourceMethod.accessModifiers())
                 .addStatement("return $N", m.field())
                 .addAnnotation(Override.class)
@@ -87,19 +97,67 @@ final class ImplClass extends HasCommandRepresentation {
 
     private MethodSpec constructor() {
         MethodSpec.Builder spec = MethodSpec.constructorBuilder();
+        for (FieldInit init : fieldInits()) {
+            if (init.expression.isPresent() && !isLarge(allMappings())) {
+                spec.addStatement("this.$N = $L", init.field, init.expression.get());
+            } else {
+                spec.addStatement("this.$N = $N($N)", init.field, init.method(), result());
+            }
+        }
+        return spec.addParameter(result())
+                .addException(ExFailure.class)
+                .build();
+    }
+
+    /**
+     * Returns the helper methods that compute the field values,
+     * if there are so many fields that the constructor would be too large,
+     * or if lambda-free code is generated.
+     */
+    private List<MethodSpec> fieldInitMethods() {
+        if (!isLarge(allMappings()) && !generatorOptions().lambdaFree()) {
+            return List.of();
+        }
+        return fieldInits().stream()
+                .map(FieldInit::method)
+                .collect(toList());
+    }
+
+    private List<FieldInit> fieldInits() {
+        return fieldInitsSupplier.get();
+    }
+
+    private final Supplier<List<FieldInit>> fieldInitsSupplier = Suppliers.memoize(() -> {
+        if (generatorOptions().lambdaFree()) {
+            return lambdaFreeFieldInits();
+        }
+        List<FieldInit> result = new ArrayList<>(allMappings().size());
         for (int i = 0; i < namedOptions().size(); i++) {
             Mapping<AnnotatedOption> m = namedOptions().get(i);
-            spec.addStatement("this.$N = $L", m.field(), convertExpressionOption(m, i));
+            result.add(fromExpression(m.field(), convertExpressionOption(m, i)));
         }
         for (int i = 0; i < positionalParameters().size(); i++) {
             Mapping<AnnotatedParameter> m = positionalParameters().get(i);
-            spec.addStatement("this.$N = $L", m.field(), convertExpressionParameter(m, i));
+            result.add(fromExpression(m.field(), convertExpressionParameter(m, i)));
         }
         varargsParameter().ifPresent(m ->
-                spec.addStatement("this.$N = $L", m.field(), convertExpressionVarargsParameter(m)));
-        return spec.addParameter(result())
-                .addException(ExFailure.class)
-                .build();
+                result.add(fromExpression(m.field(), convertExpressionVarargsParameter(m))));
+        return result;
+    });
+
+    private List<FieldInit> lambdaFreeFieldInits() {
+        List<FieldInit> result = new ArrayList<>(allMappings().size());
+        for (int i = 0; i < namedOptions().size(); i++) {
+            Mapping<AnnotatedOption> m = namedOptions().get(i);
+            result.add(fromStatements(m.field(), convertStatementsOption(m, i)));
+        }
+        for (int i = 0; i < positionalParameters().size(); i++) {
+            Mapping<AnnotatedParameter> m = positionalParameters().get(i);
+            result.add(fromStatements(m.field(), convertStatementsParameter(m, i)));
+        }
+        varargsParameter().ifPresent(m ->
+                result.add(fromStatements(m.field(), convertStatementsVarargsParameter(m))));
+        return result;
     }
 
     private CodeBlock convertExpressionOption(Mapping<AnnotatedOption> m, int i) {
@@ -176,9 +234,159 @@ final class ImplClass extends HasCommandRepresentation {
                 CodeBlock.of(".stream().findAny()"));
     }
 
+    private CodeBlock convertStatementsOption(Mapping<AnnotatedOption> m, int i) {
+        CodeBlock optionValues = CodeBlock.of("$N.optionValues($T.$N)", result(),
+                sourceElement().optionEnumType(), m.enumName());
+        if (m.isNullary()) {
+            return CodeBlock.builder().addStatement("return !$L.isEmpty()", optionValues).build();
+        }
+        ParameterSpec values = ParameterSpec.builder(LIST_OF_STRING, "values").build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $L", values.type, values, optionValues);
+        switch (m.multiplicity()) {
+            case REQUIRED:
+                return code.add(requiredValue(m, CodeBlock.of("$N.isEmpty()", values),
+                        CodeBlock.of("$N.get(0)", values), ItemType.OPTION, i)).build();
+            case OPTIONAL:
+                return code.add(optionalValue(m, CodeBlock.of("$N.isEmpty()", values),
+                        CodeBlock.of("$N.get(0)", values), ItemType.OPTION, i)).build();
+            default: {
+                if (!m.isRepeatable()) {
+                    throw new AssertionError();
+                }
+                return code.add(repeatedValues(m, values, ItemType.OPTION, i)).build();
+            }
+        }
+    }
+
+    private CodeBlock convertStatementsParameter(Mapping<AnnotatedParameter> m, int i) {
+        ParameterSpec param = ParameterSpec.builder(
+                ParameterizedTypeName.get(ClassName.get(Optional.class), STRING), "param").build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $N.param($L)", param.type, param, result(),
+                m.sourceMethod().index());
+        CodeBlock isEmpty = CodeBlock.of("$N.isEmpty()", param);
+        CodeBlock get = CodeBlock.of("$N.get()", param);
+        if (m.isRequired()) {
+            return code.add(requiredValue(m, isEmpty, get, ItemType.PARAMETER, i)).build();
+        }
+        if (!m.isOptional()) {
+            throw new AssertionError();
+        }
+        return code.add(optionalValue(m, isEmpty, get, ItemType.PARAMETER, i)).build();
+    }
+
+    private CodeBlock convertStatementsVarargsParameter(Mapping<AnnotatedVarargsParameter> m) {
+        ParameterSpec values = ParameterSpec.builder(LIST_OF_STRING, "values").build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $N.restValues()", values.type, values, result());
+        code.add(repeatedValues(m, values, ItemType.PARAMETER, positionalParameters().size()));
+        return code.build();
+    }
+
+    private CodeBlock requiredValue(
+            Mapping<?> m,
+            CodeBlock isEmpty,
+            CodeBlock token,
+            ItemType itemType,
+            int i) {
+        return CodeBlock.builder()
+                .beginControlFlow("if ($L)", isEmpty)
+                .addStatement("throw new $T($T.$L, $L)", ExMissingItem.class, ItemType.class, itemType, i)
+                .endControlFlow()
+                .addStatement("return $L.applyOrThrow($L, $S, $T.$L, $L)",
+                        m.createConverterExpression(), token, sourceElement().programName(),
+                        ItemType.class, itemType, i)
+                .build();
+    }
+
+    private CodeBlock optionalValue(
+            Mapping<?> m,
+            CodeBlock isEmpty,
+            CodeBlock token,
+            ItemType itemType,
+            int i) {
+        TypeName optionalType = rawType(m.field().type);
+        return CodeBlock.builder()
+                .beginControlFlow("if ($L)", isEmpty)
+                .addStatement("return $T.empty()", optionalType)
+                .endControlFlow()
+                .addStatement("return $T.of($L.applyOrThrow($L, $S, $T.$L, $L))", optionalType,
+                        m.createConverterExpression(), token, sourceElement().programName(),
+                        ItemType.class, itemType, i)
+                .build();
+    }
+
+    private CodeBlock repeatedValues(
+            Mapping<?> m,
+            ParameterSpec values,
+            ItemType itemType,
+            int i) {
+        TypeName listType = m.field().type;
+        TypeName elementType = ((ParameterizedTypeName) listType).typeArguments.get(0);
+        ParameterSpec converter = ParameterSpec.builder(ParameterizedTypeName.get(
+                ClassName.get(StringConverter.class), elementType), "converter").build();
+        ParameterSpec converted = ParameterSpec.builder(listType, "converted").build();
+        ParameterSpec token = ParameterSpec.builder(STRING, "token").build();
+        return CodeBlock.builder()
+                .addStatement("$T $N = $L", converter.type, converter, m.createConverterExpression())
+                .addStatement("$T $N = new $T<>($N.size())", converted.type, converted, ArrayList.class, values)
+                .beginControlFlow("for ($T $N : $N)", token.type, token, values)
+                .addStatement("$N.add($N.applyOrThrow($N, $S, $T.$L, $L))",
+                        converted, converter, token, sourceElement().programName(),
+                        ItemType.class, itemType, i)
+                .endControlFlow()
+                .addStatement("return $N", converted)
+                .build();
+    }
+
+    private static TypeName rawType(TypeName type) {
+        if (type instanceof ParameterizedTypeName) {
+            return ((ParameterizedTypeName) type).rawType;
+        }
+        return type;
+    }
+
     private CodeBlock orElseThrowConverterError(ItemType itemType, int i) {
         ParameterSpec left = ParameterSpec.builder(STRING, "left").build();
         return CodeBlock.of(".orElseThrow($1N -> new $2T($1N, $3T.$4L, $5L))",
                 left, ExConvert.class, ItemType.class, itemType, i);
     }
+
+    private FieldInit fromExpression(FieldSpec field, CodeBlock expression) {
+        CodeBlock body = CodeBlock.builder().addStatement("return $L", expression).build();
+        return new FieldInit(field, Optional.of(expression), body);
+    }
+
+    /* The field value can only be computed by a helper method. */
+    private FieldInit fromStatements(FieldSpec field, CodeBlock body) {
+        return new FieldInit(field, Optional.empty(), body);
+    }
+
+    private GeneratorOptions generatorOptions() {
+        return generatorOptions;
+    }
+
+    private final class FieldInit {
+
+        final FieldSpec field;
+        final Optional<CodeBlock> expression;
+        final CodeBlock body;
+
+        FieldInit(FieldSpec field, Optional<CodeBlock> expression, CodeBlock body) {
+            this.field = field;
+            this.expression = expression;
+            this.body = body;
+        }
+
+        MethodSpec method() {
+            return MethodSpec.methodBuilder(field.name)
+                    .addParameter(result())
+                    .returns(field.type)
+                    .addCode(body)
+                    .addException(ExFailure.class)
+                    .addModifiers(PRIVATE, STATIC)
+                    .build();
+        }
+    }
 }
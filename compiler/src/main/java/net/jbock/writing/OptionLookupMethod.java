@@ -0,0 +1,198 @@
+package net.jbock.writing;
+
+import io.jbock.javapoet.ClassName;
+import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.MethodSpec;
+import io.jbock.javapoet.ParameterSpec;
+import io.jbock.javapoet.ParameterizedTypeName;
+import io.jbock.javapoet.TypeSpec;
+import jakarta.inject.Inject;
+import net.jbock.annotated.AnnotatedOption;
+import net.jbock.convert.Mapping;
+import net.jbock.parse.OptionLookup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.jbock.common.Constants.STRING;
+import static net.jbock.common.Suppliers.memoize;
+import static net.jbock.writing.Chunks.isLarge;
+
+/**
+ * Generates the {@code lookupOption} method, which implements
+ * {@link net.jbock.parse.OptionLookup OptionLookup}.
+ * The option names are dispatched by length first,
+ * and then by the first character where the remaining names differ.
+ */
+@WritingScope
+final class OptionLookupMethod extends HasCommandRepresentation {
+
+    @Inject
+    OptionLookupMethod(
+            CommandRepresentation commandRepresentation) {
+        super(commandRepresentation);
+    }
+
+    // option names by length, each mapped to the name of its enum constant
+    private final Supplier<Map<Integer, Map<String, String>>> namesByLength = memoize(() -> {
+        Map<Integer, Map<String, String>> result = new TreeMap<>();
+        for (Mapping<AnnotatedOption> namedOption : namedOptions()) {
+            for (String name : namedOption.sourceMethod().names()) {
+                result.computeIfAbsent(name.length(), length -> new LinkedHashMap<>())
+                        .put(name, namedOption.enumName());
+            }
+        }
+        return result;
+    });
+
+    private final Supplier<List<MethodSpec>> helpers = memoize(() -> {
+        List<MethodSpec> result = new ArrayList<>();
+        if (!isLarge(namedOptions())) {
+            return result;
+        }
+        for (Map.Entry<Integer, Map<String, String>> group : namesByLength.get().entrySet()) {
+            result.add(MethodSpec.methodBuilder("lookupOption" + group.getKey())
+                    .addParameter(token())
+                    .addCode(decisionTree(new ArrayList<>(group.getValue().keySet()), group.getValue()))
+                    .returns(optType())
+                    .addModifiers(PRIVATE, STATIC)
+                    .build());
+        }
+        return result;
+    });
+
+    private final Supplier<MethodSpec> define = memoize(() -> {
+        ParameterSpec token = token();
+        ParameterSpec end = ParameterSpec.builder(int.class, "end").build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.add("switch ($N) {\n", end).indent();
+        int i = 0;
+        for (Map.Entry<Integer, Map<String, String>> group : namesByLength.get().entrySet()) {
+            code.add("case $L:\n", group.getKey()).indent();
+            if (isLarge(namedOptions())) {
+                code.addStatement("return $N($N)", helpers.get().get(i++), token);
+            } else {
+                code.add(decisionTree(new ArrayList<>(group.getValue().keySet()), group.getValue()));
+            }
+            code.unindent();
+        }
+        code.add("default:\n").indent()
+                .addStatement("return null")
+                .unindent();
+        code.unindent().add("}\n");
+        return MethodSpec.methodBuilder("lookupOption")
+                .addParameter(token)
+                .addParameter(end)
+                .addCode(code.build())
+                .returns(optType())
+                .addModifiers(PRIVATE, STATIC)
+                .build();
+    });
+
+    MethodSpec get() {
+        return define.get();
+    }
+
+    /**
+     * Returns the name of the class that is generated by {@link #lookupClass()}.
+     */
+    ClassName lookupClassName() {
+        return sourceElement().generatedClass().nestedClass("Lookup");
+    }
+
+    /**
+     * Returns a class that implements {@link OptionLookup} by delegating to {@code lookupOption}.
+     * It is used instead of a method reference if lambda-free code is generated.
+     */
+    TypeSpec lookupClass() {
+        ParameterSpec token = token();
+        ParameterSpec end = ParameterSpec.builder(int.class, "end").build();
+        MethodSpec lookup = MethodSpec.methodBuilder("lookup")
+                .addAnnotation(Override.class)
+                .addParameter(token)
+                .addParameter(end)
+                .addStatement("return $N($N, $N)", define.get(), token, end)
+                .returns(optType())
+                .addModifiers(PUBLIC)
+                .build();
+        return TypeSpec.classBuilder(lookupClassName())
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(OptionLookup.class), optType()))
+                .addMethod(lookup)
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .build();
+    }
+
+    /**
+     * Returns the helper methods that are used by {@code lookupOption},
+     * if the command has many options.
+     */
+    List<MethodSpec> helpers() {
+        return helpers.get();
+    }
+
+    /**
+     * Generates code that returns the enum constant of the option
+     * whose name is a prefix of {@code token}, or {@code null}.
+     * All {@code names} must have the same length.
+     */
+    private CodeBlock decisionTree(List<String> names, Map<String, String> enumNames) {
+        ParameterSpec token = token();
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (names.size() == 1) {
+            String name = names.get(0);
+            code.addStatement("return $N.startsWith($S) ? $T.$L : null",
+                    token, name, sourceElement().optionEnumType(), enumNames.get(name));
+            return code.build();
+        }
+        int index = distinguishingIndex(names);
+        Map<Character, List<String>> byChar = new TreeMap<>();
+        for (String name : names) {
+            byChar.computeIfAbsent(name.charAt(index), c -> new ArrayList<>()).add(name);
+        }
+        code.add("switch ($N.charAt($L)) {\n", token, index).indent();
+        for (Map.Entry<Character, List<String>> branch : byChar.entrySet()) {
+            code.add("case $L:\n", charLiteral(branch.getKey())).indent();
+            code.add(decisionTree(branch.getValue(), enumNames));
+            code.unindent();
+        }
+        code.add("default:\n").indent()
+                .addStatement("return null")
+                .unindent();
+        code.unindent().add("}\n");
+        return code.build();
+    }
+
+    private static int distinguishingIndex(List<String> names) {
+        String first = names.get(0);
+        for (int i = 0; i < first.length(); i++) {
+            for (String name : names) {
+                if (name.charAt(i) != first.charAt(i)) {
+                    return i;
+                }
+            }
+        }
+        throw new AssertionError("duplicate option name: " + first);
+    }
+
+    private static String charLiteral(char c) {
+        if (c == '\'' || c == '\\') {
+            return "'\\" + c + "'";
+        }
+        if (c < 0x20 || c > 0x7e) {
+            return String.format("'\\u%04x'", (int) c);
+        }
+        return "'" + c + "'";
+    }
+
+    private static ParameterSpec token() {
+        return ParameterSpec.builder(STRING, "token").build();
+    }
+}
@@ -1,15 +1,24 @@
 package net.jbock.writing;
 
+import io.jbock.javapoet.ClassName;
 import io.jbock.javapoet.CodeBlock;
 import io.jbock.javapoet.MethodSpec;
 import io.jbock.javapoet.ParameterSpec;
+import io.jbock.javapoet.ParameterizedTypeName;
+import io.jbock.javapoet.TypeName;
 import jakarta.inject.Inject;
+import net.jbock.model.CommandModel;
+import net.jbock.parse.TimedParseResult;
+import net.jbock.util.CommandLineTokens;
 import net.jbock.util.ExFailure;
+import net.jbock.util.ExToken;
+import net.jbock.util.ParseListener;
+import net.jbock.util.ParsingFailed;
 
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static io.jbock.javapoet.ParameterSpec.builder;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static net.jbock.common.Constants.EITHER;
 import static net.jbock.common.Constants.LIST_OF_STRING;
 import static net.jbock.common.Suppliers.memoize;
@@ -33,32 +42,73 @@ final class ParseMethod extends HasCommandRepresentation {
         this.parserTypeFactory = parserTypeFactory;
     }
 
-    private final Supplier<MethodSpec> define = memoize(() -> {
-
+    private final Supplier<MethodSpec> withListener = memoize(() -> {
         ParameterSpec tokens = builder(LIST_OF_STRING, "tokens").build();
+        ParameterSpec listener = builder(ParseListener.class, "listener").build();
+        ParameterSpec model = builder(CommandModel.class, "model").build();
+        ParameterSpec start = builder(long.class, "start").build();
+        ParameterSpec e = builder(Exception.class, "e").build();
+        ParameterSpec failure = builder(ParsingFailed.class, "failure").build();
+        ParserType parserType = parserTypeFactory().get();
+        ParameterSpec parser = builder(parserType.type(), "parser").build();
+        TypeName timedType = ParameterizedTypeName.get(ClassName.get(TimedParseResult.class), optType());
+        ParameterSpec result = builder(timedType, "result").build();
+        ParameterSpec impl = builder(generatedTypes().implType(), "impl").build();
 
         CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $L", parserType.type(), parser, parserType.init());
+        code.addStatement("$T $N = $N()", model.type, model, createModelMethod().get());
+        code.add("try {\n").indent()
+                .addStatement("$T $N = $T.nanoTime()", start.type, start, System.class)
+                .beginControlFlow("try")
+                .addStatement("$N.parse($N)", parser, tokens)
+                .nextControlFlow("finally")
+                .addStatement("$N.tokenized($N, $N.size(), $T.nanoTime() - $N)",
+                        listener, model, tokens, System.class, start)
+                .endControlFlow()
+                .addStatement("$T $N = new $T($N, $N, $N)", timedType, result, timedType, parser, listener, model)
+                .addStatement("$T $N = new $T($N)", impl.type, impl, impl.type, result)
+                .addStatement("$N.finish()", result)
+                .addStatement("return $T.right($L)", EITHER, success(impl, parser));
+        code.unindent().add("} catch ($T $N) {\n", ExFailure.class, e).indent()
+                .addStatement("$T $N = $N.toError($N)", failure.type, failure, e, model)
+                .addStatement("$N.failed($N)", listener, failure)
+                .addStatement("return $T.left($N)", EITHER, failure)
+                .unindent().add("}\n");
 
-        ParserType parserType = parserTypeFactory().get();
+        return MethodSpec.methodBuilder("parseWithListener")
+                .addParameter(tokens)
+                .addParameter(listener)
+                .returns(generatedTypes().parseResultType())
+                .addCode(code.build())
+                .addModifiers(PRIVATE)
+                .build();
+    });
 
+    private final Supplier<MethodSpec> define = memoize(() -> {
+        ParameterSpec tokens = builder(LIST_OF_STRING, "tokens").build();
+        ParameterSpec listener = builder(ParseListener.class, "listener").build();
         ParameterSpec e = builder(Exception.class, "e").build();
-        ParameterSpec parser = ParameterSpec.builder(parserType.type(), "parser").build();
+        ParserType parserType = parserTypeFactory().get();
+        ParameterSpec parser = builder(parserType.type(), "parser").build();
+        ParameterSpec impl = builder(generatedTypes().implType(), "impl").build();
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $T.registered()", listener.type, listener, ParseListener.class);
+        code.beginControlFlow("if ($N != null)", listener)
+                .addStatement("return $N($N, $N)", withListener.get(), tokens, listener)
+                .endControlFlow();
         code.addStatement("$T $N = $L", parserType.type(), parser, parserType.init());
         code.add("try {\n").indent()
                 .addStatement("$N.parse($N)", parser, tokens);
         generatedTypes().superResultType().ifPresentOrElse(parseResultWithRestType -> {
-            ParameterSpec restArgs = ParameterSpec.builder(sourceElement().typeName(), "rest").build();
-            ParameterSpec impl = ParameterSpec.builder(generatedTypes().implType(), "impl").build();
+            ParameterSpec restArgs = builder(LIST_OF_STRING, "rest").build();
             code.addStatement("$T $N = new $T($N)", impl.type, impl, impl.type, parser);
-            code.addStatement("$T $N = $N.rest().collect($T.toList())", LIST_OF_STRING, restArgs,
-                    parser, Collectors.class);
+            code.addStatement("$T $N = $N.restValues()", LIST_OF_STRING, restArgs, parser);
             code.addStatement("return $T.right(new $T($N, $N))", EITHER, parseResultWithRestType,
                     impl, restArgs);
-        }, () -> {
-            ParameterSpec impl = ParameterSpec.builder(generatedTypes().implType(), "impl").build();
-            code.addStatement("return $T.right(new $T($N))", EITHER,
-                    impl.type, parser);
-        });
+        }, () -> code.addStatement("return $T.right(new $T($N))", EITHER,
+                impl.type, parser));
         code.unindent().add("} catch ($T $N) {\n", ExFailure.class, e).indent()
                 .addStatement("return $T.left($N.toError($N()))",
                         EITHER, e, createModelMethod().get())
@@ -72,10 +122,56 @@ final class ParseMethod extends HasCommandRepresentation {
                 .build();
     });
 
+    private final Supplier<MethodSpec> commandLine = memoize(() -> {
+        ParameterSpec input = builder(CharSequence.class, "input").build();
+        ParameterSpec tokens = builder(LIST_OF_STRING, "tokens").build();
+        ParameterSpec e = builder(ExToken.class, "e").build();
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N", tokens.type, tokens);
+        code.add("try {\n").indent()
+                .addStatement("$N = $T.tokenize($N)", tokens, CommandLineTokens.class, input);
+        code.unindent().add("} catch ($T $N) {\n", ExToken.class, e).indent()
+                .addStatement("return $T.left($N.toError($N()))",
+                        EITHER, e, createModelMethod().get())
+                .unindent().add("}\n");
+        code.addStatement("return $N($N)", define.get(), tokens);
+
+        return MethodSpec.methodBuilder("parse")
+                .addParameter(input)
+                .returns(generatedTypes().parseResultType())
+                .addCode(code.build())
+                .addModifiers(sourceElement().accessModifiers())
+                .build();
+    });
+
+    /* The parse result, which contains the remaining tokens if this is a super command. */
+    private CodeBlock success(ParameterSpec impl, ParameterSpec parser) {
+        return generatedTypes().superResultType()
+                .map(superResultType -> CodeBlock.of("new $T($N, $N.restValues())", superResultType, impl, parser))
+                .orElseGet(() -> CodeBlock.of("$N", impl));
+    }
+
     MethodSpec get() {
         return define.get();
     }
 
+    /**
+     * Returns the method that is invoked by {@code parse}
+     * if a {@link ParseListener} is registered.
+     */
+    MethodSpec withListener() {
+        return withListener.get();
+    }
+
+    /**
+     * Returns the overload of {@code parse} which takes the command line
+     * as a single string, and splits it with {@link CommandLineTokens}.
+     */
+    MethodSpec commandLine() {
+        return commandLine.get();
+    }
+
     private ParserTypeFactory parserTypeFactory() {
         return parserTypeFactory;
     }
@@ -4,13 +4,19 @@ import io.jbock.javapoet.ArrayTypeName;
 import io.jbock.javapoet.CodeBlock;
 import io.jbock.javapoet.MethodSpec;
 import io.jbock.javapoet.ParameterSpec;
+import io.jbock.javapoet.ParameterizedTypeName;
+import io.jbock.javapoet.TypeName;
+import io.jbock.javapoet.WildcardTypeName;
 import jakarta.inject.Inject;
+import net.jbock.common.GeneratorOptions;
 import net.jbock.contrib.StandardErrorHandler;
 import net.jbock.util.AtFileError;
 import net.jbock.util.ParseRequest;
 
 import static io.jbock.javapoet.MethodSpec.methodBuilder;
 import static io.jbock.javapoet.ParameterSpec.builder;
+import static net.jbock.common.Constants.EITHER;
+import static net.jbock.common.Constants.LIST_OF_STRING;
 import static net.jbock.common.Constants.STRING;
 
 @WritingScope
@@ -19,24 +25,25 @@ final class ParseOrExitMethod extends HasCommandRepresentation {
     private final GeneratedTypes generatedTypes;
     private final ParseMethod parseMethod;
     private final CreateModelMethod createModelMethod;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     ParseOrExitMethod(
             CommandRepresentation commandRepresentation,
             GeneratedTypes generatedTypes,
             ParseMethod parseMethod,
-            CreateModelMethod createModelMethod) {
+            CreateModelMethod createModelMethod,
+            GeneratorOptions generatorOptions) {
         super(commandRepresentation);
         this.generatedTypes = generatedTypes;
         this.parseMethod = parseMethod;
         this.createModelMethod = createModelMethod;
+        this.generatorOptions = generatorOptions;
     }
 
     MethodSpec define() {
 
         ParameterSpec args = builder(ArrayTypeName.of(STRING), "args").build();
-        ParameterSpec notSuccess = builder(generatedTypes.parseResultType(), "failure").build();
-        ParameterSpec err = builder(AtFileError.class, "err").build();
 
         CodeBlock.Builder code = CodeBlock.builder();
         code.beginControlFlow("if ($1N.length > 0 && $2S.equals($1N[0]))", args, "--help")
@@ -45,6 +52,22 @@ final class ParseOrExitMethod extends HasCommandRepresentation {
                 .addStatement("$T.exit(0)", System.class)
                 .endControlFlow();
 
+        if (generatorOptions.lambdaFree()) {
+            code.add(lambdaFreeBody(args));
+        } else {
+            code.add(body(args));
+        }
+        return methodBuilder("parseOrExit").addParameter(args)
+                .addModifiers(sourceElement().accessModifiers())
+                .returns(generatedTypes.parseSuccessType())
+                .addCode(code.build())
+                .build();
+    }
+
+    private CodeBlock body(ParameterSpec args) {
+        ParameterSpec notSuccess = builder(generatedTypes.parseResultType(), "failure").build();
+        ParameterSpec err = builder(AtFileError.class, "err").build();
+        CodeBlock.Builder code = CodeBlock.builder();
         code.add("return $T.from($N).expand()\n", ParseRequest.class, args).indent()
                 .add(".mapLeft($1N -> $1N.addModel($2N()))\n", err, createModelMethod.get())
                 .add(".flatMap(this::$N)\n", parseMethod.get())
@@ -54,10 +77,31 @@ final class ParseOrExitMethod extends HasCommandRepresentation {
                 .addStatement("$T.exit(1)", System.class)
                 .addStatement("return new $T()", RuntimeException.class).unindent()
                 .addStatement("})").unindent();
-        return methodBuilder("parseOrExit").addParameter(args)
-                .addModifiers(sourceElement().accessModifiers())
-                .returns(generatedTypes.parseSuccessType())
-                .addCode(code.build())
-                .build();
+        return code.build();
+    }
+
+    /* Same as body, without lambdas or method references. */
+    private CodeBlock lambdaFreeBody(ParameterSpec args) {
+        TypeName requestType = ParameterizedTypeName.get(EITHER,
+                WildcardTypeName.subtypeOf(AtFileError.class), LIST_OF_STRING);
+        ParameterSpec request = builder(requestType, "request").build();
+        ParameterSpec result = builder(generatedTypes.parseResultType(), "result").build();
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T $N = $T.from($N).expand()", requestType, request, ParseRequest.class, args);
+        code.beginControlFlow("if ($N.isLeft())", request)
+                .addStatement("$T.builder().build().printErrorMessage($N.getLeft().get().addModel($N()))",
+                        StandardErrorHandler.class, request, createModelMethod.get())
+                .addStatement("$T.exit(1)", System.class)
+                .addStatement("throw new $T()", RuntimeException.class)
+                .endControlFlow();
+        code.addStatement("$T $N = $N($N.getRight().get())", result.type, result, parseMethod.get(), request);
+        code.beginControlFlow("if ($N.isLeft())", result)
+                .addStatement("$T.builder().build().printErrorMessage($N.getLeft().get())",
+                        StandardErrorHandler.class, result)
+                .addStatement("$T.exit(1)", System.class)
+                .addStatement("throw new $T()", RuntimeException.class)
+                .endControlFlow();
+        code.addStatement("return $N.getRight().get()", result);
+        return code.build();
     }
 }
@@ -2,6 +2,7 @@ package net.jbock.writing;
 
 import io.jbock.javapoet.TypeSpec;
 import jakarta.inject.Inject;
+import net.jbock.common.GeneratorOptions;
 
 import javax.lang.model.element.Modifier;
 
@@ -16,9 +17,12 @@ public final class ParserClass extends HasCommandRepresentation {
     private final ParseOrExitMethod parseOrExitMethod;
     private final CreateModelMethod createModelMethod;
     private final GeneratedAnnotation generatedAnnotation;
-    private final OptionNamesMethod optionNamesMethod;
-    private final OptionStatesMethod optionStatesMethod;
+    private final OptionLookupMethod optionLookupMethod;
+    private final ParserTypeFactory parserTypeFactory;
     private final ImplClass implClass;
+    private final UsageDocumentationFields usageDocumentationFields;
+    private final SubcommandRegistryClass subcommandRegistryClass;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     ParserClass(
@@ -28,18 +32,24 @@ public final class ParserClass extends HasCommandRepresentation {
             ParseOrExitMethod parseOrExitMethod,
             CreateModelMethod createModelMethod,
             GeneratedAnnotation generatedAnnotation,
-            OptionNamesMethod optionNamesMethod,
-            OptionStatesMethod optionStatesMethod,
-            ImplClass implClass) {
+            OptionLookupMethod optionLookupMethod,
+            ParserTypeFactory parserTypeFactory,
+            ImplClass implClass,
+            UsageDocumentationFields usageDocumentationFields,
+            SubcommandRegistryClass subcommandRegistryClass,
+            GeneratorOptions generatorOptions) {
         super(commandRepresentation);
         this.parseMethod = parseMethod;
         this.optionEnum = optionEnum;
         this.parseOrExitMethod = parseOrExitMethod;
         this.createModelMethod = createModelMethod;
         this.generatedAnnotation = generatedAnnotation;
-        this.optionNamesMethod = optionNamesMethod;
-        this.optionStatesMethod = optionStatesMethod;
+        this.optionLookupMethod = optionLookupMethod;
+        this.parserTypeFactory = parserTypeFactory;
         this.implClass = implClass;
+        this.usageDocumentationFields = usageDocumentationFields;
+        this.subcommandRegistryClass = subcommandRegistryClass;
+        this.generatorOptions = generatorOptions;
     }
 
     /**
@@ -49,21 +59,31 @@ public final class ParserClass extends HasCommandRepresentation {
      */
     public TypeSpec define() {
         TypeSpec.Builder spec = TypeSpec.classBuilder(sourceElement().generatedClass());
+        spec.addField(parserTypeFactory.tableField());
         spec.addMethod(parseMethod.get());
+        spec.addMethod(parseMethod.commandLine());
+        spec.addMethod(parseMethod.withListener());
         if (!sourceElement().skipGeneratingParseOrExitMethod()) {
             spec.addMethod(parseOrExitMethod.define());
         }
         if (!namedOptions().isEmpty()) {
-            spec.addField(optionNames().toBuilder()
-                    .initializer("$N()", optionNamesMethod.get()).build());
-            spec.addMethod(optionNamesMethod.get());
-            spec.addMethod(optionStatesMethod.get());
+            spec.addMethod(optionLookupMethod.get());
+            spec.addMethods(optionLookupMethod.helpers());
+            if (generatorOptions.lambdaFree()) {
+                spec.addType(optionLookupMethod.lookupClass());
+            }
             spec.addType(optionEnum.define());
         }
 
+        spec.addFields(usageDocumentationFields.fields());
         spec.addMethod(createModelMethod.get());
+        spec.addType(createModelMethod.holder());
+        if (!sourceElement().subcommands().isEmpty()) {
+            spec.addMethod(subcommandRegistryClass.accessor());
+            spec.addType(subcommandRegistryClass.define());
+        }
 
-        return spec.addOriginatingElement(sourceElement().element())
+        return spec.addOriginatingElement(sourceElement().originatingElement())
                 .addModifiers(sourceElement().accessModifiers().toArray(new Modifier[0]))
                 .addModifiers(Modifier.FINAL)
                 .addType(implClass.define())
@@ -2,64 +2,97 @@ package net.jbock.writing;
 
 import io.jbock.javapoet.ClassName;
 import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.FieldSpec;
 import io.jbock.javapoet.ParameterizedTypeName;
 import jakarta.inject.Inject;
-import net.jbock.parse.VarargsParameterParser;
-import net.jbock.parse.StandardParser;
-import net.jbock.parse.SuperParser;
+import net.jbock.annotated.AnnotatedOption;
+import net.jbock.common.GeneratorOptions;
+import net.jbock.convert.Mapping;
+import net.jbock.parse.OptionKind;
+import net.jbock.parse.ParserTable;
+import net.jbock.parse.TableParser;
 
-import java.util.Map;
 import java.util.function.Supplier;
 
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
 import static net.jbock.common.Suppliers.memoize;
 
+/**
+ * Defines the static {@code PARSER_TABLE} field, which describes
+ * the command line syntax, and the {@link TableParser} that
+ * is created from it on each invocation of {@code parse}.
+ */
 @WritingScope
 final class ParserTypeFactory extends HasCommandRepresentation {
 
-    private final OptionStatesMethod optionStatesMethod;
+    private final OptionLookupMethod optionLookupMethod;
+    private final GeneratorOptions generatorOptions;
 
     @Inject
     ParserTypeFactory(
             CommandRepresentation commandRepresentation,
-            OptionStatesMethod optionStatesMethod) {
+            OptionLookupMethod optionLookupMethod,
+            GeneratorOptions generatorOptions) {
         super(commandRepresentation);
-        this.optionStatesMethod = optionStatesMethod;
+        this.optionLookupMethod = optionLookupMethod;
+        this.generatorOptions = generatorOptions;
     }
 
-    private final Supplier<ParserType> define = memoize(() -> {
-        CodeBlock optionNames = namedOptions().isEmpty() ?
-                CodeBlock.of("$T.of()", Map.class) :
-                CodeBlock.of("$N", optionNames());
-        CodeBlock optionStates = namedOptions().isEmpty() ?
-                CodeBlock.of("$T.of()", Map.class) :
-                CodeBlock.of("$N()", optionStatesMethod().get());
+    private final Supplier<FieldSpec> tableField = memoize(() -> {
+        String factoryMethod = isSuperCommand() ? "superCommand" :
+                varargsParameter().isPresent() ? "varargs" :
+                        "standard";
+        String command = sourceElement().programName();
         int numParams = positionalParameters().size();
-        if (isSuperCommand()) {
-            ClassName parserClass = ClassName.get(SuperParser.class);
-            CodeBlock init = CodeBlock.of("$T.create($L, $L, $L)",
-                    ClassName.get(SuperParser.class),
-                    optionNames, optionStates, numParams);
-            return new ParserType(ParameterizedTypeName.get(parserClass, optType()), init);
-        }
-        if (varargsParameter().isPresent()) {
-            ClassName parserClass = ClassName.get(VarargsParameterParser.class);
-            CodeBlock init = CodeBlock.of("$T.create($L, $L, $L)",
-                    ClassName.get(VarargsParameterParser.class),
-                    optionNames, optionStates, numParams);
-            return new ParserType(ParameterizedTypeName.get(parserClass, optType()), init);
+        CodeBlock.Builder init = CodeBlock.builder();
+        if (namedOptions().isEmpty()) {
+            init.add("$T.$L($S, $L)", ParserTable.class, factoryMethod, command, numParams);
+        } else {
+            CodeBlock optionNames = generatorOptions().lambdaFree() ?
+                    CodeBlock.of("new $T()", optionLookupMethod().lookupClassName()) :
+                    CodeBlock.of("$T::$N", sourceElement().generatedClass(), optionLookupMethod().get());
+            init.add("$T.$L($S, $L, $L$>$>", ParserTable.class, factoryMethod, command, optionNames, numParams);
+            for (Mapping<AnnotatedOption> namedOption : namedOptions()) {
+                init.add(",\n$T.$L", OptionKind.class, optionKind(namedOption));
+            }
+            init.add("$<$<)");
         }
-        ClassName parserClass = ClassName.get(StandardParser.class);
-        CodeBlock init = CodeBlock.of("$T.create($L, $L, $L)",
-                ClassName.get(StandardParser.class),
-                optionNames, optionStates, numParams);
-        return new ParserType(ParameterizedTypeName.get(parserClass, optType()), init);
+        ParameterizedTypeName type = ParameterizedTypeName.get(ClassName.get(ParserTable.class), optType());
+        return FieldSpec.builder(type, "PARSER_TABLE", PRIVATE, STATIC, FINAL)
+                .initializer(init.build())
+                .build();
+    });
+
+    private final Supplier<ParserType> define = memoize(() -> {
+        ParameterizedTypeName type = ParameterizedTypeName.get(ClassName.get(TableParser.class), optType());
+        return new ParserType(type, CodeBlock.of("$N.newParser()", tableField.get()));
     });
 
     ParserType get() {
         return define.get();
     }
 
-    private OptionStatesMethod optionStatesMethod() {
-        return optionStatesMethod;
+    FieldSpec tableField() {
+        return tableField.get();
+    }
+
+    private static OptionKind optionKind(Mapping<AnnotatedOption> namedOption) {
+        if (namedOption.isRepeatable()) {
+            return OptionKind.REPEATABLE;
+        }
+        if (namedOption.isNullary()) {
+            return OptionKind.MODE_FLAG;
+        }
+        return OptionKind.NON_REPEATABLE;
+    }
+
+    private OptionLookupMethod optionLookupMethod() {
+        return optionLookupMethod;
+    }
+
+    private GeneratorOptions generatorOptions() {
+        return generatorOptions;
     }
 }
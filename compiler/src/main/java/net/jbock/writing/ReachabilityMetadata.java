@@ -0,0 +1,97 @@
+package net.jbock.writing;
+
+import io.jbock.javapoet.ClassName;
+import jakarta.inject.Inject;
+import net.jbock.common.GeneratorOptions;
+import net.jbock.common.TypeTool;
+import net.jbock.convert.Mapping;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the {@code reachability-metadata.json} file for GraalVM native-image.
+ * The generated parser does not use reflection or resources,
+ * but the enum converters call {@link Enum#valueOf(Class, String)},
+ * which invokes the {@code values} method of the enum reflectively.
+ * Lambda-free code does not call {@code valueOf}, so no metadata is needed in that case.
+ */
+@WritingScope
+public final class ReachabilityMetadata extends HasCommandRepresentation {
+
+    private final GeneratorOptions generatorOptions;
+
+    @Inject
+    ReachabilityMetadata(
+            CommandRepresentation commandRepresentation,
+            GeneratorOptions generatorOptions) {
+        super(commandRepresentation);
+        this.generatorOptions = generatorOptions;
+    }
+
+    /**
+     * Returns the resource path of the metadata file.
+     * There is one file per command, so that the processor remains isolating.
+     *
+     * @return resource path, relative to the class output
+     */
+    public Optional<String> path() {
+        return generatorOptions.nativeImage().map(dir -> "META-INF/native-image/" + dir + "/" +
+                sourceElement().generatedClass().reflectionName() + "/reachability-metadata.json");
+    }
+
+    /**
+     * Returns the content of the metadata file,
+     * or an empty value if no metadata is needed.
+     */
+    public Optional<String> content() {
+        if (generatorOptions.nativeImage().isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> enumTypes = enumTypes();
+        if (enumTypes.isEmpty()) {
+            return Optional.empty();
+        }
+        StringBuilder sb = new StringBuilder("{\n  \"reflection\": [");
+        int i = 0;
+        for (String enumType : enumTypes) {
+            sb.append(i++ == 0 ? "\n" : ",\n");
+            sb.append("    {\n");
+            sb.append("      \"type\": \"").append(enumType).append("\",\n");
+            sb.append("      \"methods\": [\n");
+            sb.append("        {\"name\": \"values\", \"parameterTypes\": []}\n");
+            sb.append("      ]\n");
+            sb.append("    }");
+        }
+        sb.append("\n  ]\n}\n");
+        return Optional.of(sb.toString());
+    }
+
+    /* Binary names of the enums that are converted by EnumConverter.create(valueOf, values). */
+    private Set<String> enumTypes() {
+        Set<String> result = new TreeSet<>();
+        if (generatorOptions.lambdaFree()) {
+            return result;
+        }
+        for (Mapping<?> m : allMappings()) {
+            if (m.isNullary() || m.sourceMethod().converter().isPresent()) {
+                continue;
+            }
+            TypeTool.AS_DECLARED.visit(m.baseType())
+                    .map(DeclaredType::asElement)
+                    .flatMap(TypeTool.AS_TYPE_ELEMENT::visit)
+                    .filter(element -> element.getKind() == ElementKind.ENUM)
+                    .map(ReachabilityMetadata::binaryName)
+                    .ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private static String binaryName(TypeElement element) {
+        return ClassName.get(element).reflectionName();
+    }
+}
@@ -0,0 +1,127 @@
+package net.jbock.writing;
+
+import io.jbock.javapoet.ClassName;
+import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.FieldSpec;
+import io.jbock.javapoet.MethodSpec;
+import io.jbock.javapoet.ParameterSpec;
+import io.jbock.javapoet.ParameterizedTypeName;
+import io.jbock.javapoet.TypeName;
+import io.jbock.javapoet.TypeSpec;
+import io.jbock.javapoet.WildcardTypeName;
+import jakarta.inject.Inject;
+import net.jbock.model.CommandModel;
+import net.jbock.processor.SubcommandElement;
+import net.jbock.util.ParsingFailed;
+import net.jbock.util.SubcommandRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.jbock.javapoet.MethodSpec.methodBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.jbock.common.Constants.EITHER;
+import static net.jbock.common.Constants.LIST_OF_STRING;
+import static net.jbock.common.Suppliers.memoize;
+import static net.jbock.writing.CodeBlocks.joinByComma;
+
+/**
+ * Generates the {@code Subcommands} class, which extends {@link SubcommandRegistry},
+ * and the {@code subcommands} method that returns its only instance.
+ * Each subcommand parser is referenced from a single branch of a switch statement,
+ * so it is not loaded before the subcommand is invoked.
+ */
+@WritingScope
+final class SubcommandRegistryClass extends HasCommandRepresentation {
+
+    @Inject
+    SubcommandRegistryClass(CommandRepresentation commandRepresentation) {
+        super(commandRepresentation);
+    }
+
+    private final Supplier<TypeSpec> define = memoize(() -> {
+        ClassName className = className();
+        List<CodeBlock> names = new ArrayList<>();
+        for (SubcommandElement subcommand : subcommands()) {
+            names.add(CodeBlock.of("$S", subcommand.name()));
+        }
+        ParameterSpec index = ParameterSpec.builder(int.class, "index").build();
+        ParameterSpec tokens = ParameterSpec.builder(LIST_OF_STRING, "tokens").build();
+        TypeName parseResult = ParameterizedTypeName.get(EITHER,
+                ClassName.get(ParsingFailed.class), WildcardTypeName.subtypeOf(Object.class));
+        MethodSpec parse = methodBuilder("parseSubcommand")
+                .addAnnotation(Override.class)
+                .addParameter(index)
+                .addParameter(tokens)
+                .addCode(dispatch(index, parser -> CodeBlock.of("new $T().parse($N)", parser, tokens)))
+                .returns(parseResult)
+                .addModifiers(PROTECTED)
+                .build();
+        MethodSpec createModel = methodBuilder("createSubcommandModel")
+                .addAnnotation(Override.class)
+                .addParameter(index)
+                .addCode(dispatch(index, parser -> CodeBlock.of("new $T().createModel()", parser)))
+                .returns(CommandModel.class)
+                .addModifiers(PROTECTED)
+                .build();
+        return TypeSpec.classBuilder(className)
+                .superclass(SubcommandRegistry.class)
+                .addField(FieldSpec.builder(className, "REGISTRY", STATIC, FINAL)
+                        .initializer("new $T()", className)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($L)", joinByComma(names))
+                        .addModifiers(PRIVATE)
+                        .build())
+                .addMethod(parse)
+                .addMethod(createModel)
+                .addModifiers(PRIVATE, STATIC, FINAL)
+                .build();
+    });
+
+    private final Supplier<MethodSpec> accessor = memoize(() -> methodBuilder("subcommands")
+            .addStatement("return $T.REGISTRY", className())
+            .returns(SubcommandRegistry.class)
+            .addModifiers(sourceElement().accessModifiers())
+            .build());
+
+    TypeSpec define() {
+        return define.get();
+    }
+
+    /**
+     * Returns the {@code subcommands} method.
+     */
+    MethodSpec accessor() {
+        return accessor.get();
+    }
+
+    private CodeBlock dispatch(ParameterSpec index, Function<ClassName, CodeBlock> invocation) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.add("switch ($N) {\n", index).indent();
+        List<SubcommandElement> subcommands = subcommands();
+        for (int i = 0; i < subcommands.size(); i++) {
+            code.add("case $L:\n", i).indent()
+                    .addStatement("return $L", invocation.apply(subcommands.get(i).parserClass()))
+                    .unindent();
+        }
+        code.add("default:\n").indent()
+                .addStatement("throw new $T($T.valueOf($N))", IndexOutOfBoundsException.class, String.class, index)
+                .unindent();
+        code.unindent().add("}\n");
+        return code.build();
+    }
+
+    private List<SubcommandElement> subcommands() {
+        return sourceElement().subcommands();
+    }
+
+    private ClassName className() {
+        return sourceElement().generatedClass().nestedClass("Subcommands");
+    }
+}
@@ -0,0 +1,158 @@
+package net.jbock.writing;
+
+import io.jbock.javapoet.CodeBlock;
+import io.jbock.javapoet.FieldSpec;
+import jakarta.inject.Inject;
+import net.jbock.annotated.AnnotatedOption;
+import net.jbock.contrib.StandardErrorHandler;
+import net.jbock.convert.Mapping;
+import net.jbock.model.CommandModel;
+import net.jbock.model.Option;
+import net.jbock.model.Parameter;
+import net.jbock.processor.SubcommandElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.STATIC;
+import static net.jbock.common.Constants.STRING;
+import static net.jbock.common.Suppliers.memoize;
+
+/**
+ * Pre-renders the usage documentation for some common terminal widths,
+ * so that printing the help text does not require any layout work at runtime.
+ * If several widths render the same text, only one constant is generated.
+ */
+@WritingScope
+final class UsageDocumentationFields extends HasCommandRepresentation {
+
+    private static final List<Integer> TERMINAL_WIDTHS = List.of(80, 120);
+
+    // string constants are limited to 65535 bytes in the class file
+    private static final int MAX_CONSTANT_LENGTH = 65535;
+
+    @Inject
+    UsageDocumentationFields(CommandRepresentation commandRepresentation) {
+        super(commandRepresentation);
+    }
+
+    private final Supplier<List<RenderedField>> define = memoize(() -> {
+        CommandModel model = runtimeModel();
+        List<RenderedField> result = new ArrayList<>();
+        // the renderings for different widths are often the same, then they share a constant
+        Map<String, FieldSpec> fieldsByText = new HashMap<>();
+        for (int terminalWidth : TERMINAL_WIDTHS) {
+            for (boolean ansi : List.of(false, true)) {
+                String text = StandardErrorHandler.builder()
+                        .withTerminalWidth(terminalWidth)
+                        .withAnsi(ansi)
+                        .build()
+                        .renderUsageDocumentation(model);
+                if (modifiedUtf8Length(text) > MAX_CONSTANT_LENGTH) {
+                    continue;
+                }
+                FieldSpec field = fieldsByText.get(text);
+                boolean shared = field != null;
+                if (!shared) {
+                    String fieldName = "USAGE_" + terminalWidth + (ansi ? "_ANSI" : "");
+                    field = FieldSpec.builder(STRING, fieldName, PRIVATE, STATIC, FINAL)
+                            .initializer("$S", text)
+                            .build();
+                    fieldsByText.put(text, field);
+                }
+                result.add(new RenderedField(terminalWidth, ansi, field, shared));
+            }
+        }
+        return result;
+    });
+
+    List<FieldSpec> fields() {
+        List<FieldSpec> result = new ArrayList<>();
+        for (RenderedField rendered : define.get()) {
+            if (!rendered.shared) {
+                result.add(rendered.field);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the builder calls that register the pre-rendered
+     * usage documentation with the command model.
+     */
+    List<CodeBlock> builderCalls() {
+        List<CodeBlock> result = new ArrayList<>();
+        for (RenderedField rendered : define.get()) {
+            result.add(CodeBlock.of(".addUsageDocumentation($L, $L, $N)",
+                    rendered.terminalWidth, rendered.ansi, rendered.field));
+        }
+        return result;
+    }
+
+    private CommandModel runtimeModel() {
+        CommandModel.Builder builder = CommandModel.builder();
+        sourceElement().descriptionKey().ifPresent(builder::withDescriptionKey);
+        sourceElement().description().forEach(builder::addDescriptionLine);
+        builder.withProgramName(sourceElement().programName());
+        builder.withSuperCommand(isSuperCommand());
+        for (Mapping<AnnotatedOption> m : namedOptions()) {
+            Option.Builder option = m.isNullary() ?
+                    Option.nullary() :
+                    Option.unary(m.multiplicity());
+            option.withParamLabel(m.paramLabel());
+            m.sourceMethod().descriptionKey().ifPresent(option::withDescriptionKey);
+            option.withNames(m.sourceMethod().names());
+            m.sourceMethod().description().forEach(option::addDescriptionLine);
+            builder.addOption(option.build());
+        }
+        Stream.concat(positionalParameters().stream(), varargsParameter().stream()).forEach(m -> {
+            Parameter.Builder parameter = Parameter.builder(m.multiplicity());
+            parameter.withParamLabel(m.paramLabel());
+            m.sourceMethod().descriptionKey().ifPresent(parameter::withDescriptionKey);
+            m.sourceMethod().description().forEach(parameter::addDescriptionLine);
+            builder.addParameter(parameter.build());
+        });
+        for (SubcommandElement subcommand : sourceElement().subcommands()) {
+            builder.addSubcommand(subcommand.name(), subcommand.description());
+        }
+        return builder.build();
+    }
+
+    private static int modifiedUtf8Length(String s) {
+        int result = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                result += 1;
+            } else if (c <= 0x07FF) {
+                result += 2;
+            } else {
+                result += 3;
+            }
+        }
+        return result;
+    }
+
+    private static final class RenderedField {
+
+        final int terminalWidth;
+        final boolean ansi;
+        final FieldSpec field;
+
+        // true if the field was already defined for a different width
+        final boolean shared;
+
+        RenderedField(int terminalWidth, boolean ansi, FieldSpec field, boolean shared) {
+            this.terminalWidth = terminalWidth;
+            this.ansi = ansi;
+            this.field = field;
+            this.shared = shared;
+        }
+    }
+}
@@ -27,14 +27,14 @@ class BasicFullTest {
                         "import io.jbock.util.Either;",
                         "import io.jbock.util.Eithers;",
                         "import java.util.List;",
-                        "import java.util.Map;",
                         "import javax.annotation.processing.Generated;",
                         "import net.jbock.contrib.StandardConverters;",
                         "import net.jbock.model.CommandModel;",
                         "import net.jbock.model.ItemType;",
                         "import net.jbock.model.Multiplicity;",
                         "import net.jbock.model.Parameter;",
-                        "import net.jbock.parse.VarargsParameterParser;",
+                        "import net.jbock.parse.ParserTable;",
+                        "import net.jbock.parse.TableParser;",
                         "import net.jbock.util.ExConvert;",
                         "import net.jbock.util.ExFailure;",
                         "import net.jbock.util.ParsingFailed;",
@@ -44,8 +44,14 @@ class BasicFullTest {
                         "    comments = \"https://github.com/jbock-java/jbock\"",
                         ")",
                         "final class ArgumentsParser {",
+                        "  private static final ParserTable<Void> PARSER_TABLE = ParserTable.varargs(\"arguments\", 0);",
+                        "",
                         "  Either<ParsingFailed, Arguments> parse(List<String> tokens) {",
-                        "    VarargsParameterParser<Void> parser = VarargsParameterParser.create(Map.of(), Map.of(), 0);",
+                        "    ParseListener listener = ParseListener.registered();",
+                        "    if (listener != null) {",
+                        "      return parseWithListener(tokens, listener);",
+                        "    }",
+                        "    TableParser<Void> parser = PARSER_TABLE.newParser();",
                         "    try {",
                         "      parser.parse(tokens);",
                         "      return Either.right(new Arguments_Impl(parser));",
@@ -54,13 +60,31 @@ class BasicFullTest {
                         "    }",
                         "  }",
                         "",
+                        "  Either<ParsingFailed, Arguments> parse(CharSequence input) {",
+                        "    List<String> tokens;",
+                        "    try {",
+                        "      tokens = CommandLineTokens.tokenize(input);",
+                        "    } catch (ExToken e) {",
+                        "      return Either.left(e.toError(createModel()));",
+                        "    }",
+                        "    return parse(tokens);",
+                        "  }",
+                        "",
                         "  CommandModel createModel() {",
-                        "    return CommandModel.builder()",
-                        "          .withProgramName(\"arguments\")",
-                        "          .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
-                        "            .withParamLabel(\"HELLO\")",
-                        "            .build())",
-                        "          .build();",
+                        "    return ModelHolder.MODEL;",
+                        "  }",
+                        "",
+                        "  private static final class ModelHolder {",
+                        "    static final CommandModel MODEL = CommandModel.builder()",
+                        "      .withProgramName(\"arguments\")",
+                        "      .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
+                        "        .withParamLabel(\"HELLO\")",
+                        "        .build())",
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_80)",
+                        "      .addUsageDocumentation(120, true, USAGE_80_ANSI)",
+                        "      .build();",
                         "  }",
                         "",
                         "  private static final class Arguments_Impl extends Arguments {",
@@ -101,14 +125,14 @@ class BasicFullTest {
                         "import io.jbock.util.Either;",
                         "import io.jbock.util.Eithers;",
                         "import java.util.List;",
-                        "import java.util.Map;",
                         "import javax.annotation.processing.Generated;",
                         "import net.jbock.contrib.StandardConverters;",
                         "import net.jbock.model.CommandModel;",
                         "import net.jbock.model.ItemType;",
                         "import net.jbock.model.Multiplicity;",
                         "import net.jbock.model.Parameter;",
-                        "import net.jbock.parse.VarargsParameterParser;",
+                        "import net.jbock.parse.ParserTable;",
+                        "import net.jbock.parse.TableParser;",
                         "import net.jbock.util.ExConvert;",
                         "import net.jbock.util.ExFailure;",
                         "import net.jbock.util.ParsingFailed;",
@@ -118,8 +142,10 @@ class BasicFullTest {
                         "    comments = \"https://github.com/jbock-java/jbock\"",
                         ")",
                         "public final class ArgumentsParser {",
+                        "  private static final ParserTable<Void> PARSER_TABLE = ParserTable.varargs(\"arguments\", 0);",
+                        "",
                         "  public Either<ParsingFailed, Arguments> parse(List<String> tokens) {",
-                        "    VarargsParameterParser<Void> parser = VarargsParameterParser.create(Map.of(), Map.of(), 0);",
+                        "    TableParser<Void> parser = PARSER_TABLE.newParser();",
                         "    try {",
                         "      parser.parse(tokens);",
                         "      return Either.right(new Arguments_Impl(parser));",
@@ -129,12 +155,20 @@ class BasicFullTest {
                         "  }",
                         "",
                         "  public CommandModel createModel() {",
-                        "    return CommandModel.builder()",
-                        "          .withProgramName(\"arguments\")",
-                        "          .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
-                        "            .withParamLabel(\"HELLO\")",
-                        "            .build())",
-                        "          .build();",
+                        "    return ModelHolder.MODEL;",
+                        "  }",
+                        "",
+                        "  private static final class ModelHolder {",
+                        "    static final CommandModel MODEL = CommandModel.builder()",
+                        "      .withProgramName(\"arguments\")",
+                        "      .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
+                        "        .withParamLabel(\"HELLO\")",
+                        "        .build())",
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_80)",
+                        "      .addUsageDocumentation(120, true, USAGE_80_ANSI)",
+                        "      .build();",
                         "  }",
                         "",
                         "  private static final class Arguments_Impl extends Arguments {",
@@ -158,4 +192,77 @@ class BasicFullTest {
         assertThat(compilation).generatedSourceFile("test.ArgumentsParser")
                 .containsLines(expectedParser);
     }
+
+    @Test
+    void testPrerenderedUsageDocumentation() {
+        JavaFileObject javaFile = fromSource(
+                "@Command(skipGeneratingParseOrExitMethod = true)",
+                "abstract class Arguments {",
+                "",
+                "  @VarargsParameter",
+                "  abstract List<String> hello();",
+                "}");
+        List<String> expectedParser =
+                List.of(
+                        "final class ArgumentsParser {",
+                        "  private static final String USAGE_80 = \"USAGE\\n\"",
+                        "      + \"  arguments HELLO...\\n\"",
+                        "      + \"\\n\"",
+                        "      + \"PARAMETERS\\n\"",
+                        "      + \"  HELLO \\n\";",
+                        "",
+                        "  private static final String USAGE_80_ANSI = \"\\u001b[1mUSAGE\\u001b[m\\n\"",
+                        "  CommandModel createModel() {",
+                        "    return ModelHolder.MODEL;",
+                        "  }",
+                        "",
+                        "  private static final class ModelHolder {",
+                        "    static final CommandModel MODEL = CommandModel.builder()",
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_80)",
+                        "      .addUsageDocumentation(120, true, USAGE_80_ANSI)",
+                        "      .build();",
+                        "  }");
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.ArgumentsParser")
+                .containsLines(expectedParser);
+    }
+
+    @Test
+    void testUsageDocumentationSharedBetweenWidths() {
+        JavaFileObject javaFile = fromSource(
+                "@Command(skipGeneratingParseOrExitMethod = true)",
+                "abstract class Arguments {",
+                "",
+                "  @VarargsParameter",
+                "  abstract List<String> hello();",
+                "}");
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.ArgumentsParser")
+                .contentsAsUtf8String()
+                .doesNotContain("String USAGE_120");
+    }
+
+    @Test
+    void testUsageDocumentationDifferentWidths() {
+        JavaFileObject javaFile = fromSource(
+                "@Command(skipGeneratingParseOrExitMethod = true)",
+                "abstract class Arguments {",
+                "",
+                "  @VarargsParameter(description = {\"This description is long enough to need a line break\",",
+                "      \"if the terminal is only eighty columns wide, but not if it is wider.\"})",
+                "  abstract List<String> hello();",
+                "}");
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.ArgumentsParser")
+                .containsLines(
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_120)",
+                        "      .addUsageDocumentation(120, true, USAGE_120_ANSI)");
+    }
 }
@@ -0,0 +1,178 @@
+package net.jbock.processor;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.jbock.testing.compile.JavaFileObjects.forSourceLines;
+
+/**
+ * Generates a synthetic set of command classes.
+ * Each command has a fixed number of annotated methods,
+ * mixing auto types, enums, {@code Optional}, {@code List},
+ * flags, required options and custom converters.
+ * The commands also extend one of a few shared base classes,
+ * which declare some inherited options.
+ */
+final class Corpus {
+
+    // two positional parameters and one varargs parameter
+    private static final int PARAMETERS = 3;
+
+    // number of base classes, each of which declares three options
+    private static final int SHARED_BASES = 3;
+
+    private final int commands;
+    private final int methods;
+
+    private Corpus(int commands, int methods) {
+        this.commands = commands;
+        this.methods = methods;
+    }
+
+    /**
+     * @param commands number of command classes
+     * @param methods number of annotated methods per command class, at least 3,
+     *                not counting the methods that are inherited from the base class
+     * @return a corpus
+     */
+    static Corpus create(int commands, int methods) {
+        if (methods < PARAMETERS) {
+            throw new IllegalArgumentException("methods must be at least " + PARAMETERS);
+        }
+        return new Corpus(commands, methods);
+    }
+
+    int commands() {
+        return commands;
+    }
+
+    int methods() {
+        return methods;
+    }
+
+    List<JavaFileObject> sources() {
+        List<JavaFileObject> result = new ArrayList<>(commands);
+        for (int i = 0; i < commands; i++) {
+            result.add(command(i));
+        }
+        for (int i = 0; i < Math.min(commands, SHARED_BASES); i++) {
+            result.add(base(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of inherited methods that
+     * could be taken from the cache, because a base class
+     * is shared with a previous command.
+     */
+    int sharedInheritedMethods() {
+        return 3 * Math.max(0, commands - SHARED_BASES);
+    }
+
+    private static JavaFileObject base(int i) {
+        String className = "Base" + i;
+        String prefix = "base" + i;
+        return forSourceLines("corpus." + className,
+                "package corpus;",
+                "",
+                "import java.util.List;",
+                "import java.util.Optional;",
+                "import net.jbock.Option;",
+                "import net.jbock.util.StringConverter;",
+                "",
+                "abstract class " + className + " {",
+                "",
+                "  @Option(names = \"--" + prefix + "-a\", description = \"Shared option a.\")",
+                "  abstract Optional<Integer> " + prefix + "a();",
+                "",
+                "  @Option(names = \"--" + prefix + "-b\", description = \"Shared option b.\")",
+                "  abstract List<String> " + prefix + "b();",
+                "",
+                "  @Option(names = \"--" + prefix + "-c\", converter = TrimConverter.class, description = \"Shared option c.\")",
+                "  abstract Optional<String> " + prefix + "c();",
+                "",
+                "  static class TrimConverter extends StringConverter<String> {",
+                "    @Override",
+                "    protected String convert(String token) {",
+                "      return token.trim();",
+                "    }",
+                "  }",
+                "}");
+    }
+
+    private JavaFileObject command(int i) {
+        String className = "Command" + i;
+        List<String> lines = new ArrayList<>();
+        lines.add("package corpus;");
+        lines.add("");
+        lines.add("import java.nio.file.Path;");
+        lines.add("import java.util.List;");
+        lines.add("import java.util.Optional;");
+        lines.add("import net.jbock.Command;");
+        lines.add("import net.jbock.Option;");
+        lines.add("import net.jbock.Parameter;");
+        lines.add("import net.jbock.VarargsParameter;");
+        lines.add("import net.jbock.util.StringConverter;");
+        lines.add("");
+        lines.add("@Command(name = \"command" + i + "\", description = \"Synthetic command " + i + ".\")");
+        lines.add("abstract class " + className + " extends Base" + (i % SHARED_BASES) + " {");
+        lines.add("");
+        lines.add("  @Parameter(index = 0, description = \"The first parameter.\")");
+        lines.add("  abstract String param0();");
+        lines.add("");
+        lines.add("  @Parameter(index = 1, description = \"The second parameter.\")");
+        lines.add("  abstract Optional<Long> param1();");
+        lines.add("");
+        lines.add("  @VarargsParameter(description = \"The remaining parameters.\")");
+        lines.add("  abstract List<String> rest();");
+        for (int j = 0; j < methods - PARAMETERS; j++) {
+            lines.add("");
+            lines.addAll(option(j));
+        }
+        lines.add("");
+        lines.add("  enum Mode {FAST, SLOW, AUTO}");
+        lines.add("");
+        lines.add("  static class UpperConverter extends StringConverter<String> {");
+        lines.add("    @Override");
+        lines.add("    protected String convert(String token) {");
+        lines.add("      return token.toUpperCase();");
+        lines.add("    }");
+        lines.add("  }");
+        lines.add("}");
+        return forSourceLines("corpus." + className, lines);
+    }
+
+    private static List<String> option(int j) {
+        String name = "opt" + j;
+        String names = "names = \"--" + name + "\"";
+        String description = "description = \"Option number " + j + ".\"";
+        switch (j % 6) {
+            case 0:
+                return List.of(
+                        "  @Option(" + names + ", " + description + ")",
+                        "  abstract Optional<Integer> " + name + "();");
+            case 1:
+                return List.of(
+                        "  @Option(" + names + ", " + description + ")",
+                        "  abstract List<String> " + name + "();");
+            case 2:
+                return List.of(
+                        "  @Option(" + names + ", " + description + ")",
+                        "  abstract Optional<Mode> " + name + "();");
+            case 3:
+                return List.of(
+                        "  @Option(" + names + ", converter = UpperConverter.class, " + description + ")",
+                        "  abstract Optional<String> " + name + "();");
+            case 4:
+                return List.of(
+                        "  @Option(" + names + ", " + description + ")",
+                        "  abstract boolean " + name + "();");
+            default:
+                return List.of(
+                        "  @Option(" + names + ", " + description + ")",
+                        "  abstract Path " + name + "();");
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package net.jbock.processor;
 
+import io.jbock.testing.compile.Compilation;
 import org.junit.jupiter.api.Test;
 
 import javax.tools.JavaFileObject;
 import java.util.List;
 
 import static io.jbock.common.truth.Truth.assertAbout;
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
 import static io.jbock.testing.compile.JavaSourcesSubjectFactory.javaSources;
 import static java.util.Collections.singletonList;
 import static net.jbock.processor.Processor.fromSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class InheritanceTest {
 
@@ -26,8 +29,7 @@ class InheritanceTest {
                 "}");
         assertAbout(javaSources()).that(singletonList(javaFile))
                 .processedWith(Processor.testInstance())
-                .failsToCompile()
-                .withErrorContaining("invalid superclass: expecting java.lang.Object, but found: test.Arguments");
+                .compilesWithoutError();
     }
 
     @Test
@@ -38,10 +40,24 @@ class InheritanceTest {
                 "  @Parameter(index = 0)",
                 "  abstract String something();",
                 "}");
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertEquals(0, compilation.generatedSourceFiles().size());
+    }
+
+    @Test
+    void enclosedInEnum() {
+        JavaFileObject javaFile = fromSource(
+                "enum Arguments {",
+                "  A;",
+                "",
+                "  @Parameter(index = 0)",
+                "  abstract String something();",
+                "}");
         assertAbout(javaSources()).that(singletonList(javaFile))
                 .processedWith(Processor.testInstance())
                 .failsToCompile()
-                .withErrorContaining("missing command annotation: interface 'Arguments' must be annotated with net.jbock.Command");
+                .withErrorContaining("missing command annotation: enum 'Arguments' must be annotated with net.jbock.Command");
     }
 
     @Test
@@ -64,9 +80,25 @@ class InheritanceTest {
                 "  abstract String param();",
                 "}");
         assertAbout(javaSources()).that(List.of(a, b, c))
+                .processedWith(Processor.testInstance())
+                .compilesWithoutError();
+    }
+
+    @Test
+    void inheritedMethodNotImplemented() {
+        JavaFileObject a = fromSource(
+                "abstract class A {",
+                "",
+                "  abstract String inheritedMethod(String a);",
+                "}");
+        JavaFileObject c = fromSource(
+                "@Command",
+                "abstract class C extends A {",
+                "}");
+        assertAbout(javaSources()).that(List.of(a, c))
                 .processedWith(Processor.testInstance())
                 .failsToCompile()
-                .withErrorContaining("invalid superclass: expecting java.lang.Object, but found: test.B");
+                .withErrorContaining("missing annotation");
     }
 
     @Test
@@ -90,7 +122,33 @@ class InheritanceTest {
         assertAbout(javaSources()).that(List.of(parent, c))
                 .processedWith(Processor.testInstance())
                 .failsToCompile()
-                .withErrorContaining("invalid command class: the command class or interface may not implement or extend any interfaces, but found: [Parent]");
+                .withErrorContaining("missing annotation: add one of these annotations: [Option, Parameter, Parameters, VarargsParameter] to method 'dest'");
+    }
+
+    @Test
+    void abstractOverridesAnnotated() {
+        JavaFileObject parent = fromSource(
+                "interface Parent {",
+                "",
+                "  @Parameter(index = 0)",
+                "  String source();",
+                "",
+                "  @Parameter(index = 1)",
+                "  String dest();",
+                "}");
+        JavaFileObject c = fromSource(
+                "@Command",
+                "abstract class C implements Parent {",
+                "",
+                "  @Override",
+                "  @Parameter(index = 1, paramLabel = \"DESTINATION\")",
+                "  public abstract String dest();",
+                "}");
+        Compilation compilation = Processor.compiler().compile(parent, c);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.CParser")
+                .contentsAsUtf8String()
+                .contains("DESTINATION");
     }
 
     @Test
@@ -109,8 +167,7 @@ class InheritanceTest {
                 "}");
         assertAbout(javaSources()).that(List.of(parent, c))
                 .processedWith(Processor.testInstance())
-                .failsToCompile()
-                .withErrorContaining("invalid command class: the command class or interface may not implement or extend any interfaces, but found: [Parent]");
+                .compilesWithoutError();
     }
 
     @Test
@@ -131,10 +188,11 @@ class InheritanceTest {
                 "  @Parameter(index = 0)",
                 "  abstract String param();",
                 "}");
-        assertAbout(javaSources()).that(List.of(a, b))
-                .processedWith(Processor.testInstance())
-                .failsToCompile()
-                .withErrorContaining("invalid superclass: expecting java.lang.Object, but found: test.A");
+        Compilation compilation = Processor.compiler().compile(a, b);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.BParser")
+                .contentsAsUtf8String()
+                .doesNotContain("--ouch");
     }
 
     @Test
@@ -160,7 +218,7 @@ class InheritanceTest {
         assertAbout(javaSources()).that(List.of(a, b, c))
                 .processedWith(Processor.testInstance())
                 .failsToCompile()
-                .withErrorContaining("invalid command class: the command class or interface may not implement or extend any interfaces, but found: [Bbb, Aaa]");
+                .withErrorContaining("conflicting inherited methods: 'foo' is declared in");
     }
 
     @Test
@@ -176,16 +234,17 @@ class InheritanceTest {
                 "@Command",
                 "abstract class B extends A {",
                 "",
-                "  @Option(names = \"--ouch\")",
+                "  @Option(names = \"--wasp\")",
                 "  abstract String wasp();",
                 "",
                 "  @Parameter(index = 0)",
                 "  abstract String param();",
                 "}");
-        assertAbout(javaSources()).that(List.of(a, b))
-                .processedWith(Processor.testInstance())
-                .failsToCompile()
-                .withErrorContaining("invalid superclass: expecting java.lang.Object, but found: test.A");
+        Compilation compilation = Processor.compiler().compile(a, b);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.BParser")
+                .contentsAsUtf8String()
+                .doesNotContain("--ouch");
     }
 
     @Test
@@ -207,6 +266,97 @@ class InheritanceTest {
         assertAbout(javaSources()).that(List.of(a, c))
                 .processedWith(Processor.testInstance())
                 .failsToCompile()
-                .withErrorContaining("invalid superclass: expecting java.lang.Object, but found: test.A");
+                .withErrorContaining("invalid position: expecting 1 but found 0");
+    }
+
+    @Test
+    void genericSupertype() {
+        JavaFileObject a = fromSource(
+                "abstract class A<T> {",
+                "",
+                "  @Option(names = \"--value\")",
+                "  abstract T value();",
+                "}");
+        JavaFileObject c = fromSource(
+                "@Command",
+                "abstract class C extends A<String> {",
+                "}");
+        assertAbout(javaSources()).that(List.of(a, c))
+                .processedWith(Processor.testInstance())
+                .failsToCompile()
+                .withErrorContaining("invalid supertype: test.A may not have type parameters");
+    }
+
+    @Test
+    void sharedBaseClassAndInterface() {
+        JavaFileObject common = fromSource(
+                "abstract class Common implements Verbose {",
+                "",
+                "  @Option(names = \"--level\", converter = LevelConverter.class)",
+                "  abstract Optional<Integer> level();",
+                "",
+                "  static class LevelConverter extends StringConverter<Integer> {",
+                "    @Override",
+                "    protected Integer convert(String token) { return token.length(); }",
+                "  }",
+                "}");
+        JavaFileObject verbose = fromSource(
+                "interface Verbose {",
+                "",
+                "  @Option(names = \"--verbose\")",
+                "  boolean verbose();",
+                "}");
+        JavaFileObject first = fromSource(
+                "@Command",
+                "abstract class First extends Common {",
+                "",
+                "  @Parameter(index = 0)",
+                "  abstract String file();",
+                "}");
+        JavaFileObject second = fromSource(
+                "@Command",
+                "abstract class Second extends Common {",
+                "",
+                "  @Option(names = \"--out\")",
+                "  abstract String out();",
+                "}");
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.stats=true")
+                .compile(common, verbose, first, second);
+        assertThat(compilation).succeeded();
+        // the second command reuses the validated methods of the first, and the mapping of the unary option
+        assertThat(compilation).hadNoteContaining("executable cache hits: 2" + System.lineSeparator());
+        assertThat(compilation).hadNoteContaining("mapping cache hits: 1" + System.lineSeparator());
+        for (String parser : List.of("test.FirstParser", "test.SecondParser")) {
+            assertThat(compilation).generatedSourceFile(parser)
+                    .contentsAsUtf8String()
+                    .contains("new Common.LevelConverter()");
+            assertThat(compilation).generatedSourceFile(parser)
+                    .contentsAsUtf8String()
+                    .contains("--verbose");
+        }
+    }
+
+    @Test
+    void converterOfInheritedMethod() {
+        JavaFileObject common = fromSource(
+                "abstract class Common {",
+                "",
+                "  @Option(names = \"--level\", converter = First.LevelConverter.class)",
+                "  abstract Optional<Integer> level();",
+                "}");
+        JavaFileObject first = fromSource(
+                "@Command",
+                "abstract class First extends Common {",
+                "",
+                "  static class LevelConverter extends StringConverter<Integer> {",
+                "    @Override",
+                "    protected Integer convert(String token) { return token.length(); }",
+                "  }",
+                "}");
+        assertAbout(javaSources()).that(List.of(common, first))
+                .processedWith(Processor.testInstance())
+                .failsToCompile()
+                .withErrorContaining("converter of 'level' must be an inner class of the class 'Common'");
     }
 }
@@ -0,0 +1,224 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import io.jbock.util.Either;
+import net.jbock.util.ParsingFailed;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static io.jbock.testing.compile.JavaFileObjects.forSourceLines;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the code which is generated with {@code -Ajbock.lambdaFree=true}
+ * behaves the same as the default code.
+ * The startup benchmark is excluded from the {@code test} task,
+ * run it with {@code gradle :compiler:benchmark}.
+ */
+class LambdaFreeTest {
+
+    private static final List<List<String>> INPUTS = List.of(
+            List.of("p0", "--opt5", "/tmp"),
+            List.of("p0", "7", "r1", "r2", "--opt5=/tmp", "--opt0", "12", "--opt1", "a", "--opt1", "b",
+                    "--opt2", "fast", "--opt3=x", "--opt4", "--opt6", "-1"),
+            List.of("p0", "--opt2", "Slow", "--opt5", "/tmp", "--opt8", "AUTO", "--opt7", "b", "--opt7", "c"),
+            List.of("p0"),
+            List.of("--opt5", "/tmp"),
+            List.of("p0", "--opt5", "/tmp", "--opt0", "x"),
+            List.of("p0", "--opt5", "/tmp", "--opt2", "medium"),
+            List.of("p0", "x", "--opt5", "/tmp"),
+            List.of("p0", "--opt5", "/tmp", "--opt5", "/tmp"),
+            List.of("p0", "--opt5", "/tmp", "--opt9"));
+
+    @Test
+    void sameResults() throws Exception {
+        Corpus corpus = Corpus.create(1, 12);
+        ClassLoader standard = load(compile(corpus.sources(), false));
+        ClassLoader lambdaFree = load(compile(corpus.sources(), true));
+        for (List<String> input : INPUTS) {
+            assertEquals(parse(standard, input), parse(lambdaFree, input), input.toString());
+        }
+    }
+
+    @Test
+    void noLambdas() {
+        Compilation compilation = compile(Corpus.create(1, 60).sources(), true);
+        for (JavaFileObject file : compilation.generatedSourceFiles()) {
+            String content = content(file);
+            assertFalse(content.contains("->"), content);
+            assertFalse(content.contains("::"), content);
+            assertFalse(content.contains("stream()"), content);
+        }
+    }
+
+    @Test
+    void convertersReceiveCommandName() {
+        Compilation compilation = compile(Corpus.create(1, 12).sources(), true);
+        String content = compilation.generatedSourceFiles().stream()
+                .map(LambdaFreeTest::content)
+                .filter(file -> file.contains("applyOrThrow("))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(content.contains(".applyOrThrow(token, \"command0\", ItemType."), content);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void startup() throws Exception {
+        List<JavaFileObject> sources = new ArrayList<>(Corpus.create(1, 30).sources());
+        sources.add(forSourceLines("corpus.Main",
+                "package corpus;",
+                "",
+                "public class Main {",
+                "  public static void main(String[] args) {",
+                "    long start = System.nanoTime();",
+                "    Object result = new Command0Parser().parse(java.util.List.of(args));",
+                "    System.out.println(System.nanoTime() - start);",
+                "    if (result == null) throw new AssertionError();",
+                "  }",
+                "}"));
+        String[] args = {"p0", "7", "--opt5", "/tmp", "--opt0", "12", "--opt2", "fast", "--opt3=x"};
+        Path standard = writeClasses(compile(sources, false));
+        Path lambdaFree = writeClasses(compile(sources, true));
+        int runs = Integer.getInteger("jbock.benchmark.runs", 10);
+        System.out.println(String.format(Locale.ROOT, "%12s %18s %16s", "mode", "first parse us", "process ms"));
+        for (int i = 0; i < 2; i++) {
+            report("default", standard, args, runs);
+            report("lambdaFree", lambdaFree, args, runs);
+        }
+    }
+
+    private static void report(String mode, Path classes, String[] args, int runs) throws Exception {
+        long parseNanos = 0;
+        long processNanos = 0;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            parseNanos += launch(classes, args);
+            processNanos += System.nanoTime() - start;
+        }
+        System.out.println(String.format(Locale.ROOT, "%12s %18.0f %16.1f", mode,
+                parseNanos / (runs * 1e3), processNanos / (runs * 1e6)));
+    }
+
+    private static long launch(Path classes, String[] args) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xshare:auto");
+        command.add("-cp");
+        command.add(classes + System.getProperty("path.separator") + System.getProperty("java.class.path"));
+        command.add("corpus.Main");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes()).trim();
+        assertEquals(0, process.waitFor(), output);
+        return Long.parseLong(output);
+    }
+
+    private static Compilation compile(List<JavaFileObject> sources, boolean lambdaFree) {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.lambdaFree=" + lambdaFree)
+                .compile(sources);
+        assertThat(compilation).succeeded();
+        return compilation;
+    }
+
+    /* Returns the values of all annotated methods, or the error message. */
+    private static Object parse(ClassLoader loader, List<String> tokens) throws Exception {
+        Class<?> command = loader.loadClass("corpus.Command0");
+        Class<?> parser = loader.loadClass("corpus.Command0Parser");
+        Method parse = parser.getDeclaredMethod("parse", List.class);
+        parse.setAccessible(true);
+        java.lang.reflect.Constructor<?> constructor = parser.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Either<?, ?> result = (Either<?, ?>) parse.invoke(constructor.newInstance(), tokens);
+        if (result.isLeft()) {
+            ParsingFailed failure = (ParsingFailed) result.getLeft().orElseThrow();
+            return failure.getClass().getSimpleName() + ": " + failure.message();
+        }
+        Object success = result.getRight().orElseThrow();
+        // compare strings, because the enum classes of the two compilations are different
+        Map<String, String> values = new HashMap<>();
+        for (Method method : command.getDeclaredMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                method.setAccessible(true);
+                values.put(method.getName(), String.valueOf(method.invoke(success)));
+            }
+        }
+        assertTrue(values.size() >= 12);
+        return values;
+    }
+
+    private static ClassLoader load(Compilation compilation) {
+        Map<String, byte[]> classes = classFiles(compilation);
+        return new ClassLoader(LambdaFreeTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+
+    private static Path writeClasses(Compilation compilation) throws IOException {
+        Path dir = Files.createTempDirectory("jbock-startup");
+        for (Map.Entry<String, byte[]> entry : classFiles(compilation).entrySet()) {
+            Path file = dir.resolve(entry.getKey().replace('.', '/') + ".class");
+            Files.createDirectories(file.getParent());
+            Files.write(file, entry.getValue());
+        }
+        return dir;
+    }
+
+    private static Map<String, byte[]> classFiles(Compilation compilation) {
+        Map<String, byte[]> result = new HashMap<>();
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() != JavaFileObject.Kind.CLASS) {
+                continue;
+            }
+            String path = file.toUri().getPath();
+            String name = path.substring(path.indexOf("/corpus/") + 1, path.length() - ".class".length())
+                    .replace('/', '.');
+            result.put(name, bytes(file));
+        }
+        return result;
+    }
+
+    private static byte[] bytes(JavaFileObject file) {
+        try (InputStream in = file.openInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String content(JavaFileObject file) {
+        try {
+            return file.getCharContent(true).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+
+class LargeCommandTest {
+
+    @Test
+    void smallCommandIsNotSplit() {
+        // 47 methods, and 3 inherited methods
+        Compilation compilation = Processor.compiler().compile(Corpus.create(1, 47).sources());
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("corpus.Command0Parser")
+                .contentsAsUtf8String()
+                .doesNotContain("addItems0(");
+    }
+
+    @Test
+    void largeCommandIsSplit() {
+        Compilation compilation = Processor.compiler().compile(Corpus.create(1, 1200).sources());
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("corpus.Command0Parser")
+                .contentsAsUtf8String()
+                .contains("addItems23(builder);");
+        assertThat(compilation).generatedSourceFile("corpus.Command0Parser")
+                .contentsAsUtf8String()
+                .contains("return lookupOption9(token);");
+        assertThat(compilation).generatedSourceFile("corpus.Command0Parser")
+                .contentsAsUtf8String()
+                .contains("PARSER_TABLE = ParserTable.varargs(\"command0\", Command0Parser::lookupOption, 2,");
+        assertThat(compilation).generatedSourceFile("corpus.Command0Parser")
+                .contentsAsUtf8String()
+                .contains("this.opt0 = opt0(result);");
+    }
+}
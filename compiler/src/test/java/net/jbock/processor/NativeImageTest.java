@@ -0,0 +1,54 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static net.jbock.processor.Processor.fromSource;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeImageTest {
+
+    private static final String METADATA =
+            "META-INF/native-image/com.example/app/test.ArgumentsParser/reachability-metadata.json";
+
+    private final JavaFileObject javaFile = fromSource(
+            "@Command",
+            "abstract class Arguments {",
+            "",
+            "  enum Color {RED, GREEN}",
+            "",
+            "  @Option(names = \"--color\")",
+            "  abstract Optional<Color> color();",
+            "}");
+
+    @Test
+    void enumIsRegistered() {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.nativeImage=com.example/app")
+                .compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedFile(CLASS_OUTPUT, METADATA)
+                .contentsAsUtf8String()
+                .contains("\"type\": \"test.Arguments$Color\"");
+    }
+
+    @Test
+    void noMetadataIfLambdaFree() {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.nativeImage=com.example/app", "-Ajbock.lambdaFree=true")
+                .compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertTrue(compilation.generatedFile(CLASS_OUTPUT, METADATA).isEmpty());
+    }
+
+    @Test
+    void noMetadataByDefault() {
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeeded();
+        assertTrue(compilation.generatedFile(CLASS_OUTPUT, METADATA).isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import net.jbock.common.ModelAccess;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static io.jbock.testing.compile.JavaFileObjects.forSourceLines;
+import static net.jbock.processor.Processor.fromSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelismTest {
+
+    @Test
+    void sameOutput() {
+        List<JavaFileObject> sources = Corpus.create(12, 20).sources();
+        Map<String, String> sequential = generatedSources(compile(sources, 1));
+        Map<String, String> parallel = generatedSources(compile(sources, 4));
+        assertEquals(12, parallel.size());
+        assertEquals(sequential, parallel);
+    }
+
+    /* The model accessors throw on the worker threads, so this fails if define() touches the javac model. */
+    @Test
+    void noModelAccessOnWorkerThreads() {
+        List<JavaFileObject> sources = new ArrayList<>(Corpus.create(4, 12).sources());
+        sources.add(forSourceLines("test.Add",
+                "package test;",
+                "",
+                "import net.jbock.Command;",
+                "import net.jbock.VarargsParameter;",
+                "import java.util.List;",
+                "",
+                "@Command(name = \"add\", description = \"Add files.\")",
+                "interface Add {",
+                "",
+                "  @VarargsParameter",
+                "  List<String> files();",
+                "}"));
+        sources.add(forSourceLines("test.Git",
+                "package test;",
+                "",
+                "import net.jbock.Option;",
+                "import net.jbock.Parameter;",
+                "import net.jbock.SuperCommand;",
+                "import java.util.Optional;",
+                "",
+                "@SuperCommand(name = \"git\", subcommands = Add.class)",
+                "abstract class Git {",
+                "",
+                "  @Option(names = \"--git-dir\")",
+                "  abstract Optional<String> gitDir();",
+                "",
+                "  @Parameter(index = 0)",
+                "  abstract String command();",
+                "}"));
+        Map<String, String> sequential = generatedSources(compile(sources, 1));
+        Map<String, String> parallel = generatedSources(compile(sources, 4));
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void workerThreadsCannotAccessModel() throws Exception {
+        Thread thread = ModelAccess.newWorkerThread(ModelAccess::check);
+        List<Throwable> errors = new ArrayList<>();
+        thread.setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        thread.start();
+        thread.join();
+        assertEquals(1, errors.size());
+        assertEquals(IllegalStateException.class, errors.get(0).getClass());
+        ModelAccess.check();
+    }
+
+    @Test
+    void validationErrors() {
+        JavaFileObject javaFile = fromSource(
+                "@Command",
+                "abstract class Arguments {",
+                "",
+                "  @Option(names = \"--x\")",
+                "  abstract Object x();",
+                "}");
+        List<JavaFileObject> sources = new ArrayList<>(Corpus.create(1, 5).sources());
+        sources.add(javaFile);
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.parallelism=4")
+                .compile(sources);
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("define a converter class");
+        assertThat(compilation).hadErrorCount(1);
+    }
+
+    private static Compilation compile(List<JavaFileObject> sources, int parallelism) {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.parallelism=" + parallelism)
+                .compile(sources);
+        assertThat(compilation).succeeded();
+        return compilation;
+    }
+
+    private static Map<String, String> generatedSources(Compilation compilation) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (JavaFileObject file : compilation.generatedSourceFiles()) {
+            try {
+                result.put(file.getName(), file.getCharContent(true).toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return result;
+    }
+}
@@ -27,7 +27,6 @@ class ParseOrExitFullTest {
                         "import io.jbock.util.Either;",
                         "import io.jbock.util.Eithers;",
                         "import java.util.List;",
-                        "import java.util.Map;",
                         "import javax.annotation.processing.Generated;",
                         "import net.jbock.contrib.StandardConverters;",
                         "import net.jbock.contrib.StandardErrorHandler;",
@@ -35,7 +34,8 @@ class ParseOrExitFullTest {
                         "import net.jbock.model.ItemType;",
                         "import net.jbock.model.Multiplicity;",
                         "import net.jbock.model.Parameter;",
-                        "import net.jbock.parse.VarargsParameterParser;",
+                        "import net.jbock.parse.ParserTable;",
+                        "import net.jbock.parse.TableParser;",
                         "import net.jbock.util.ExConvert;",
                         "import net.jbock.util.ExFailure;",
                         "import net.jbock.util.ParseRequest;",
@@ -46,8 +46,10 @@ class ParseOrExitFullTest {
                         "    comments = \"https://github.com/jbock-java/jbock\"",
                         ")",
                         "final class ArgumentsParser {",
+                        "  private static final ParserTable<Void> PARSER_TABLE = ParserTable.varargs(\"arguments\", 0);",
+                        "",
                         "  Either<ParsingFailed, Arguments> parse(List<String> tokens) {",
-                        "    VarargsParameterParser<Void> parser = VarargsParameterParser.create(Map.of(), Map.of(), 0);",
+                        "    TableParser<Void> parser = PARSER_TABLE.newParser();",
                         "    try {",
                         "      parser.parse(tokens);",
                         "      return Either.right(new Arguments_Impl(parser));",
@@ -73,12 +75,20 @@ class ParseOrExitFullTest {
                         "  }",
                         "",
                         "  CommandModel createModel() {",
-                        "    return CommandModel.builder()",
-                        "          .withProgramName(\"arguments\")",
-                        "          .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
-                        "            .withParamLabel(\"HELLO\")",
-                        "            .build())",
-                        "          .build();",
+                        "    return ModelHolder.MODEL;",
+                        "  }",
+                        "",
+                        "  private static final class ModelHolder {",
+                        "    static final CommandModel MODEL = CommandModel.builder()",
+                        "      .withProgramName(\"arguments\")",
+                        "      .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
+                        "        .withParamLabel(\"HELLO\")",
+                        "        .build())",
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_80)",
+                        "      .addUsageDocumentation(120, true, USAGE_80_ANSI)",
+                        "      .build();",
                         "  }",
                         "",
                         "  private static final class Arguments_Impl extends Arguments {",
@@ -119,7 +129,6 @@ class ParseOrExitFullTest {
                         "import io.jbock.util.Either;",
                         "import io.jbock.util.Eithers;",
                         "import java.util.List;",
-                        "import java.util.Map;",
                         "import javax.annotation.processing.Generated;",
                         "import net.jbock.contrib.StandardConverters;",
                         "import net.jbock.contrib.StandardErrorHandler;",
@@ -127,7 +136,8 @@ class ParseOrExitFullTest {
                         "import net.jbock.model.ItemType;",
                         "import net.jbock.model.Multiplicity;",
                         "import net.jbock.model.Parameter;",
-                        "import net.jbock.parse.VarargsParameterParser;",
+                        "import net.jbock.parse.ParserTable;",
+                        "import net.jbock.parse.TableParser;",
                         "import net.jbock.util.ExConvert;",
                         "import net.jbock.util.ExFailure;",
                         "import net.jbock.util.ParseRequest;",
@@ -138,8 +148,10 @@ class ParseOrExitFullTest {
                         "    comments = \"https://github.com/jbock-java/jbock\"",
                         ")",
                         "public final class ArgumentsParser {",
+                        "  private static final ParserTable<Void> PARSER_TABLE = ParserTable.varargs(\"arguments\", 0);",
+                        "",
                         "  public Either<ParsingFailed, Arguments> parse(List<String> tokens) {",
-                        "    VarargsParameterParser<Void> parser = VarargsParameterParser.create(Map.of(), Map.of(), 0);",
+                        "    TableParser<Void> parser = PARSER_TABLE.newParser();",
                         "    try {",
                         "      parser.parse(tokens);",
                         "      return Either.right(new Arguments_Impl(parser));",
@@ -165,12 +177,20 @@ class ParseOrExitFullTest {
                         "  }",
                         "",
                         "  public CommandModel createModel() {",
-                        "    return CommandModel.builder()",
-                        "          .withProgramName(\"arguments\")",
-                        "          .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
-                        "            .withParamLabel(\"HELLO\")",
-                        "            .build())",
-                        "          .build();",
+                        "    return ModelHolder.MODEL;",
+                        "  }",
+                        "",
+                        "  private static final class ModelHolder {",
+                        "    static final CommandModel MODEL = CommandModel.builder()",
+                        "      .withProgramName(\"arguments\")",
+                        "      .addParameter(Parameter.builder(Multiplicity.REPEATABLE)",
+                        "        .withParamLabel(\"HELLO\")",
+                        "        .build())",
+                        "      .addUsageDocumentation(80, false, USAGE_80)",
+                        "      .addUsageDocumentation(80, true, USAGE_80_ANSI)",
+                        "      .addUsageDocumentation(120, false, USAGE_80)",
+                        "      .addUsageDocumentation(120, true, USAGE_80_ANSI)",
+                        "      .build();",
                         "  }",
                         "",
                         "  private static final class Arguments_Impl extends Arguments {",
@@ -0,0 +1,198 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles a synthetic {@link Corpus} of growing size, and reports
+ * how processing time, allocation and generated source size scale.
+ * The benchmarks are excluded from the {@code test} task,
+ * run them with {@code gradle :compiler:benchmark}.
+ * The corpus sizes can be changed with the system properties
+ * {@code jbock.benchmark.commands} and {@code jbock.benchmark.methods}.
+ */
+class ProcessorBenchmarkTest {
+
+    // processor time per method may grow by at most this factor from the smallest to the largest corpus
+    private static final double LINEARITY_LIMIT = 3.0;
+
+    private static final Pattern STEP_TIME = Pattern.compile("(CommandStep|MethodStep): ([0-9.]+) ms");
+
+    @Test
+    void corpusCompiles() {
+        Corpus corpus = Corpus.create(7, 15);
+        Compilation compilation = compile(corpus);
+        assertThat(compilation).succeeded();
+        assertEquals(7, compilation.generatedSourceFiles().size());
+    }
+
+    @Test
+    void sharedBasesAreCached() {
+        Corpus corpus = Corpus.create(7, 15);
+        Compilation compilation = compile(corpus);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadNoteContaining("executable cache hits: " + corpus.sharedInheritedMethods() + System.lineSeparator());
+        assertThat(compilation).hadNoteContaining("mapping cache hits: " + corpus.sharedInheritedMethods() + System.lineSeparator());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void scaleCommands() {
+        int methods = 30;
+        List<Corpus> corpora = new ArrayList<>();
+        for (int commands : sizes("jbock.benchmark.commands", "50,100,200,400")) {
+            corpora.add(Corpus.create(commands, methods));
+        }
+        runAll(corpora);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void scaleMethods() {
+        int commands = 50;
+        List<Corpus> corpora = new ArrayList<>();
+        for (int methods : sizes("jbock.benchmark.methods", "25,50,100,200")) {
+            corpora.add(Corpus.create(commands, methods));
+        }
+        runAll(corpora);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void parallelism() {
+        Corpus corpus = Corpus.create(Integer.getInteger("jbock.benchmark.commands", 200), 30);
+        int threads = Integer.getInteger("jbock.benchmark.parallelism", Runtime.getRuntime().availableProcessors());
+        compile(corpus.sources(), 1); // warmup
+        System.out.println(String.format(Locale.ROOT, "%8s %8s %10s", "commands", "threads", "wall ms"));
+        for (int parallelism : new int[]{1, threads}) {
+            long start = System.nanoTime();
+            assertThat(compile(corpus.sources(), parallelism)).succeeded();
+            System.out.println(String.format(Locale.ROOT, "%8d %8d %10.1f",
+                    corpus.commands(), parallelism, (System.nanoTime() - start) / 1e6));
+        }
+    }
+
+    private void runAll(List<Corpus> corpora) {
+        run(corpora.get(0)); // warmup
+        List<Result> results = new ArrayList<>();
+        System.out.println(Result.HEADER);
+        for (Corpus corpus : corpora) {
+            Result result = run(corpus);
+            System.out.println(result);
+            results.add(result);
+        }
+        double first = results.get(0).processorNanosPerMethod();
+        double last = results.get(results.size() - 1).processorNanosPerMethod();
+        assertTrue(last <= LINEARITY_LIMIT * first, String.format(Locale.ROOT,
+                "processing time is not linear: %.0f ns per method, compared to %.0f ns", last, first));
+    }
+
+    private Result run(Corpus corpus) {
+        List<JavaFileObject> sources = corpus.sources();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        Compilation compilation = compile(sources);
+        long wallNanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        assertThat(compilation).succeeded();
+        long generatedChars = 0;
+        for (JavaFileObject file : compilation.generatedSourceFiles()) {
+            try {
+                generatedChars += file.getCharContent(true).length();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return new Result(corpus, wallNanos, processorNanos(compilation), allocated, generatedChars);
+    }
+
+    private static Compilation compile(Corpus corpus) {
+        return compile(corpus.sources());
+    }
+
+    private static Compilation compile(List<JavaFileObject> sources) {
+        return compile(sources, 1);
+    }
+
+    private static Compilation compile(List<JavaFileObject> sources, int parallelism) {
+        return Processor.compiler()
+                .withOptions("-Ajbock.stats=true", "-Ajbock.parallelism=" + parallelism)
+                .compile(sources);
+    }
+
+    private static long processorNanos(Compilation compilation) {
+        double millis = 0;
+        for (Diagnostic<? extends JavaFileObject> note : compilation.notes()) {
+            Matcher m = STEP_TIME.matcher(note.getMessage(Locale.ROOT));
+            while (m.find()) {
+                millis += Double.parseDouble(m.group(2));
+            }
+        }
+        return (long) (millis * 1_000_000);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static int[] sizes(String property, String defaultValue) {
+        return Arrays.stream(System.getProperty(property, defaultValue).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    private static final class Result {
+
+        static final String HEADER = String.format(Locale.ROOT, "%8s %8s %10s %12s %14s %12s %16s",
+                "commands", "methods", "wall ms", "processor ms", "ns per method", "alloc MB", "generated chars");
+
+        final Corpus corpus;
+        final long wallNanos;
+        final long processorNanos;
+        final long allocatedBytes;
+        final long generatedChars;
+
+        Result(Corpus corpus, long wallNanos, long processorNanos, long allocatedBytes, long generatedChars) {
+            this.corpus = corpus;
+            this.wallNanos = wallNanos;
+            this.processorNanos = processorNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.generatedChars = generatedChars;
+        }
+
+        double processorNanosPerMethod() {
+            return processorNanos / (double) (corpus.commands() * corpus.methods());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%8d %8d %10.1f %12.1f %14.0f %12.1f %16d",
+                    corpus.commands(),
+                    corpus.methods(),
+                    wallNanos / 1e6,
+                    processorNanos / 1e6,
+                    processorNanosPerMethod(),
+                    allocatedBytes / (1024.0 * 1024.0),
+                    generatedChars);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static net.jbock.processor.Processor.fromSource;
+
+class ProcessorStatsTest {
+
+    private final JavaFileObject javaFile = fromSource(
+            "@Command",
+            "abstract class Arguments {",
+            "",
+            "  @Option(names = \"--x\")",
+            "  abstract Optional<String> x();",
+            "",
+            "  @Parameter(index = 0)",
+            "  abstract String y();",
+            "}");
+
+    @Test
+    void noStatsByDefault() {
+        Compilation compilation = Processor.compiler().compile(javaFile);
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).hadNoteCount(0);
+    }
+
+    @Test
+    void statsNote() {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.stats=true")
+                .compile(javaFile);
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).hadNoteContaining("jbock processor stats:");
+        assertThat(compilation).hadNoteContaining("commands: 1");
+        assertThat(compilation).hadNoteContaining("methods: 2");
+        assertThat(compilation).hadNoteContaining("test.Arguments");
+    }
+
+    @Test
+    void statsFile() {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.stats=true", "-Ajbock.statsFile=jbock-stats.json")
+                .compile(javaFile);
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedFile(CLASS_OUTPUT, "", "jbock-stats.json")
+                .contentsAsUtf8String()
+                .contains("\"commands\": 1,");
+    }
+
+    @Test
+    void generatedBytes() throws IOException {
+        Compilation compilation = Processor.compiler()
+                .withOptions("-Ajbock.stats=true")
+                .compile(javaFile);
+        assertThat(compilation).succeededWithoutWarnings();
+        long expected = 0;
+        for (JavaFileObject file : compilation.generatedSourceFiles()) {
+            expected += file.getCharContent(true).toString().getBytes(UTF_8).length;
+        }
+        assertThat(compilation).hadNoteContaining("generated bytes: " + expected);
+        assertThat(compilation).hadNoteContaining("CommandProcessor.generate/MappingFinder: ");
+    }
+}
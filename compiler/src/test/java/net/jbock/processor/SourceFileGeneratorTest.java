@@ -1,12 +1,14 @@
 package net.jbock.processor;
 
 import io.jbock.javapoet.JavaFile;
+import net.jbock.common.ProcessorStats;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.tools.Diagnostic;
 import java.io.IOException;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -20,7 +22,7 @@ class SourceFileGeneratorTest {
 
     private final Filer filer = mock(Filer.class);
     private final Messager messager = spy(Messager.class);
-    private final SourceFileGenerator sourceFileGenerator = new SourceFileGenerator(filer, messager);
+    private final SourceFileGenerator sourceFileGenerator = new SourceFileGenerator(filer, messager, ProcessorStats.create(Map.of()));
 
     @Test
     void testWriteException() throws IOException {
@@ -0,0 +1,142 @@
+package net.jbock.processor;
+
+import io.jbock.testing.compile.Compilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static io.jbock.testing.compile.CompilationSubject.assertThat;
+import static io.jbock.testing.compile.JavaFileObjects.forSourceLines;
+
+class SubcommandTest {
+
+    private static final JavaFileObject COMMIT = forSourceLines("test.Commit",
+            "package test;",
+            "",
+            "import net.jbock.Command;",
+            "import net.jbock.Option;",
+            "import java.util.Optional;",
+            "",
+            "@Command(name = \"commit\", description = {\"Record changes.\", \"Second line.\"})",
+            "abstract class Commit {",
+            "",
+            "  @Option(names = \"-m\")",
+            "  abstract Optional<String> message();",
+            "}");
+
+    private static final JavaFileObject ADD = forSourceLines("test.Add",
+            "package test;",
+            "",
+            "import net.jbock.Command;",
+            "import net.jbock.VarargsParameter;",
+            "import java.util.List;",
+            "",
+            "@Command(name = \"add\")",
+            "abstract class Add {",
+            "",
+            "  @VarargsParameter",
+            "  abstract List<String> files();",
+            "}");
+
+    @Test
+    void registry() {
+        Compilation compilation = Processor.compiler().compile(COMMIT, ADD, git("Commit.class, Add.class"));
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.GitParser")
+                .contentsAsUtf8String()
+                .contains("super(\"add\", \"commit\");");
+        assertThat(compilation).generatedSourceFile("test.GitParser")
+                .contentsAsUtf8String()
+                .contains("return new CommitParser().parse(tokens);");
+        assertThat(compilation).generatedSourceFile("test.GitParser")
+                .contentsAsUtf8String()
+                .contains(".addSubcommand(\"commit\", \"Record changes.\")");
+        assertThat(compilation).generatedSourceFile("test.GitParser")
+                .contentsAsUtf8String()
+                .contains("+ \"COMMANDS\\n\"");
+    }
+
+    @Test
+    void notAnnotated() {
+        JavaFileObject status = forSourceLines("test.Status",
+                "package test;",
+                "",
+                "abstract class Status {",
+                "}");
+        Compilation compilation = Processor.compiler().compile(status, git("Status.class"));
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining(
+                "invalid subcommand: class 'Status' must be annotated with net.jbock.Command");
+    }
+
+    @Test
+    void otherPackage() {
+        JavaFileObject status = forSourceLines("other.Status",
+                "package other;",
+                "",
+                "import net.jbock.Command;",
+                "",
+                "@Command",
+                "public abstract class Status {",
+                "}");
+        Compilation compilation = Processor.compiler().compile(status, git("other.Status.class"));
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining(
+                "invalid subcommand: class 'Status' must be in the same package, or have a public parser");
+    }
+
+    @Test
+    void otherPackagePublicParser() {
+        JavaFileObject status = forSourceLines("other.Status",
+                "package other;",
+                "",
+                "import net.jbock.Command;",
+                "",
+                "@Command(publicParser = true)",
+                "public abstract class Status {",
+                "}");
+        Compilation compilation = Processor.compiler().compile(status, git("other.Status.class"));
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.GitParser")
+                .contentsAsUtf8String()
+                .contains("return new StatusParser().createModel();");
+    }
+
+    @Test
+    void duplicateName() {
+        JavaFileObject record = forSourceLines("test.Record",
+                "package test;",
+                "",
+                "import net.jbock.Command;",
+                "",
+                "@Command(name = \"commit\")",
+                "abstract class Record {",
+                "}");
+        Compilation compilation = Processor.compiler().compile(COMMIT, record, git("Commit.class, Record.class"));
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("duplicate subcommand name: commit");
+    }
+
+    @Test
+    void ownSubcommand() {
+        Compilation compilation = Processor.compiler().compile(git("Git.class"));
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining(
+                "invalid subcommand: a command can not be its own subcommand");
+    }
+
+    private static JavaFileObject git(String subcommands) {
+        return forSourceLines("test.Git",
+                "package test;",
+                "",
+                "import net.jbock.Parameter;",
+                "import net.jbock.SuperCommand;",
+                "",
+                "@SuperCommand(name = \"git\", subcommands = {" + subcommands + "})",
+                "abstract class Git {",
+                "",
+                "  @Parameter(index = 0)",
+                "  abstract String command();",
+                "}");
+    }
+}
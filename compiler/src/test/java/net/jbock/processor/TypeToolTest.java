@@ -1,5 +1,8 @@
 package net.jbock.processor;
 
+import net.jbock.common.SafeElements;
+import net.jbock.common.SafeTypes;
+import net.jbock.common.TypeTool;
 import org.junit.jupiter.api.Test;
 
 import javax.lang.model.element.PackageElement;
@@ -10,9 +13,13 @@ import java.util.Optional;
 import static net.jbock.common.TypeTool.ANNOTATION_VALUE_AS_TYPE;
 import static net.jbock.common.TypeTool.AS_TYPE_ELEMENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class TypeToolTest {
 
@@ -29,4 +36,23 @@ class TypeToolTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void testTypeCache() {
+        SafeElements elements = mock(SafeElements.class);
+        SafeTypes types = mock(SafeTypes.class);
+        TypeElement typeElement = mock(TypeElement.class);
+        TypeMirror type = mock(TypeMirror.class);
+        TypeMirror other = mock(TypeMirror.class);
+        when(elements.getTypeElement("java.lang.String")).thenReturn(Optional.of(typeElement));
+        when(typeElement.asType()).thenReturn(type);
+        when(types.isSameType(type, type)).thenReturn(true);
+        TypeTool tool = new TypeTool(elements, types);
+        assertTrue(tool.isSameType(type, String.class));
+        assertFalse(tool.isSameType(other, String.class));
+        verify(elements, times(1)).getTypeElement("java.lang.String");
+        tool.clearCache();
+        assertTrue(tool.isSameType(type, String.class));
+        verify(elements, times(2)).getTypeElement("java.lang.String");
+    }
 }
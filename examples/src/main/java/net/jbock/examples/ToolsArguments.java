@@ -0,0 +1,18 @@
+package net.jbock.examples;
+
+import net.jbock.Option;
+import net.jbock.Parameter;
+import net.jbock.SuperCommand;
+
+@SuperCommand(
+        name = "tools",
+        description = "File tools.",
+        subcommands = {RmArguments.class, CpArguments.class, MvArguments.class})
+abstract class ToolsArguments {
+
+    @Option(names = {"--verbose", "-v"})
+    abstract boolean verbose();
+
+    @Parameter(index = 0)
+    abstract String command();
+}
@@ -0,0 +1,73 @@
+package net.jbock.examples;
+
+import net.jbock.examples.fixture.AllocationMeter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the bytes that the generated parsers allocate per parse,
+ * including string conversion in the generated {@code Impl} constructors,
+ * against the budgets in {@code allocation-budgets.properties}.
+ * If a change reduces allocation, lower the budget.
+ */
+class AllocationBudgetTest {
+
+    private final AllocationMeter meter = AllocationMeter.create(
+            AllocationBudgetTest.class, "allocation-budgets.properties");
+
+    @Test
+    void flags() {
+        AllFlagsArgumentsParser parser = new AllFlagsArgumentsParser();
+        List<String> tokens = List.of("-f");
+        assertTrue(parser.parse(tokens).isRight());
+        meter.assertWithinBudget("allFlags", 10_000, () -> parser.parse(tokens));
+    }
+
+    @Test
+    void mixed() {
+        CurlArgumentsParser parser = new CurlArgumentsParser();
+        List<String> tokens = List.of("-X", "POST", "-H", "Accept: */*", "--header=X-Id: 1", "-vi", "https://example.com");
+        assertTrue(parser.parse(tokens).isRight());
+        meter.assertWithinBudget("curl", 10_000, () -> parser.parse(tokens));
+    }
+
+    @Test
+    void wide() {
+        VariousArgumentsParser parser = new VariousArgumentsParser();
+        List<String> tokens = List.of(
+                "--bigDecimal", "3.14159",
+                "--bigInteger", "60221407600000000000000",
+                "--path", "/home",
+                "--localDate", "2001-02-01",
+                "--uri", "http://localhost:8080",
+                "--pattern", "^[abc]*$",
+                "--bigDecimalList", "1", "--bigDecimalList", "2",
+                "--pathList", "/a", "--pathList", "/b",
+                "--uriOpt", "http://localhost",
+                "6.02214076e23",
+                "60221407600000000000000",
+                "/etc/hosts",
+                "/home",
+                "2001-02-01",
+                "http://localhost:8080",
+                "^[abc]*$");
+        assertTrue(parser.parse(tokens).isRight());
+        meter.assertWithinBudget("various", 2_000, () -> parser.parse(tokens));
+    }
+
+    @Test
+    void varargs() {
+        GitArgumentsParser parser = new GitArgumentsParser();
+        List<String> tokens = new ArrayList<>(10_001);
+        tokens.add("add");
+        for (int i = 0; i < 10_000; i++) {
+            tokens.add("file" + i);
+        }
+        assertTrue(parser.parse(tokens).isRight());
+        meter.assertWithinBudget("gitVarargs", 50, () -> parser.parse(tokens));
+    }
+}
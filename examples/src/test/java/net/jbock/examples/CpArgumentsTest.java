@@ -116,4 +116,19 @@ class CpArgumentsTest {
                 "  -s, --suffix SUFFIX  Override the usual backup suffix",
                 "");
     }
+
+    @Test
+    void commandLine() {
+        f.assertThat(parser.parse("-r 'my file' \"your file\" --suffix=\\t"))
+                .has(CpArguments::source, "my file")
+                .has(CpArguments::dest, "your file")
+                .has(CpArguments::recursive, true)
+                .has(CpArguments::backup, Optional.empty())
+                .has(CpArguments::suffix, Optional.of("\t"));
+    }
+
+    @Test
+    void commandLineUnmatchedQuote() {
+        f.assertThat(parser.parse("a 'b")).fails("Unmatched quote: 'b");
+    }
 }
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 class CurlArgumentsTest {
 
     private final CurlArgumentsParser parser = new CurlArgumentsParser();
@@ -248,4 +250,15 @@ class CurlArgumentsTest {
                 "  -i, --include         ",
                 "");
     }
+
+    @Test
+    void testPrerenderedHelp() {
+        f.assertPrerenderedHelp(parser.createModel());
+    }
+
+    @Test
+    void testModelIsShared() {
+        assertSame(parser.createModel(), parser.createModel());
+        assertSame(parser.createModel(), new CurlArgumentsParser().createModel());
+    }
 }
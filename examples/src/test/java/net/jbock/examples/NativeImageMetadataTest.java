@@ -0,0 +1,125 @@
+package net.jbock.examples;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the reachability metadata for GraalVM native-image,
+ * which is written because the examples are compiled with {@code -Ajbock.nativeImage}.
+ * GraalVM is not needed: the generated sources are scanned for
+ * reflective access, and each access must be registered.
+ */
+class NativeImageMetadataTest {
+
+    private static final String METADATA_DIR = "META-INF/native-image/io.github.jbock-java/jbock-examples/";
+
+    private static final List<String> UNSUPPORTED = List.of(
+            "Class.forName(",
+            ".getMethod(",
+            ".getDeclaredMethod(",
+            ".getDeclaredField(",
+            ".getDeclaredConstructor(",
+            ".newInstance(",
+            ".getResource(",
+            "ResourceBundle",
+            "ServiceLoader");
+
+    // enum converters call Enum.valueOf, which needs the values method of the enum
+    private static final Pattern ENUM_VALUE_OF = Pattern.compile("EnumConverter\\.create\\(([\\w.]+)::valueOf");
+
+    @Test
+    void metadataIsComplete() throws IOException {
+        List<Path> parsers = generatedParsers();
+        assertFalse(parsers.isEmpty());
+        int enumTypes = 0;
+        for (Path parser : parsers) {
+            String source = Files.readString(parser);
+            for (String unsupported : UNSUPPORTED) {
+                assertFalse(source.contains(unsupported), parser + " contains " + unsupported);
+            }
+            String parserClass = binaryName(parser);
+            String metadata = readMetadata(parserClass);
+            Matcher matcher = ENUM_VALUE_OF.matcher(source);
+            while (matcher.find()) {
+                enumTypes++;
+                String enumType = resolve(parserClass, matcher.group(1));
+                assertNotNull(metadata, "missing metadata for " + parserClass);
+                assertTrue(metadata.contains("\"type\": \"" + enumType + "\""), metadata);
+            }
+        }
+        assertTrue(enumTypes > 0);
+    }
+
+    @Test
+    void enumMetadata() throws IOException {
+        String metadata = readMetadata(CpArgumentsParser.class.getName());
+        assertNotNull(metadata);
+        assertTrue(metadata.contains("\"type\": \"" + CpArguments.Control.class.getName() + "\""));
+        assertTrue(metadata.contains("\"name\": \"values\""));
+    }
+
+    @Test
+    void noMetadataWithoutEnums() throws IOException {
+        assertEquals(null, readMetadata(CurlArgumentsParser.class.getName()));
+    }
+
+    private static List<Path> generatedParsers() throws IOException {
+        Path dir = Path.of(System.getProperty("jbock.generatedSources"));
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("Parser.java"))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String binaryName(Path parser) {
+        Path dir = Path.of(System.getProperty("jbock.generatedSources"));
+        String relative = dir.relativize(parser).toString();
+        return relative.substring(0, relative.length() - ".java".length())
+                .replace(parser.getFileSystem().getSeparator(), ".");
+    }
+
+    /* Resolves a type name in the generated source, which is either qualified or in the same package. */
+    private static String resolve(String parserClass, String name) {
+        String packageName = parserClass.substring(0, parserClass.lastIndexOf('.'));
+        String qualified = Character.isUpperCase(name.charAt(0)) ? packageName + "." + name : name;
+        List<String> result = new ArrayList<>();
+        boolean nested = false;
+        for (String part : qualified.split("\\.")) {
+            result.add(part);
+            if (Character.isUpperCase(part.charAt(0))) {
+                if (nested) {
+                    result.set(result.size() - 2, result.get(result.size() - 2) + "$" + part);
+                    result.remove(result.size() - 1);
+                }
+                nested = true;
+            }
+        }
+        return String.join(".", result);
+    }
+
+    private static String readMetadata(String parserClass) throws IOException {
+        String resource = METADATA_DIR + parserClass + "/reachability-metadata.json";
+        try (InputStream in = NativeImageMetadataTest.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package net.jbock.examples;
+
+import net.jbock.model.CommandModel;
+import net.jbock.model.ItemType;
+import net.jbock.util.ErrConvert;
+import net.jbock.util.ErrMissingItem;
+import net.jbock.util.ErrToken;
+import net.jbock.util.ParseListener;
+import net.jbock.util.ParsingFailed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParseListenerTest {
+
+    private final CpArgumentsParser parser = new CpArgumentsParser();
+    private final Recorder recorder = new Recorder();
+
+    @AfterEach
+    void unregister() {
+        ParseListener.unregister();
+    }
+
+    @Test
+    void testSuccess() {
+        ParseListener.register(recorder);
+        assertTrue(parser.parse(List.of("-r", "a", "b", "--backup=NONE")).isRight());
+        assertEquals(List.of(
+                "tokenized cp-arguments 4",
+                "converted OPTION 0",
+                "converted OPTION 1",
+                "converted OPTION 2",
+                "converted PARAMETER 0",
+                "converted PARAMETER 1"), recorder.events);
+    }
+
+    @Test
+    void testMissingItem() {
+        ParseListener.register(recorder);
+        assertTrue(parser.parse(List.of("a")).isLeft());
+        assertEquals(List.of(
+                "tokenized cp-arguments 1",
+                "converted OPTION 0",
+                "converted OPTION 1",
+                "converted OPTION 2",
+                "converted PARAMETER 0",
+                "failed ErrMissingItem"), recorder.events);
+    }
+
+    @Test
+    void testConverterFailure() {
+        ParseListener.register(recorder);
+        assertTrue(parser.parse(List.of("a", "b", "--backup=FOO")).isLeft());
+        assertEquals(List.of(
+                "tokenized cp-arguments 3",
+                "converted OPTION 0",
+                "failed ErrConvert"), recorder.events);
+    }
+
+    @Test
+    void testTokenizerFailure() {
+        ParseListener.register(recorder);
+        assertTrue(parser.parse(List.of("a", "b", "--foo")).isLeft());
+        assertEquals(List.of(
+                "tokenized cp-arguments 3",
+                "failed ErrToken"), recorder.events);
+    }
+
+    @Test
+    void testAtFile() throws IOException {
+        Path file = Files.createTempFile("jbock", ".txt");
+        try {
+            Files.write(file, List.of("a", "b"));
+            ParseListener.register(recorder);
+            CpArguments result = parser.parseOrExit(new String[]{"@" + file, "-r"});
+            assertTrue(result.recursive());
+            assertEquals("atFileExpanded 3", recorder.events.get(0));
+            assertEquals("tokenized cp-arguments 3", recorder.events.get(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testUnregistered() {
+        ParseListener.register(recorder);
+        ParseListener.unregister();
+        assertTrue(parser.parse(List.of("a", "b")).isRight());
+        assertEquals(List.of(), recorder.events);
+    }
+
+    private static final class Recorder implements ParseListener {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void atFileExpanded(Path path, int tokenCount, long nanos) {
+            events.add("atFileExpanded " + tokenCount);
+        }
+
+        @Override
+        public void tokenized(CommandModel model, int tokenCount, long nanos) {
+            assertTrue(nanos >= 0);
+            events.add("tokenized " + model.programName() + " " + tokenCount);
+        }
+
+        @Override
+        public void converted(CommandModel model, ItemType itemType, int index, long nanos) {
+            assertTrue(nanos >= 0);
+            model.getItem(itemType, index);
+            events.add("converted " + itemType + " " + index);
+        }
+
+        @Override
+        public void failed(ParsingFailed failure) {
+            assertTrue(failure instanceof ErrMissingItem
+                    || failure instanceof ErrConvert
+                    || failure instanceof ErrToken);
+            events.add("failed " + failure.getClass().getSimpleName());
+        }
+    }
+}
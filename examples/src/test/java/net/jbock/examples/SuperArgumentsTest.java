@@ -4,8 +4,11 @@ import net.jbock.examples.fixture.ParserTestFixture;
 import net.jbock.util.SuperResult;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SuperArgumentsTest {
@@ -24,6 +27,14 @@ class SuperArgumentsTest {
         assertArrayEquals(new String[]{"-a", "1"}, success.rest());
     }
 
+    @Test
+    void testRestTokens() {
+        SuperResult<SuperArguments> success = f.parse("-q", "foo", "-a", "1");
+        assertEquals(List.of("-a", "1"), success.getRestTokens());
+        assertArrayEquals(new String[]{"-a", "1"}, success.getRest());
+        assertThrows(UnsupportedOperationException.class, () -> success.getRestTokens().clear());
+    }
+
     @Test
     void testDoubleEscape() {
         String[] args = {"-q", "--", "--", "a"};
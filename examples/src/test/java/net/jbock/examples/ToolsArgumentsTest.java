@@ -0,0 +1,88 @@
+package net.jbock.examples;
+
+import io.jbock.util.Either;
+import net.jbock.examples.fixture.ParserTestFixture;
+import net.jbock.util.ParsingFailed;
+import net.jbock.util.SubcommandRegistry;
+import net.jbock.util.SuperResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ToolsArgumentsTest {
+
+    private final ToolsArgumentsParser parser = new ToolsArgumentsParser();
+
+    private final SubcommandRegistry registry = parser.subcommands();
+
+    private final ParserTestFixture<SuperResult<ToolsArguments>> f =
+            ParserTestFixture.create(parser::parse);
+
+    @Test
+    void testNames() {
+        assertEquals(List.of("cp-arguments", "mv-arguments", "rm-arguments"), registry.names());
+        assertTrue(registry.contains("rm-arguments"));
+        assertFalse(registry.contains("ls-arguments"));
+    }
+
+    @Test
+    void testDispatch() {
+        SuperResult<ToolsArguments> success = f.parse("-v", "rm-arguments", "-f", "a", "b");
+        assertEquals("rm-arguments", success.getCommand().command());
+        Either<ParsingFailed, ?> result = registry.parse(success.getCommand().command(), success.getRestTokens())
+                .orElseThrow();
+        RmArguments rm = (RmArguments) result.getRight().orElseThrow();
+        assertTrue(rm.force());
+        assertEquals(List.of("a", "b"), rm.otherTokens());
+    }
+
+    @Test
+    void testDispatchFailure() {
+        Either<ParsingFailed, ?> result = registry.parse("cp-arguments", List.of("a"))
+                .orElseThrow();
+        assertTrue(result.isLeft());
+        assertEquals("cp-arguments", result.getLeft().orElseThrow().commandModel().programName());
+    }
+
+    @Test
+    void testUnknown() {
+        assertFalse(registry.parse("ls-arguments", List.of()).isPresent());
+        assertFalse(registry.createModel("ls-arguments").isPresent());
+    }
+
+    @Test
+    void testSubcommandModel() {
+        assertEquals("mv-arguments", registry.createModel("mv-arguments").orElseThrow().programName());
+    }
+
+    @Test
+    void testHelp() {
+        f.assertPrintsHelp(
+                parser.createModel(),
+                "File tools.",
+                "",
+                "\u001B[1mUSAGE\u001B[m",
+                "  tools [OPTIONS] COMMAND",
+                "",
+                "\u001B[1mPARAMETERS\u001B[m",
+                "  COMMAND ",
+                "",
+                "\u001B[1mOPTIONS\u001B[m",
+                "  -v, --verbose ",
+                "",
+                "\u001B[1mCOMMANDS\u001B[m",
+                "  cp-arguments ",
+                "  mv-arguments ",
+                "  rm-arguments ",
+                "");
+    }
+
+    @Test
+    void testPrerenderedHelp() {
+        f.assertPrerenderedHelp(parser.createModel());
+    }
+}
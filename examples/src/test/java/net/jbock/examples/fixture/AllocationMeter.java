@@ -0,0 +1,76 @@
+package net.jbock.examples.fixture;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the bytes that the current thread allocates per invocation,
+ * and compares them with a budget from a properties file.
+ * Each measurement is the minimum over several rounds, after a warmup,
+ * so the budgets describe the steady state of the hot path.
+ */
+public final class AllocationMeter {
+
+    private static final int ROUNDS = 5;
+
+    private final Properties budgets;
+
+    private AllocationMeter(Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    /**
+     * Loads the budgets from a properties file.
+     *
+     * @param anchor class that is used to load the resource
+     * @param resource name of the properties file, relative to {@code anchor}
+     * @return an allocation meter
+     */
+    public static AllocationMeter create(Class<?> anchor, String resource) {
+        Properties budgets = new Properties();
+        try (InputStream in = anchor.getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new AllocationMeter(budgets);
+    }
+
+    public void assertWithinBudget(String key, int iterations, Supplier<?> operation) {
+        String budget = budgets.getProperty(key);
+        assertNotNull(budget, "no budget for " + key);
+        long bytes = bytesPerInvocation(iterations, operation);
+        assertTrue(bytes <= Long.parseLong(budget), String.format(Locale.ROOT,
+                "%s allocates %d bytes per invocation, but the budget is %s bytes", key, bytes, budget));
+    }
+
+    private static long bytesPerInvocation(int iterations, Supplier<?> operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        Object sink = null;
+        for (int i = 0; i < ROUNDS * iterations; i++) {
+            sink = operation.get();
+        }
+        long result = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++) {
+                sink = operation.get();
+            }
+            long after = threads.getThreadAllocatedBytes(threadId);
+            result = Math.min(result, (after - before) / iterations);
+        }
+        assertNotNull(sink);
+        return result;
+    }
+}
@@ -65,6 +65,27 @@ public final class ParserTestFixture<E> {
         assertPrintsHelp(commandModel, Map.of(), expected);
     }
 
+    /**
+     * Checks that the pre-rendered usage documentation is present
+     * and identical to the usage documentation that is rendered at runtime.
+     */
+    public void assertPrerenderedHelp(CommandModel commandModel) {
+        for (int terminalWidth : List.of(80, 120)) {
+            for (boolean ansi : List.of(false, true)) {
+                assertTrue(commandModel.usageDocumentation(terminalWidth, ansi).isPresent());
+                TestOutputStream testOutputStream = new TestOutputStream();
+                StandardErrorHandler errorHandler = StandardErrorHandler.builder()
+                        .withOutputStream(testOutputStream.out)
+                        .withTerminalWidth(terminalWidth)
+                        .withAnsi(ansi)
+                        .build();
+                errorHandler.printUsageDocumentation(commandModel);
+                String[] expected = errorHandler.renderUsageDocumentation(commandModel).split("\n", -1);
+                assertArraysEquals(expected, testOutputStream.split());
+            }
+        }
+    }
+
     public E parse(String... args) {
         return parser.apply(List.of(args))
                 .orElseThrow(l -> new RuntimeException("expecting success but found " + l.getClass()));
@@ -2,12 +2,15 @@
  * <p>jbock runtime package: annotations and API.
  * The generated parser is annotated with
  * {@code javax.annotation.processing.Generated},
- * so {@code java.compiler} is also required.</p>
+ * so {@code java.compiler} is also required.
+ * If {@code jdk.jfr} is present, the runtime records
+ * flight recorder events in the category {@code jbock}.</p>
  */
 module net.jbock {
 
     requires transitive java.compiler;
     requires transitive io.jbock.util;
+    requires static jdk.jfr;
 
     exports net.jbock;
     exports net.jbock.util;
@@ -18,6 +18,12 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
  *   <li>{@link Parameter}
  *   <li>{@link VarargsParameter}
  * </ul>
+ *
+ * <p>This includes the abstract methods that are inherited
+ * from base classes and interfaces.
+ * The base types may not have type parameters,
+ * and the converter of an inherited method must be nested
+ * in the class that declares the method.
  */
 @Target(TYPE)
 @Retention(SOURCE)
@@ -23,6 +23,12 @@ import static java.lang.annotation.RetentionPolicy.SOURCE;
  * after the last {@code Parameter}, as an array of strings.
  *
  * <p>The generated parser will not recognize the double-dash escape sequence.
+ *
+ * <p>If the {@link #subcommands()} attribute is not empty, the generated parser
+ * has a method {@code subcommands()} which returns a
+ * {@link net.jbock.util.SubcommandRegistry SubcommandRegistry}.
+ * The registry can be used to dispatch the remaining tokens
+ * to the parser of the subcommand with the given name.
  */
 @Target(TYPE)
 @Retention(SOURCE)
@@ -57,4 +63,20 @@ public @interface SuperCommand {
      * @see Command#publicParser()
      */
     boolean publicParser() default false;
+
+    /**
+     * The subcommands of this command.
+     * Each class in this list must be annotated with {@link Command}
+     * or {@link SuperCommand}, and must either be in the same package
+     * as this command, or have a public parser.
+     * The subcommand names are the program names of these classes,
+     * and the first line of their description
+     * is shown in the usage documentation.
+     *
+     * <p>The parser of a subcommand is not loaded
+     * until the subcommand is invoked.
+     *
+     * @return subcommand classes, possibly empty
+     */
+    Class<?>[] subcommands() default {};
 }
@@ -0,0 +1,322 @@
+package net.jbock.contrib;
+
+import io.jbock.util.Either;
+import net.jbock.model.CommandModel;
+import net.jbock.util.CommandLineTokens;
+import net.jbock.util.ErrTokenType;
+import net.jbock.util.ExToken;
+import net.jbock.util.ParsingFailed;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An interactive shell that reads commands line by line,
+ * and dispatches each line to a registered parser.
+ * The first token of a line is the command name,
+ * and the remaining tokens are passed to the parser of that command.
+ * Lines are split into tokens by {@link CommandLineTokens},
+ * with the same quoting rules that apply to the lines of an {@code @file}.
+ * Empty lines, and lines that start with {@code #}, are skipped.
+ *
+ * <p>Errors are printed with a {@link StandardErrorHandler},
+ * and the shell continues with the next line.
+ * This includes syntax errors like an unmatched quote,
+ * which are reported as an {@link net.jbock.util.ErrToken ErrToken}
+ * of the command that is named by the first word of the line.
+ * Unlike the generated {@code parseOrExit} method,
+ * this class never invokes {@code System.exit}.
+ *
+ * <p>The generated parsers are stateless, and their parser tables
+ * and command models are shared between invocations,
+ * so the cost per line is only the cost of parsing.
+ * Instances of this class are not thread-safe.
+ */
+public final class CommandShell {
+
+    private final Map<String, CommandEntry<?>> commands;
+    private final StandardErrorHandler errorHandler;
+    private final PrintStream out;
+    private final AnsiStyle ansiStyle;
+
+    private CommandShell(
+            Map<String, CommandEntry<?>> commands,
+            StandardErrorHandler errorHandler,
+            PrintStream out,
+            AnsiStyle ansiStyle) {
+        this.commands = commands;
+        this.errorHandler = errorHandler;
+        this.out = out;
+        this.ansiStyle = ansiStyle;
+    }
+
+    /**
+     * Builder for {@link CommandShell}.
+     */
+    public static final class Builder {
+
+        private final Map<String, CommandEntry<?>> commands = new HashMap<>();
+        private final StandardErrorHandler.Builder errorHandler = StandardErrorHandler.builder();
+        private PrintStream out = System.err;
+        private boolean ansi = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers a command.
+         * For a generated parser {@code parser}, the arguments are typically
+         * {@code parser::createModel} and {@code parser::parse}.
+         *
+         * @param name the command name, which is the first token of an input line
+         * @param model supplies the command model, which is used to print
+         *              the usage documentation if the first argument is {@code --help}
+         * @param parser parses the remaining tokens of an input line
+         * @param action invoked with the parse result if parsing was successful
+         * @param <T> type of the parse result
+         * @return the builder instance
+         * @throws IllegalArgumentException if a command with this name
+         *         is already registered
+         */
+        public <T> Builder addCommand(
+                String name,
+                Supplier<CommandModel> model,
+                Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser,
+                Consumer<? super T> action) {
+            if (commands.putIfAbsent(name, new CommandEntry<T>(model, parser, action)) != null) {
+                throw new IllegalArgumentException("duplicate command: " + name);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the output stream for error messages and usage documentation.
+         * The default value is {@code System.err}.
+         *
+         * @param out the output stream
+         * @return the builder instance
+         */
+        public Builder withOutputStream(PrintStream out) {
+            this.out = out;
+            this.errorHandler.withOutputStream(out);
+            return this;
+        }
+
+        /**
+         * Sets the terminal width.
+         *
+         * @see StandardErrorHandler.Builder#withTerminalWidth(int)
+         * @param width terminal width in characters
+         * @return the builder instance
+         */
+        public Builder withTerminalWidth(int width) {
+            this.errorHandler.withTerminalWidth(width);
+            return this;
+        }
+
+        /**
+         * Sets the message source that resolves description keys.
+         *
+         * @see StandardErrorHandler.Builder#withMessageSource(MessageSource)
+         * @param messages a message source
+         * @return the builder instance
+         */
+        public Builder withMessageSource(MessageSource messages) {
+            this.errorHandler.withMessageSource(messages);
+            return this;
+        }
+
+        /**
+         * Sets the value of the ansi attribute.
+         *
+         * @param ansi if ansi codes should be used
+         * @return the builder instance
+         */
+        public Builder withAnsi(boolean ansi) {
+            this.ansi = ansi;
+            this.errorHandler.withAnsi(ansi);
+            return this;
+        }
+
+        /**
+         * Creates the shell.
+         *
+         * @return a shell
+         */
+        public CommandShell build() {
+            return new CommandShell(Map.copyOf(commands), errorHandler.build(), out, AnsiStyle.create(ansi));
+        }
+    }
+
+    /**
+     * Creates an empty builder instance.
+     *
+     * @return empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reads and executes lines until the end of the input.
+     * A backslash at the end of a line continues the command on the next line.
+     *
+     * @param in the input
+     * @return the number of lines that failed
+     * @throws IOException if {@code in} throws
+     */
+    public int run(Reader in) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        int failures = 0;
+        StringBuilder pending = new StringBuilder();
+        ExToken continuation = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (pending.length() == 0 && isComment(line)) {
+                continue;
+            }
+            pending.append(line);
+            List<String> tokens;
+            try {
+                tokens = CommandLineTokens.tokenize(pending.toString());
+            } catch (ExToken e) {
+                if (e.errorType() == ErrTokenType.TRAILING_BACKSLASH) {
+                    pending.setLength(pending.length() - 1);
+                    continuation = e;
+                    continue;
+                }
+                printError(pending, e);
+                pending.setLength(0);
+                failures++;
+                continue;
+            }
+            pending.setLength(0);
+            if (!execute(tokens)) {
+                failures++;
+            }
+        }
+        if (pending.length() != 0) {
+            printError(pending, continuation);
+            failures++;
+        }
+        return failures;
+    }
+
+    /**
+     * Executes a single line.
+     *
+     * @param line an input line
+     * @return {@code true} if the line was executed successfully,
+     *         or if it is empty
+     */
+    public boolean execute(String line) {
+        if (isComment(line)) {
+            return true;
+        }
+        List<String> tokens;
+        try {
+            tokens = CommandLineTokens.tokenize(line);
+        } catch (ExToken e) {
+            printError(line, e);
+            return false;
+        }
+        return execute(tokens);
+    }
+
+    private boolean execute(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return true;
+        }
+        String name = tokens.get(0);
+        CommandEntry<?> command = commands.get(name);
+        if (command == null) {
+            printUnknownCommand(name);
+            return false;
+        }
+        List<String> args = tokens.subList(1, tokens.size());
+        if (!args.isEmpty() && "--help".equals(args.get(0))) {
+            errorHandler.printUsageDocumentation(command.model());
+            return true;
+        }
+        return command.execute(args, errorHandler);
+    }
+
+    /* The tokens are not known, so the command name is the first word of the line. */
+    private void printError(CharSequence line, ExToken e) {
+        int start = 0;
+        while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+            end++;
+        }
+        String name = line.subSequence(start, end).toString();
+        CommandEntry<?> command = commands.get(name);
+        if (command == null) {
+            printUnknownCommand(name);
+            return;
+        }
+        errorHandler.printErrorMessage(e.toError(command.model()));
+    }
+
+    private void printUnknownCommand(String name) {
+        out.println(ansiStyle.red("ERROR:") + " unknown command: " + name);
+        out.println("Commands: " + String.join(", ", new TreeSet<>(commands.keySet())));
+        out.flush();
+    }
+
+    private static boolean isComment(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '\t') {
+                return c == '#';
+            }
+        }
+        return false;
+    }
+
+    private static final class CommandEntry<T> {
+
+        private final Supplier<CommandModel> modelSupplier;
+        private final Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser;
+        private final Consumer<? super T> action;
+
+        private CommandModel model;
+
+        CommandEntry(
+                Supplier<CommandModel> modelSupplier,
+                Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser,
+                Consumer<? super T> action) {
+            this.modelSupplier = modelSupplier;
+            this.parser = parser;
+            this.action = action;
+        }
+
+        CommandModel model() {
+            if (model == null) {
+                model = modelSupplier.get();
+            }
+            return model;
+        }
+
+        boolean execute(List<String> args, StandardErrorHandler errorHandler) {
+            Either<? extends ParsingFailed, ? extends T> result = parser.apply(args);
+            if (result.isLeft()) {
+                errorHandler.printErrorMessage(result.getLeft().orElseThrow());
+                return false;
+            }
+            action.accept(result.getRight().orElseThrow());
+            return true;
+        }
+    }
+}
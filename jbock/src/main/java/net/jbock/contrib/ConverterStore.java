@@ -2,29 +2,26 @@ package net.jbock.contrib;
 
 import net.jbock.util.StringConverter;
 
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
+/* The converters are stateless, so it is safe to keep them
+ * in the image heap if this class is initialized at build time. */
 final class ConverterStore {
 
-    private final Map<String, WeakReference<StringConverter<?>>> convertersByClass = new HashMap<>();
+    private final ConcurrentMap<Class<?>, StringConverter<?>> convertersByClass = new ConcurrentHashMap<>();
 
     @SuppressWarnings("unchecked")
     <T> StringConverter<T> get(
             Class<T> clazz,
             Function<String, T> function) {
-        String canonicalName = clazz.getCanonicalName();
-        WeakReference<StringConverter<?>> ref = convertersByClass.get(canonicalName);
-        if (ref != null) {
-            StringConverter<?> cached = ref.get();
-            if (cached != null) {
-                return (StringConverter<T>) cached;
-            }
+        StringConverter<?> cached = convertersByClass.get(clazz);
+        if (cached != null) {
+            return (StringConverter<T>) cached;
         }
         StringConverter<T> newInstance = StringConverter.create(function);
-        convertersByClass.put(canonicalName, new WeakReference<>(newInstance));
-        return newInstance;
+        StringConverter<?> previous = convertersByClass.putIfAbsent(clazz, newInstance);
+        return previous != null ? (StringConverter<T>) previous : newInstance;
     }
 }
@@ -41,8 +41,23 @@ public final class EnumConverter<E> extends StringConverter<E> {
         return new EnumConverter<>(valueOf, values.get());
     }
 
+    /**
+     * Creates an instance of {@code EnumConverter}
+     * that does not use any method references.
+     *
+     * @param values all constants of the enum class
+     * @param <E> type of the enum class
+     * @return an instance of {@code EnumConverter}
+     */
+    public static <E extends Enum<E>> StringConverter<E> create(E[] values) {
+        return new EnumConverter<>(null, values);
+    }
+
     @Override
     protected E convert(String token) {
+        if (valueOf == null) {
+            return tryName(token);
+        }
         try {
             return valueOf.apply(token);
         } catch (IllegalArgumentException e) {
@@ -50,6 +65,16 @@ public final class EnumConverter<E> extends StringConverter<E> {
         }
     }
 
+    /* Same as valueOf, without using a method reference. */
+    private E tryName(String token) {
+        for (E value : values) {
+            if (((Enum<?>) value).name().equals(token)) {
+                return value;
+            }
+        }
+        return tryCaseInsensitive(token);
+    }
+
     private E tryCaseInsensitive(String token) {
         for (E value : values) {
             if (Objects.toString(value, "").equalsIgnoreCase(token)) {
@@ -0,0 +1,93 @@
+package net.jbock.contrib;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+/**
+ * A source of internationalized messages.
+ * The usage documentation uses a message source to resolve
+ * the {@code descriptionKey} attributes of the command
+ * and its items.
+ *
+ * @see StandardErrorHandler.Builder#withMessageSource(MessageSource)
+ */
+public interface MessageSource {
+
+    /**
+     * Returns the message for the given key.
+     *
+     * @param key a description key, not empty
+     * @return the message, or an empty {@code Optional}
+     *         if this message source does not contain the key
+     */
+    Optional<String> getMessage(String key);
+
+    /**
+     * Returns a message source that does not contain any messages.
+     *
+     * @return empty message source
+     */
+    static MessageSource empty() {
+        return key -> Optional.empty();
+    }
+
+    /**
+     * Returns a message source that is backed by a map.
+     * Changes to the map are visible in the message source.
+     *
+     * @param map a map of strings
+     * @return message source
+     */
+    static MessageSource fromMap(Map<String, String> map) {
+        return key -> Optional.ofNullable(map.get(key));
+    }
+
+    /**
+     * Returns a message source that is backed by a resource bundle.
+     * The bundle is loaded when the first message is requested,
+     * using the context class loader that the current thread has
+     * when this method is invoked.
+     * Messages are cached by the returned instance,
+     * so it should be kept and reused.
+     * If the bundle cannot be found, the returned message source is empty,
+     * and the usage documentation uses the descriptions from the annotations.
+     *
+     * <p>The bundle is not known to the annotation processor.
+     * When building a GraalVM native image, it has to be registered
+     * in the reachability metadata of the application.
+     *
+     * @param baseName the base name of the resource bundle
+     * @param locale the locale of the resource bundle
+     * @return message source
+     * @see ResourceBundle#getBundle(String, Locale, ClassLoader)
+     */
+    static MessageSource fromBundle(String baseName, Locale locale) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = MessageSource.class.getClassLoader();
+        }
+        return fromBundle(baseName, locale, loader);
+    }
+
+    /**
+     * Returns a message source that is backed by a resource bundle,
+     * which is loaded from the given class loader
+     * when the first message is requested.
+     * Messages are cached by the returned instance.
+     *
+     * @param baseName the base name of the resource bundle
+     * @param locale the locale of the resource bundle
+     * @param loader the class loader of the resource bundle
+     * @return message source
+     * @see #fromBundle(String, Locale)
+     */
+    static MessageSource fromBundle(String baseName, Locale locale, ClassLoader loader) {
+        return new ResourceBundleMessageSource(
+                Objects.requireNonNull(baseName),
+                Objects.requireNonNull(locale),
+                Objects.requireNonNull(loader));
+    }
+}
@@ -0,0 +1,199 @@
+package net.jbock.contrib;
+
+import io.jbock.util.Either;
+import net.jbock.util.ParsingFailed;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A bounded cache in front of a generated {@code parse} method.
+ * The cache key is the list of input tokens, and the cached value is
+ * the parse result: either the command instance, or the {@link ParsingFailed}.
+ * If the same command line is parsed repeatedly,
+ * the previous result is returned without parsing again.
+ *
+ * <p>The command instances which are created by the generated code
+ * are immutable, so it is safe to share them between callers.
+ * The result of a parse can only be reused if it does not depend on
+ * anything but the input tokens. If a converter reads the environment,
+ * like a converter that checks if a file exists, then the affected
+ * token lists should be excluded with {@link Builder#withSkip(Predicate)},
+ * or the parser should not be cached at all.
+ *
+ * <p>If the cache is full, the oldest entries are evicted first.
+ * Instances of this class are thread-safe.
+ * Lookups, insertions, evictions and {@link #clear()} are guarded by one lock,
+ * but the parser is invoked without holding it.
+ *
+ * @param <T> type of the parse result
+ */
+public final class ParseCache<T> {
+
+    private final Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser;
+    private final int maximumSize;
+    private final Predicate<? super List<String>> skip;
+    private final Map<List<String>, Either<ParsingFailed, T>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ParseCache(
+            Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser,
+            int maximumSize,
+            Predicate<? super List<String>> skip) {
+        this.parser = parser;
+        this.maximumSize = maximumSize;
+        this.skip = skip;
+        this.cache = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Either<ParsingFailed, T>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Builder for {@link ParseCache}.
+     *
+     * @param <T> type of the parse result
+     */
+    public static final class Builder<T> {
+
+        private final Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser;
+        private int maximumSize = 256;
+        private Predicate<? super List<String>> skip = tokens -> false;
+
+        private Builder(Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser) {
+            this.parser = parser;
+        }
+
+        /**
+         * Sets the maximum number of cached command lines.
+         * The default is {@code 256}.
+         *
+         * @param maximumSize a positive number
+         * @return this builder
+         */
+        public Builder<T> withMaximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Excludes some command lines from caching.
+         * If the predicate returns {@code true} for the input tokens,
+         * the parser is invoked, and its result is not cached.
+         *
+         * @param skip tests if a command line should not be cached
+         * @return this builder
+         */
+        public Builder<T> withSkip(Predicate<? super List<String>> skip) {
+            this.skip = Objects.requireNonNull(skip);
+            return this;
+        }
+
+        /**
+         * Creates the cache.
+         *
+         * @return a new, empty cache
+         */
+        public ParseCache<T> build() {
+            return new ParseCache<>(parser, maximumSize, skip);
+        }
+    }
+
+    /**
+     * Creates a builder.
+     * For a generated parser {@code parser}, the argument is
+     * typically {@code parser::parse}.
+     *
+     * @param parser the parser
+     * @param <T> type of the parse result
+     * @return a builder
+     */
+    public static <T> Builder<T> builder(
+            Function<List<String>, ? extends Either<? extends ParsingFailed, ? extends T>> parser) {
+        return new Builder<>(Objects.requireNonNull(parser));
+    }
+
+    /**
+     * Returns the cached result for these tokens, or invokes the parser.
+     *
+     * @param tokens command line input, not modified by this method
+     * @return the parse result
+     */
+    public Either<ParsingFailed, T> parse(List<String> tokens) {
+        if (skip.test(tokens)) {
+            return invokeParser(tokens);
+        }
+        Either<ParsingFailed, T> cached;
+        synchronized (cache) {
+            cached = cache.get(tokens);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        List<String> key = List.copyOf(tokens);
+        Either<ParsingFailed, T> result = invokeParser(key);
+        synchronized (cache) {
+            cache.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    private Either<ParsingFailed, T> invokeParser(List<String> tokens) {
+        return parser.apply(tokens).<ParsingFailed>mapLeft(failure -> failure).map(result -> result);
+    }
+
+    /**
+     * Returns the number of invocations of {@link #parse(List)}
+     * that returned a cached result.
+     *
+     * @return number of cache hits
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of invocations of {@link #parse(List)}
+     * that invoked the parser and cached the result.
+     * Command lines that were skipped are not counted.
+     *
+     * @return number of cache misses
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of cached command lines.
+     *
+     * @return current size of the cache
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     * The hit and miss counts are not reset.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
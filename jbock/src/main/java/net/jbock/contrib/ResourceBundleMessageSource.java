@@ -0,0 +1,63 @@
+package net.jbock.contrib;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class ResourceBundleMessageSource implements MessageSource {
+
+    private static final ResourceBundle EMPTY = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[0][];
+        }
+    };
+
+    private final String baseName;
+    private final Locale locale;
+    private final ClassLoader loader;
+    private final ConcurrentMap<String, Optional<String>> messages = new ConcurrentHashMap<>();
+
+    private volatile ResourceBundle bundle;
+
+    ResourceBundleMessageSource(String baseName, Locale locale, ClassLoader loader) {
+        this.baseName = baseName;
+        this.locale = locale;
+        this.loader = loader;
+    }
+
+    @Override
+    public Optional<String> getMessage(String key) {
+        return messages.computeIfAbsent(key, this::lookup);
+    }
+
+    private Optional<String> lookup(String key) {
+        ResourceBundle bundle = bundle();
+        if (!bundle.containsKey(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(bundle.getString(key));
+    }
+
+    private ResourceBundle bundle() {
+        ResourceBundle result = bundle;
+        if (result == null) {
+            result = loadBundle();
+            bundle = result;
+        }
+        return result;
+    }
+
+    /* A missing bundle must not break --help, so the message source is empty instead. */
+    private ResourceBundle loadBundle() {
+        try {
+            return ResourceBundle.getBundle(baseName, locale, loader);
+        } catch (MissingResourceException e) {
+            return EMPTY;
+        }
+    }
+}
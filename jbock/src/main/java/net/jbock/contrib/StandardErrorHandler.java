@@ -1,12 +1,14 @@
 package net.jbock.contrib;
 
 import net.jbock.model.CommandModel;
+import net.jbock.model.Item;
 import net.jbock.util.ParsingFailed;
 
+import java.io.IOException;
 import java.io.PrintStream;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A convenience class that performs standard error handling,
@@ -17,13 +19,13 @@ public final class StandardErrorHandler {
     private final PrintStream out;
     private final int terminalWidth;
     private final boolean ansi;
-    private final Map<String, String> messages;
+    private final MessageSource messages;
 
     private StandardErrorHandler(
             PrintStream out,
             int terminalWidth,
             boolean ansi,
-            Map<String, String> messages) {
+            MessageSource messages) {
         this.out = out;
         this.terminalWidth = terminalWidth;
         this.ansi = ansi;
@@ -38,7 +40,7 @@ public final class StandardErrorHandler {
         private PrintStream out = System.err;
         private int terminalWidth = 80;
         private boolean ansi = true;
-        private Map<String, String> messages = Collections.emptyMap();
+        private MessageSource messages = MessageSource.empty();
 
         private Builder() {
         }
@@ -81,7 +83,22 @@ public final class StandardErrorHandler {
          * @return the builder instance
          */
         public Builder withMessages(Map<String, String> map) {
-            this.messages = map;
+            this.messages = MessageSource.fromMap(map);
+            return this;
+        }
+
+        /**
+         * Sets the message source that resolves description keys.
+         * The default is an empty message source.
+         * This is an alternative to {@link #withMessages(Map)}
+         * that does not require all messages to be loaded up front.
+         *
+         * @see MessageSource#fromBundle(String, java.util.Locale)
+         * @param messages a message source
+         * @return the builder instance
+         */
+        public Builder withMessageSource(MessageSource messages) {
+            this.messages = messages;
             return this;
         }
 
@@ -117,20 +134,78 @@ public final class StandardErrorHandler {
 
     /**
      * Prints the usage documentation.
+     * If the model contains a pre-rendered version of the usage documentation
+     * for the configured terminal width and ansi setting, and none of the
+     * description keys in the model can be resolved, then the pre-rendered
+     * version is printed.
      *
      * @param model command model
      */
     public void printUsageDocumentation(CommandModel model) {
-        UsageDocumentation.builder(model)
-                .withOutputStream(out)
-                .withAnsi(ansi)
-                .withMessages(messages)
-                .withTerminalWidth(terminalWidth)
-                .build()
-                .printUsageDocumentation();
+        String lineSeparator = System.lineSeparator();
+        Optional<String> prerendered = hasMessages(model) ?
+                Optional.empty() :
+                model.usageDocumentation(terminalWidth, ansi);
+        if (prerendered.isPresent()) {
+            String text = prerendered.get();
+            out.print("\n".equals(lineSeparator) ? text : text.replace("\n", lineSeparator));
+        } else {
+            out.append(render(model, lineSeparator));
+        }
         out.flush();
     }
 
+    /**
+     * Renders the usage documentation.
+     * Unlike {@link #printUsageDocumentation(CommandModel)}, this method
+     * does not use pre-rendered usage documentation.
+     * The annotation processor uses this method to pre-render
+     * the usage documentation at compile time.
+     *
+     * @param model command model
+     * @return the usage documentation, where each line is terminated
+     *         by a {@code '\n'} character
+     */
+    public String renderUsageDocumentation(CommandModel model) {
+        return render(model, "\n").toString();
+    }
+
+    private boolean hasMessages(CommandModel model) {
+        if (hasMessage(model.descriptionKey())) {
+            return true;
+        }
+        for (Item item : model.options()) {
+            if (hasMessage(item.descriptionKey())) {
+                return true;
+            }
+        }
+        for (Item item : model.parameters()) {
+            if (hasMessage(item.descriptionKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasMessage(String descriptionKey) {
+        return !descriptionKey.isEmpty() && messages.getMessage(descriptionKey).isPresent();
+    }
+
+    private StringBuilder render(CommandModel model, String lineSeparator) {
+        StringBuilder sb = new StringBuilder(1024);
+        try {
+            UsageDocumentation.builder(model)
+                    .withAnsi(ansi)
+                    .withMessages(messages)
+                    .withTerminalWidth(terminalWidth)
+                    .build()
+                    .render(sb, lineSeparator);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder does not throw
+        }
+        return sb;
+    }
+
     /**
      * Prints an error message.
      *
@@ -139,14 +214,24 @@ public final class StandardErrorHandler {
     public void printErrorMessage(ParsingFailed failure) {
         CommandModel model = failure.commandModel();
         AnsiStyle ansiStyle = AnsiStyle.create(ansi);
-        out.println(ansiStyle.red("ERROR:") + ' ' + failure.message());
+        String lineSeparator = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(ansiStyle.red("ERROR:")).append(' ').append(failure.message()).append(lineSeparator);
         List<String> synopsis = Synopsis.create(model)
                 .createSynopsis("Usage:");
-        out.println(String.join(" ", synopsis));
+        for (int i = 0; i < synopsis.size(); i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(synopsis.get(i));
+        }
+        sb.append(lineSeparator);
         String helpCommand = model.programName() + " --help";
-        out.println("Type " +
-                ansiStyle.bold(helpCommand).orElseGet(() -> "'" + helpCommand + "'") +
-                " for more information.");
+        sb.append("Type ")
+                .append(ansiStyle.bold(helpCommand).orElseGet(() -> "'" + helpCommand + "'"))
+                .append(" for more information.")
+                .append(lineSeparator);
+        out.append(sb);
         out.flush();
     }
 }
@@ -1,93 +1,54 @@
 package net.jbock.contrib;
 
 import net.jbock.model.CommandModel;
-import net.jbock.model.Item;
-import net.jbock.model.Multiplicity;
 import net.jbock.model.Option;
 import net.jbock.model.Parameter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
+import static net.jbock.model.Multiplicity.OPTIONAL;
 import static net.jbock.model.Multiplicity.REPEATABLE;
-import static net.jbock.model.Multiplicity.REQUIRED;
 
 final class Synopsis {
 
-    private final List<Option> options;
-    private final List<Parameter> parameters;
-    private final String programName;
+    private final CommandModel model;
 
-    private Synopsis(
-            String programName,
-            List<Option> options,
-            List<Parameter> parameters) {
-        this.options = options;
-        this.parameters = parameters;
-        this.programName = programName;
+    private Synopsis(CommandModel model) {
+        this.model = model;
     }
 
     static Synopsis create(CommandModel context) {
-        return new Synopsis(
-                context.programName(),
-                context.options(),
-                context.parameters());
+        return new Synopsis(context);
     }
 
     List<String> createSynopsis(String prefix) {
         List<String> result = new ArrayList<>();
         result.add(prefix);
-        result.add(programName);
-        if (optionalOptions().findAny().isPresent()) {
+        result.add(model.programName());
+        if (!model.getOptions(OPTIONAL).isEmpty() || !model.getOptions(REPEATABLE).isEmpty()) {
             result.add("[OPTIONS]");
         }
-        for (Option option : requiredOptions()) {
+        for (Option option : model.requiredOptions()) {
             String firstName = option.names().get(0);
-            result.add(String.format("%s %s", firstName, option.paramLabel()));
+            result.add(firstName + ' ' + option.paramLabel());
         }
-        for (Parameter param : regularParameters()) {
-            Multiplicity skew = param.multiplicity();
+        for (Parameter param : model.parameters()) {
             String paramLabel = param.paramLabel();
-            switch (skew) {
+            switch (param.multiplicity()) {
                 case OPTIONAL:
                     result.add("[" + paramLabel + "]");
                     break;
                 case REQUIRED:
                     result.add(paramLabel);
                     break;
+                case REPEATABLE:
+                    break; // varargs parameter comes last
                 default:
-                    throw new IllegalArgumentException("unexpected skew: " + skew);
+                    throw new IllegalArgumentException("unexpected skew: " + param.multiplicity());
             }
         }
-        varargsParameter().ifPresent(param -> result.add(param.paramLabel() + "..."));
+        model.varargsParameter().ifPresent(param -> result.add(param.paramLabel() + "..."));
         return result;
     }
-
-    private Stream<Option> optionalOptions() {
-        return filterBySkew(options, sk -> sk != REQUIRED);
-    }
-
-    private List<Option> requiredOptions() {
-        return filterBySkew(options, REQUIRED).collect(toList());
-    }
-
-    private List<Parameter> regularParameters() {
-        return filterBySkew(parameters, sk -> sk != REPEATABLE).collect(toList());
-    }
-
-    private Optional<Parameter> varargsParameter() {
-        return filterBySkew(parameters, REPEATABLE).findAny();
-    }
-
-    private static <E extends Item> Stream<E> filterBySkew(List<E> items, Multiplicity skew) {
-        return filterBySkew(items, sk -> sk == skew);
-    }
-
-    private static <E extends Item> Stream<E> filterBySkew(List<E> items, Predicate<Multiplicity> p) {
-        return items.stream().filter(o -> p.test(o.multiplicity()));
-    }
 }
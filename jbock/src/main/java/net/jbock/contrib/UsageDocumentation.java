@@ -4,59 +4,53 @@ import net.jbock.model.CommandModel;
 import net.jbock.model.Item;
 import net.jbock.model.Option;
 import net.jbock.model.Parameter;
+import net.jbock.model.Subcommand;
 
-import java.io.PrintStream;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.regex.Pattern;
-
-import static java.util.stream.Collectors.toList;
 
 final class UsageDocumentation {
 
     private static final int CONTINUATION_INDENT_USAGE = 8;
 
-    private final Pattern whitespace = Pattern.compile("\\s+");
-
-    private final PrintStream out;
     private final int terminalWidth;
-    private final Map<String, String> messages;
+    private final MessageSource messages;
     private final String descriptionKey;
     private final List<String> descriptionLines;
     private final List<Option> options;
     private final List<Parameter> parameters;
+    private final List<Subcommand> subcommands;
     private final Synopsis synopsis;
     private final AnsiStyle ansiStyle;
     private final int maxWidthOptions;
     private final int maxWidthParameters;
+    private final int maxWidthSubcommands;
 
     private UsageDocumentation(
-            PrintStream out,
             int terminalWidth,
-            Map<String, String> messages,
+            MessageSource messages,
             String descriptionKey,
             List<String> descriptionLines,
             List<Option> options,
             List<Parameter> parameters,
+            List<Subcommand> subcommands,
             Synopsis synopsis,
             AnsiStyle ansiStyle,
             int maxWidthOptions,
-            int maxWidthParameters) {
+            int maxWidthParameters,
+            int maxWidthSubcommands) {
         this.descriptionKey = descriptionKey;
         this.descriptionLines = descriptionLines;
-        this.out = out;
         this.terminalWidth = terminalWidth;
         this.messages = messages;
         this.options = options;
         this.parameters = parameters;
+        this.subcommands = subcommands;
         this.synopsis = synopsis;
         this.ansiStyle = ansiStyle;
         this.maxWidthOptions = maxWidthOptions;
         this.maxWidthParameters = maxWidthParameters;
+        this.maxWidthSubcommands = maxWidthSubcommands;
     }
 
     static Builder builder(CommandModel context) {
@@ -67,10 +61,9 @@ final class UsageDocumentation {
 
         private final CommandModel model;
 
-        private PrintStream out = System.err;
         private int terminalWidth = 80;
         private boolean ansi = true;
-        private Map<String, String> messages = Collections.emptyMap();
+        private MessageSource messages = MessageSource.empty();
 
         private Builder(CommandModel model) {
             this.model = model;
@@ -81,8 +74,8 @@ final class UsageDocumentation {
             return this;
         }
 
-        Builder withMessages(Map<String, String> map) {
-            this.messages = map;
+        Builder withMessages(MessageSource messages) {
+            this.messages = messages;
             return this;
         }
 
@@ -91,111 +84,223 @@ final class UsageDocumentation {
             return this;
         }
 
-        Builder withOutputStream(PrintStream out) {
-            this.out = out;
-            return this;
-        }
-
         UsageDocumentation build() {
             return new UsageDocumentation(
-                    out, terminalWidth, messages,
+                    terminalWidth, messages,
                     model.descriptionKey(),
                     model.descriptionLines(),
                     model.options(),
                     model.parameters(),
+                    model.subcommands(),
                     Synopsis.create(model),
                     AnsiStyle.create(ansi),
                     maxWidth(model.options()),
-                    maxWidth(model.parameters()));
+                    maxWidth(model.parameters()),
+                    maxWidthSubcommands(model.subcommands()));
         }
 
         private int maxWidth(List<? extends Item> items) {
-            return items.stream()
-                    .map(Item::namesOverview)
-                    .mapToInt(String::length)
-                    .max()
-                    .orElse(0);
+            int result = 0;
+            for (Item item : items) {
+                result = Math.max(result, item.namesOverview().length());
+            }
+            return result;
+        }
+
+        private int maxWidthSubcommands(List<Subcommand> subcommands) {
+            int result = 0;
+            for (Subcommand subcommand : subcommands) {
+                result = Math.max(result, subcommand.name().length());
+            }
+            return result;
         }
     }
 
-    void printUsageDocumentation() {
-        List<String> description = new ArrayList<>();
-        String desc = messages.get(descriptionKey);
+    /**
+     * Writes the usage documentation to {@code out}.
+     * All lines are assembled in a single, reused buffer,
+     * and each complete line is appended to {@code out} in one call.
+     *
+     * @param out the output
+     * @param lineSeparator the line separator
+     * @throws IOException if {@code out} throws
+     */
+    void render(Appendable out, String lineSeparator) throws IOException {
+        LineWriter writer = new LineWriter(out, lineSeparator);
+        String desc = message(descriptionKey);
+        writer.begin("");
         if (desc != null) {
-            Collections.addAll(description, whitespace.split(desc, -1));
+            writer.addWords(desc);
         } else {
             for (String line : descriptionLines) {
-                Collections.addAll(description, whitespace.split(line, -1));
+                writer.addWords(line);
             }
         }
-        makeLines("", description).forEach(out::println);
-
-        if (!description.isEmpty()) {
-            out.println();
+        writer.end();
+        if (desc != null || !descriptionLines.isEmpty()) {
+            writer.println("");
         }
 
-        String optionsFormat = "  %1$-" + maxWidthOptions + "s ";
-        String paramsFormat = "  %1$-" + maxWidthParameters + "s ";
-        String indent_p = String.join("", Collections.nCopies(maxWidthParameters + 4, " "));
-        String indent_o = String.join("", Collections.nCopies(maxWidthOptions + 4, " "));
+        writer.println(ansiStyle.bold("USAGE").orElse("USAGE"));
+        writer.begin(spaces(CONTINUATION_INDENT_USAGE));
+        for (String token : synopsis.createSynopsis(" ")) {
+            writer.add(token);
+        }
+        writer.end();
 
-        out.println(ansiStyle.bold("USAGE").orElse("USAGE"));
-        String indent_u = String.join("", Collections.nCopies(CONTINUATION_INDENT_USAGE, " "));
-        makeLines(indent_u, synopsis.createSynopsis(" ")).forEach(out::println);
         if (!parameters.isEmpty()) {
-            out.println();
-            out.println(ansiStyle.bold("PARAMETERS").orElse("PARAMETERS"));
-        }
-        for (Parameter parameter : parameters) {
-            printItemDocumentation(parameter, String.format(paramsFormat, parameter.namesOverview()), indent_p);
+            writer.println("");
+            writer.println(ansiStyle.bold("PARAMETERS").orElse("PARAMETERS"));
+            String indent = spaces(maxWidthParameters + 4);
+            for (Parameter parameter : parameters) {
+                printItemDocumentation(writer, parameter, maxWidthParameters, indent);
+            }
         }
         if (!options.isEmpty()) {
-            out.println();
-            out.println(ansiStyle.bold("OPTIONS").orElse("OPTIONS"));
+            writer.println("");
+            writer.println(ansiStyle.bold("OPTIONS").orElse("OPTIONS"));
+            String indent = spaces(maxWidthOptions + 4);
+            for (Option option : options) {
+                printItemDocumentation(writer, option, maxWidthOptions, indent);
+            }
+        }
+        if (!subcommands.isEmpty()) {
+            writer.println("");
+            writer.println(ansiStyle.bold("COMMANDS").orElse("COMMANDS"));
+            String indent = spaces(maxWidthSubcommands + 4);
+            for (Subcommand subcommand : subcommands) {
+                writer.begin(indent);
+                writer.addItemName(subcommand.name(), maxWidthSubcommands);
+                if (!subcommand.description().isEmpty()) {
+                    writer.addWords(subcommand.description());
+                }
+                writer.end();
+            }
+        }
+    }
+
+    private void printItemDocumentation(
+            LineWriter writer,
+            Item item,
+            int maxWidth,
+            String indent) throws IOException {
+        String message = message(item.descriptionKey());
+        writer.begin(indent);
+        writer.addItemName(item.namesOverview(), maxWidth);
+        if (message != null) {
+            writer.addWords(message.trim());
+        } else {
+            for (String line : item.description()) {
+                writer.addWords(line);
+            }
         }
-        for (Option option : options) {
-            printItemDocumentation(option, String.format(optionsFormat, option.namesOverview()), indent_o);
+        writer.end();
+    }
+
+    private String message(String descriptionKey) {
+        if (descriptionKey.isEmpty()) {
+            return null;
         }
+        return messages.getMessage(descriptionKey).orElse(null);
     }
 
-    private void printItemDocumentation(Item item, String itemName, String indent) {
-        Optional<String> message = item.descriptionKey().isEmpty() ?
-                Optional.empty() :
-                Optional.ofNullable(messages.get(item.descriptionKey()));
-        List<String> tokens = new ArrayList<>();
-        tokens.add(itemName);
-        tokens.addAll(message
-                .map(String::trim)
-                .map(s -> whitespace.split(s, -1))
-                .map(Arrays::asList)
-                .orElseGet(() -> item.description().stream()
-                        .map(s -> whitespace.split(s, -1))
-                        .flatMap(Arrays::stream)
-                        .collect(toList())));
-        makeLines(indent, tokens).forEach(out::println);
+    private static String spaces(int n) {
+        return " ".repeat(n);
     }
 
-    private List<String> makeLines(String indent, List<String> tokens) {
-        List<String> result = new ArrayList<>();
-        StringBuilder line = new StringBuilder();
-        int i = 0;
-        while (i < tokens.size()) {
-            String token = tokens.get(i);
-            boolean fresh = line.length() == 0;
-            if (!fresh && token.length() + line.length() + 1 > terminalWidth) {
-                result.add(line.toString());
-                line.setLength(0);
-                continue;
+    /* Same as the regex \s */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Wraps a sequence of tokens into lines that are at most {@code terminalWidth}
+     * characters long, unless a single token is longer than that.
+     */
+    private final class LineWriter {
+
+        private final Appendable out;
+        private final String lineSeparator;
+        private final StringBuilder line;
+
+        private String indent = "";
+        private int tokenCount;
+
+        LineWriter(Appendable out, String lineSeparator) {
+            this.out = out;
+            this.lineSeparator = lineSeparator;
+            this.line = new StringBuilder(terminalWidth + 16);
+        }
+
+        void begin(String indent) {
+            this.indent = indent;
+            this.tokenCount = 0;
+            this.line.setLength(0);
+        }
+
+        void end() throws IOException {
+            if (line.length() > 0) {
+                flushLine();
+            }
+        }
+
+        void println(String text) throws IOException {
+            out.append(text).append(lineSeparator);
+        }
+
+        void add(CharSequence token) throws IOException {
+            add(token, 0, token.length());
+        }
+
+        /**
+         * Adds the item name, left-aligned in a column of width {@code maxWidth},
+         * as the first token of the current line.
+         */
+        void addItemName(String name, int maxWidth) {
+            line.append("  ").append(name);
+            for (int i = name.length(); i < maxWidth; i++) {
+                line.append(' ');
+            }
+            line.append(' ');
+            tokenCount++;
+        }
+
+        /**
+         * Adds the words of {@code text}. This splits the text in the same way
+         * as {@code Pattern.compile("\\s+").split(text, -1)}.
+         */
+        void addWords(String text) throws IOException {
+            int start = 0;
+            int i = 0;
+            while (i < text.length()) {
+                if (!isWhitespace(text.charAt(i))) {
+                    i++;
+                    continue;
+                }
+                add(text, start, i);
+                while (i < text.length() && isWhitespace(text.charAt(i))) {
+                    i++;
+                }
+                start = i;
+            }
+            add(text, start, text.length());
+        }
+
+        private void add(CharSequence s, int start, int end) throws IOException {
+            int length = end - start;
+            if (line.length() > 0 && length + line.length() + 1 > terminalWidth) {
+                flushLine();
             }
-            if (i > 0) {
-                line.append(fresh ? indent : " ");
+            if (tokenCount > 0) {
+                line.append(line.length() == 0 ? indent : " ");
             }
-            line.append(token);
-            i++;
+            line.append(s, start, end);
+            tokenCount++;
         }
-        if (line.length() > 0) {
-            result.add(line.toString());
+
+        private void flushLine() throws IOException {
+            out.append(line).append(lineSeparator);
+            line.setLength(0);
         }
-        return result;
     }
 }
@@ -0,0 +1,43 @@
+package net.jbock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.nio.file.Path;
+
+/**
+ * Recorded when an {@code @-file} is read and tokenized.
+ *
+ * <p>This class is internal API and should not be used
+ * in client code.
+ */
+@Name("net.jbock.AtFileExpand")
+@Label("@-File Expand")
+@Category("jbock")
+@Description("Expansion of an @-file argument")
+public final class AtFileExpandEvent extends Outcome {
+
+    @Label("Path")
+    String path;
+
+    @Label("Token Count")
+    int tokenCount;
+
+    /**
+     * Commits this event, if it is enabled.
+     *
+     * @param path the {@code @-file}
+     * @param tokenCount number of tokens after expansion, or {@code 0} on failure
+     * @param success whether the file could be read and tokenized
+     */
+    public void record(Path path, int tokenCount, boolean success) {
+        if (shouldCommit()) {
+            this.path = path.toString();
+            this.tokenCount = tokenCount;
+            this.outcome = outcome(success);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package net.jbock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a converter converts a single token.
+ *
+ * <p>This class is internal API and should not be used
+ * in client code.
+ */
+@Name("net.jbock.Convert")
+@Label("Convert")
+@Category("jbock")
+@Description("Conversion of a command line token")
+public final class ConvertEvent extends Outcome {
+
+    @Label("Command")
+    String command;
+
+    @Label("Converter")
+    Class<?> converter;
+
+    @Label("Item Type")
+    String itemType;
+
+    @Label("Item Index")
+    int itemIndex;
+
+    /**
+     * Commits this event, if it is enabled.
+     *
+     * @param command the program name of the command, or {@code null} if unknown
+     * @param converter the converter class
+     * @param itemType {@code "OPTION"} or {@code "PARAMETER"}, or {@code null} if unknown
+     * @param itemIndex index of the item in the command model, or {@code -1} if unknown
+     * @param success whether the conversion succeeded
+     */
+    public void record(String command, Class<?> converter, String itemType, int itemIndex, boolean success) {
+        if (shouldCommit()) {
+            this.command = command;
+            this.converter = converter;
+            this.itemType = itemType;
+            this.itemIndex = itemIndex;
+            this.outcome = outcome(success);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package net.jbock.jfr;
+
+import java.util.Optional;
+
+/**
+ * Checks if the flight recorder events can be used.
+ * The {@code jdk.jfr} module is an optional dependency of the runtime,
+ * so the event classes must not be loaded if it is not present.
+ *
+ * <p>This class is internal API and should not be used
+ * in client code.
+ */
+public final class Jfr {
+
+    /**
+     * {@code true} if the {@code jdk.jfr} module is present and readable.
+     * If this is {@code false}, no events are created.
+     */
+    public static final boolean AVAILABLE = available();
+
+    private Jfr() {
+    }
+
+    private static boolean available() {
+        try {
+            Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            return jfr.isPresent() && Jfr.class.getModule().canRead(jfr.get());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
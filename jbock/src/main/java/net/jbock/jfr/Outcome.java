@@ -0,0 +1,20 @@
+package net.jbock.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base class of the events which record the outcome of an operation.
+ */
+abstract class Outcome extends Event {
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+
+    @Label("Outcome")
+    String outcome;
+
+    static String outcome(boolean success) {
+        return success ? SUCCESS : FAILURE;
+    }
+}
@@ -0,0 +1,42 @@
+package net.jbock.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when the tokens of a command line are assigned to
+ * options and parameters. The conversion of the values is not included.
+ *
+ * <p>This class is internal API and should not be used
+ * in client code.
+ */
+@Name("net.jbock.Parse")
+@Label("Parse")
+@Category("jbock")
+@Description("Tokenization of a command line")
+public final class ParseEvent extends Outcome {
+
+    @Label("Command")
+    String command;
+
+    @Label("Token Count")
+    int tokenCount;
+
+    /**
+     * Commits this event, if it is enabled.
+     *
+     * @param command the program name of the command
+     * @param tokenCount number of input tokens
+     * @param success whether the input was valid
+     */
+    public void record(String command, int tokenCount, boolean success) {
+        if (shouldCommit()) {
+            this.command = command;
+            this.tokenCount = tokenCount;
+            this.outcome = outcome(success);
+            commit();
+        }
+    }
+}
@@ -3,11 +3,17 @@ package net.jbock.model;
 import net.jbock.Command;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * The runtime model of a class that is annotated with
  * {@link Command}.
+ * Instances of this class are immutable, and can be shared between threads.
  */
 public final class CommandModel {
 
@@ -17,6 +23,14 @@ public final class CommandModel {
     private final boolean superCommand;
     private final List<Option> options;
     private final List<Parameter> parameters;
+    private final List<Subcommand> subcommands;
+    private final List<RenderedUsage> usageDocumentation;
+
+    // indexes
+    private final Map<String, Option> optionsByName;
+    private final Map<String, Parameter> parametersByLabel;
+    private final Map<Multiplicity, List<Option>> optionsByMultiplicity;
+    private final Map<Multiplicity, List<Parameter>> parametersByMultiplicity;
 
     private CommandModel(
             String descriptionKey,
@@ -24,13 +38,58 @@ public final class CommandModel {
             String programName,
             boolean superCommand,
             List<Option> options,
-            List<Parameter> parameters) {
+            List<Parameter> parameters,
+            List<Subcommand> subcommands,
+            List<RenderedUsage> usageDocumentation) {
         this.descriptionKey = descriptionKey;
         this.descriptionLines = descriptionLines;
         this.programName = programName;
         this.superCommand = superCommand;
         this.options = options;
         this.parameters = parameters;
+        this.subcommands = subcommands;
+        this.usageDocumentation = usageDocumentation;
+        Map<String, Option> optionsByName = new HashMap<>();
+        for (Option option : options) {
+            for (String name : option.names()) {
+                optionsByName.putIfAbsent(name, option);
+            }
+        }
+        Map<String, Parameter> parametersByLabel = new HashMap<>();
+        for (Parameter parameter : parameters) {
+            parametersByLabel.putIfAbsent(parameter.paramLabel(), parameter);
+        }
+        this.optionsByName = Map.copyOf(optionsByName);
+        this.parametersByLabel = Map.copyOf(parametersByLabel);
+        this.optionsByMultiplicity = byMultiplicity(options);
+        this.parametersByMultiplicity = byMultiplicity(parameters);
+    }
+
+    private static <E extends Item> Map<Multiplicity, List<E>> byMultiplicity(List<E> items) {
+        Map<Multiplicity, List<E>> result = new EnumMap<>(Multiplicity.class);
+        for (Multiplicity multiplicity : Multiplicity.values()) {
+            List<E> filtered = new ArrayList<>();
+            for (E item : items) {
+                if (item.multiplicity() == multiplicity) {
+                    filtered.add(item);
+                }
+            }
+            result.put(multiplicity, List.copyOf(filtered));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static final class RenderedUsage {
+
+        final int terminalWidth;
+        final boolean ansi;
+        final String text;
+
+        RenderedUsage(int terminalWidth, boolean ansi, String text) {
+            this.terminalWidth = terminalWidth;
+            this.ansi = ansi;
+            this.text = text;
+        }
     }
 
     /**
@@ -53,6 +112,8 @@ public final class CommandModel {
         private boolean superCommand;
         private final List<Option> options = new ArrayList<>();
         private final List<Parameter> parameters = new ArrayList<>();
+        private final List<Subcommand> subcommands = new ArrayList<>();
+        private final List<RenderedUsage> usageDocumentation = new ArrayList<>(4);
 
         private Builder() {
         }
@@ -127,15 +188,48 @@ public final class CommandModel {
             return this;
         }
 
+        /**
+         * Adds a subcommand.
+         *
+         * @see net.jbock.SuperCommand#subcommands()
+         * @param name the program name of the subcommand
+         * @param description the first line of the subcommand's description,
+         *                    possibly an empty string
+         * @return the builder instance
+         */
+        public Builder addSubcommand(String name, String description) {
+            this.subcommands.add(new Subcommand(name, description));
+            return this;
+        }
+
+        /**
+         * Adds a pre-rendered version of the usage documentation.
+         * The annotation processor uses this to store the usage documentation
+         * for some common terminal widths, so it does not have to be
+         * laid out at runtime.
+         *
+         * @param terminalWidth the terminal width that was used for rendering
+         * @param ansi whether ansi codes were used for rendering
+         * @param text the usage documentation, where each line is
+         *             terminated by a {@code '\n'} character
+         * @return the builder instance
+         */
+        public Builder addUsageDocumentation(int terminalWidth, boolean ansi, String text) {
+            this.usageDocumentation.add(new RenderedUsage(terminalWidth, ansi, text));
+            return this;
+        }
+
         /**
          * Creates the command model.
          *
          * @return command model
          */
         public CommandModel build() {
-            return new CommandModel(descriptionKey, descriptionLines,
+            return new CommandModel(descriptionKey, List.copyOf(descriptionLines),
                     programName, superCommand,
-                    options, parameters);
+                    List.copyOf(options), List.copyOf(parameters),
+                    List.copyOf(subcommands),
+                    List.copyOf(usageDocumentation));
         }
     }
 
@@ -155,7 +249,7 @@ public final class CommandModel {
      * either from the {@link Command#description()} attribute, or, if that is
      * empty, from the class javadoc of the command class.
      *
-     * @return a list of lines, possibly empty
+     * @return an unmodifiable list of lines, possibly empty
      */
     public List<String> descriptionLines() {
         return descriptionLines;
@@ -176,7 +270,7 @@ public final class CommandModel {
     /**
      * Get the list of all named options, including mode flags.
      *
-     * @return named options
+     * @return named options, an unmodifiable list
      */
     public List<Option> options() {
         return options;
@@ -187,12 +281,85 @@ public final class CommandModel {
      * If a repeatable positional parameter exists, it will be the last
      * entry in this list.
      *
-     * @return list of all positional parameters in the correct order
+     * @return unmodifiable list of all positional parameters in the correct order
      */
     public List<Parameter> parameters() {
         return parameters;
     }
 
+    /**
+     * Get the subcommands from the {@link net.jbock.SuperCommand#subcommands()}
+     * attribute, sorted by name.
+     *
+     * @return unmodifiable list of subcommands, possibly empty
+     */
+    public List<Subcommand> subcommands() {
+        return subcommands;
+    }
+
+    /**
+     * Get the option that has the given name.
+     *
+     * @param name an option name, like {@code -v} or {@code --verbose}
+     * @return the option, or an empty {@code Optional}
+     *         if there is no option with this name
+     */
+    public Optional<Option> getOption(String name) {
+        return Optional.ofNullable(optionsByName.get(name));
+    }
+
+    /**
+     * Get the positional parameter that has the given param label.
+     *
+     * @param paramLabel a param label
+     * @return the parameter, or an empty {@code Optional}
+     *         if there is no parameter with this param label
+     */
+    public Optional<Parameter> getParameter(String paramLabel) {
+        return Optional.ofNullable(parametersByLabel.get(paramLabel));
+    }
+
+    /**
+     * Get all named options that have the given multiplicity, in the
+     * same order as in {@link #options()}.
+     *
+     * @param multiplicity the multiplicity
+     * @return an unmodifiable list of options, possibly empty
+     */
+    public List<Option> getOptions(Multiplicity multiplicity) {
+        return optionsByMultiplicity.get(multiplicity);
+    }
+
+    /**
+     * Get all positional parameters that have the given multiplicity,
+     * in the same order as in {@link #parameters()}.
+     *
+     * @param multiplicity the multiplicity
+     * @return an unmodifiable list of parameters, possibly empty
+     */
+    public List<Parameter> getParameters(Multiplicity multiplicity) {
+        return parametersByMultiplicity.get(multiplicity);
+    }
+
+    /**
+     * Get all required named options.
+     *
+     * @return an unmodifiable list of options, possibly empty
+     */
+    public List<Option> requiredOptions() {
+        return getOptions(Multiplicity.REQUIRED);
+    }
+
+    /**
+     * Get the repeatable positional parameter, if there is one.
+     *
+     * @return the varargs parameter, or an empty {@code Optional}
+     */
+    public Optional<Parameter> varargsParameter() {
+        List<Parameter> repeatable = getParameters(Multiplicity.REPEATABLE);
+        return repeatable.isEmpty() ? Optional.empty() : Optional.of(repeatable.get(0));
+    }
+
     /**
      * Returns the value of the {@link Command#superCommand()} attribute.
      *
@@ -203,6 +370,25 @@ public final class CommandModel {
         return superCommand;
     }
 
+    /**
+     * Returns the pre-rendered usage documentation for the given
+     * terminal width and ansi setting, if it is available.
+     * Each line of the result, including the last line,
+     * is terminated by a {@code '\n'} character.
+     *
+     * @param terminalWidth terminal width in characters
+     * @param ansi whether ansi codes should be used
+     * @return pre-rendered usage documentation, or an empty {@code Optional}
+     */
+    public Optional<String> usageDocumentation(int terminalWidth, boolean ansi) {
+        for (RenderedUsage rendered : usageDocumentation) {
+            if (rendered.terminalWidth == terminalWidth && rendered.ansi == ansi) {
+                return Optional.of(rendered.text);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Get item by name and index.
      *
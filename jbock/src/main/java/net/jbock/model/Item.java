@@ -14,6 +14,8 @@ import java.util.List;
  *     <li>{@link Parameter}
  * </ul>
  *
+ * <p>Instances of this class are immutable.
+ *
  * @see net.jbock.Command
  */
 public abstract class Item {
@@ -79,7 +81,7 @@ public abstract class Item {
      * @see net.jbock.Option#description()
      * @see net.jbock.Parameter#description()
      * @see VarargsParameter#description()
-     * @return a list of lines, possibly empty
+     * @return an unmodifiable list of lines, possibly empty
      */
     public final List<String> description() {
         return description;
@@ -124,8 +124,8 @@ public final class Option extends Item {
             return new Option(
                     paramLabel,
                     descriptionKey,
-                    description,
-                    names,
+                    List.copyOf(description),
+                    List.copyOf(names),
                     multiplicity,
                     arity);
         }
@@ -159,7 +159,7 @@ public final class Option extends Item {
      * Returns a list of the option names, sorted by length and then alphabetically.
      *
      * @see net.jbock.Option#names()
-     * @return a nonempty list of option names
+     * @return a nonempty, unmodifiable list of option names
      */
     public List<String> names() {
         return names;
@@ -93,7 +93,7 @@ public final class Parameter extends Item {
          * @return parameter model
          */
         public Parameter build() {
-            return new Parameter(paramLabel, descriptionKey, description, multiplicity);
+            return new Parameter(paramLabel, descriptionKey, List.copyOf(description), multiplicity);
         }
     }
 
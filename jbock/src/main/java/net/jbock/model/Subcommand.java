@@ -0,0 +1,36 @@
+package net.jbock.model;
+
+/**
+ * An entry in the table of subcommands of a super command.
+ * Instances of this class are immutable.
+ *
+ * @see CommandModel#subcommands()
+ */
+public final class Subcommand {
+
+    private final String name;
+    private final String description;
+
+    Subcommand(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * Returns the program name of the subcommand.
+     *
+     * @return subcommand name, a nonempty string
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the first line of the subcommand's description.
+     *
+     * @return description, possibly an empty string
+     */
+    public String description() {
+        return description;
+    }
+}
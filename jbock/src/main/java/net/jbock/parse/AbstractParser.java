@@ -19,17 +19,23 @@ import static net.jbock.util.ErrTokenType.INVALID_OPTION;
  * are in the basic form of strings.
  *
  * @param <T> type of keys that identify named options
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 abstract class AbstractParser<T> implements ParseResult<T> {
 
     private static final Pattern SUSPICIOUS = Pattern.compile("-[a-zA-Z0-9]+|--[a-zA-Z0-9-]+");
 
-    private final Map<String, T> optionNames;
+    private final OptionLookup<T> optionNames;
     private final Map<T, OptionState> optionStates;
     private final String[] params;
 
     AbstractParser(
-            Map<String, T> optionNames,
+            OptionLookup<T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
         this.optionNames = optionNames;
@@ -81,37 +87,39 @@ abstract class AbstractParser<T> implements ParseResult<T> {
     }
 
     private boolean tryReadOption(String token, Iterator<String> it) throws ExToken {
-        String name = readOptionName(token);
-        if (name == null) {
+        int end = optionNameEnd(token);
+        if (end < 0) {
             return false;
         }
-        T opt = optionNames.get(name);
+        T opt = optionNames.lookup(token, end);
         if (opt == null) {
             return false;
         }
         String t = token;
         while ((t = optionStates.get(opt).read(t, it)) != null) {
-            if ((name = readOptionName(t)) == null) {
+            if ((end = optionNameEnd(t)) < 0) {
                 throw new ExToken(ErrTokenType.INVALID_UNIX_GROUP, token);
             }
-            if ((opt = optionNames.get(name)) == null) {
+            if ((opt = optionNames.lookup(t, end)) == null) {
                 throw new ExToken(ErrTokenType.INVALID_UNIX_GROUP, token);
             }
         }
         return true;
     }
 
-    private String readOptionName(String token) {
-        if (token.length() < 2 || !token.startsWith("-")) {
-            return null;
-        }
-        if (!token.startsWith("--")) {
-            return token.substring(0, 2);
+    /**
+     * Returns the length of the option name at the start of {@code token},
+     * or {@code -1} if the token does not start with an option name.
+     */
+    private static int optionNameEnd(String token) {
+        if (token.length() < 2 || token.charAt(0) != '-') {
+            return -1;
         }
-        if (!token.contains("=")) {
-            return token;
+        if (token.charAt(1) != '-') {
+            return 2;
         }
-        return token.substring(0, token.indexOf('='));
+        int eq = token.indexOf('=');
+        return eq < 0 ? token.length() : eq;
     }
 
     @Override
@@ -123,6 +131,15 @@ abstract class AbstractParser<T> implements ParseResult<T> {
         return optionState.stream();
     }
 
+    @Override
+    public final List<String> optionValues(T option) {
+        OptionState optionState = optionStates.get(option);
+        if (optionState == null) {
+            return List.of();
+        }
+        return optionState.values();
+    }
+
     @Override
     public final Optional<String> param(int index) {
         if (index < 0 || index >= params.length) {
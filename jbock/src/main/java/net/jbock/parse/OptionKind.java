@@ -0,0 +1,23 @@
+package net.jbock.parse;
+
+/**
+ * Describes how a {@link TableParser} reads a named option.
+ */
+public enum OptionKind {
+
+    /**
+     * An option without argument, which may appear at most once.
+     * Mode flags can be combined in a unix group like {@code -abc}.
+     */
+    MODE_FLAG,
+
+    /**
+     * An option with one argument, which may appear at most once.
+     */
+    NON_REPEATABLE,
+
+    /**
+     * An option with one argument, which may appear any number of times.
+     */
+    REPEATABLE
+}
@@ -0,0 +1,38 @@
+package net.jbock.parse;
+
+import java.util.Map;
+
+/**
+ * Maps option names to option keys.
+ * The generated parser implements this with a {@code switch},
+ * so no map lookup and no {@code substring} is necessary
+ * when an option token is parsed.
+ *
+ * @param <T> type of keys that identify named options
+ */
+@FunctionalInterface
+public interface OptionLookup<T> {
+
+    /**
+     * Returns the option key for the option name
+     * {@code token.substring(0, end)}.
+     *
+     * @param token an option token, starting with a dash
+     * @param end the length of the option name,
+     *            at least {@code 2} and at most {@code token.length()}
+     * @return an option key, or {@code null} if there is no option
+     *         with this name
+     */
+    T lookup(String token, int end);
+
+    /**
+     * Creates an option lookup that is backed by a map.
+     *
+     * @param optionNames maps option names to option keys
+     * @param <T> type of keys that identify named options
+     * @return an option lookup
+     */
+    static <T> OptionLookup<T> fromMap(Map<String, T> optionNames) {
+        return (token, end) -> optionNames.get(end == token.length() ? token : token.substring(0, end));
+    }
+}
@@ -3,11 +3,18 @@ package net.jbock.parse;
 import net.jbock.util.ExToken;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Interface for a mutable class that reads and remembers option arguments.
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This interface is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
 public interface OptionState {
 
     /**
@@ -32,4 +39,14 @@ public interface OptionState {
      * @return a stream of strings
      */
     Stream<String> stream();
+
+    /**
+     * Returns the internal state as a list of strings.
+     * To be invoked after parsing is finished.
+     *
+     * @return an unmodifiable list of strings
+     */
+    default List<String> values() {
+        return stream().collect(Collectors.toUnmodifiableList());
+    }
 }
@@ -4,13 +4,20 @@ import net.jbock.util.ErrTokenType;
 import net.jbock.util.ExToken;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
  * Detects and stores the presence of a mode flag.
  * The {@code read} method cannot be invoked more than once, otherwise
  * an exception is thrown.
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class OptionStateModeFlag implements OptionState {
 
     private boolean seen;
@@ -31,4 +38,9 @@ public final class OptionStateModeFlag implements OptionState {
     public Stream<String> stream() {
         return seen ? Stream.of("") : Stream.empty();
     }
+
+    @Override
+    public List<String> values() {
+        return seen ? List.of("") : List.of();
+    }
 }
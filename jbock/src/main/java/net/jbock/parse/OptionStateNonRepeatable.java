@@ -4,6 +4,7 @@ import net.jbock.util.ErrTokenType;
 import net.jbock.util.ExToken;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static net.jbock.parse.OptionStateUtil.readOptionArgument;
@@ -12,7 +13,13 @@ import static net.jbock.parse.OptionStateUtil.readOptionArgument;
  * State of a non-repeatable option.
  * The {@code read} method cannot be invoked more than once, otherwise
  * an exception is thrown.
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class OptionStateNonRepeatable implements OptionState {
 
     private String value;
@@ -30,4 +37,9 @@ public final class OptionStateNonRepeatable implements OptionState {
     public Stream<String> stream() {
         return value == null ? Stream.empty() : Stream.of(value);
     }
+
+    @Override
+    public List<String> values() {
+        return value == null ? List.of() : List.of(value);
+    }
 }
@@ -3,6 +3,7 @@ package net.jbock.parse;
 import net.jbock.util.ExToken;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Stream;
@@ -11,7 +12,13 @@ import static net.jbock.parse.OptionStateUtil.readOptionArgument;
 
 /**
  * Reads and stores the arguments of a repeatable option.
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class OptionStateRepeatable implements OptionState {
 
     private List<String> values;
@@ -29,4 +36,9 @@ public final class OptionStateRepeatable implements OptionState {
     public Stream<String> stream() {
         return values == null ? Stream.empty() : values.stream();
     }
+
+    @Override
+    public List<String> values() {
+        return values == null ? List.of() : Collections.unmodifiableList(values);
+    }
 }
@@ -1,6 +1,8 @@
 package net.jbock.parse;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -19,6 +21,19 @@ public interface ParseResult<T> {
      */
     Stream<String> option(T optionKey);
 
+    /**
+     * Get all option values for the given option key,
+     * in the order in which they were passed on the command line.
+     * Unlike {@link #option(Object)}, this method does not
+     * create a stream.
+     *
+     * @param optionKey a key that represents a named option
+     * @return an unmodifiable list of tokens
+     */
+    default List<String> optionValues(T optionKey) {
+        return option(optionKey).collect(Collectors.toUnmodifiableList());
+    }
+
     /**
      * Get the positional parameter at the given index.
      *
@@ -42,4 +57,15 @@ public interface ParseResult<T> {
      * @return remaining tokens
      */
     Stream<String> rest();
+
+    /**
+     * Returns the remaining tokens.
+     * Unlike {@link #rest()}, this method does not
+     * create a stream.
+     *
+     * @return an unmodifiable list of the remaining tokens
+     */
+    default List<String> restValues() {
+        return rest().collect(Collectors.toUnmodifiableList());
+    }
 }
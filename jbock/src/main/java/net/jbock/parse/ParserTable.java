@@ -0,0 +1,193 @@
+package net.jbock.parse;
+
+import java.util.Map;
+
+/**
+ * Immutable description of a command line syntax:
+ * the command name, the option names, the kind of each option,
+ * and the number of positional parameters.
+ * A generated parser keeps one instance in a static field,
+ * and uses it to create a fresh {@link TableParser} for each
+ * invocation of its {@code parse} method.
+ *
+ * <p>If the option keys are enum constants, the option kinds
+ * must be given in the order of their ordinals.
+ *
+ * @param <T> type of keys that identify named options,
+ *            an enum or {@code Void}
+ */
+public final class ParserTable<T> {
+
+    private static final OptionKind[] NO_OPTIONS = new OptionKind[0];
+
+    /**
+     * How the tokens after the last positional parameter are handled.
+     */
+    enum Rest {
+
+        /** Excess tokens are an error. */
+        NONE,
+
+        /** Excess tokens are collected, option parsing continues. */
+        VARARGS,
+
+        /** Parsing stops after the last parameter, the excess tokens are a view of the input. */
+        SUPER_COMMAND
+    }
+
+    private final String command;
+    private final OptionLookup<T> optionNames;
+    private final OptionKind[] optionKinds;
+    private final int numParams;
+    private final Rest rest;
+
+    private ParserTable(
+            String command,
+            OptionLookup<T> optionNames,
+            OptionKind[] optionKinds,
+            int numParams,
+            Rest rest) {
+        this.command = command;
+        this.optionNames = optionNames;
+        this.optionKinds = optionKinds;
+        this.numParams = numParams;
+        this.rest = rest;
+    }
+
+    /**
+     * Creates a table for a parser that does not allow additional
+     * non-option tokens after the last positional parameter.
+     * This is the table version of {@link StandardParser}.
+     *
+     * @param command the program name of the command
+     * @param optionNames maps option names to option keys
+     * @param numParams number of positional parameters
+     * @param optionKinds option kinds, by ordinal of the option key
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     */
+    public static <T> ParserTable<T> standard(
+            String command,
+            OptionLookup<T> optionNames,
+            int numParams,
+            OptionKind... optionKinds) {
+        return new ParserTable<>(command, optionNames, optionKinds, numParams, Rest.NONE);
+    }
+
+    /**
+     * Creates a table for a command without named options.
+     *
+     * @param command the program name of the command
+     * @param numParams number of positional parameters
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     * @see #standard(String, OptionLookup, int, OptionKind...)
+     */
+    public static <T> ParserTable<T> standard(String command, int numParams) {
+        return standard(command, noOptions(), numParams, NO_OPTIONS);
+    }
+
+    /**
+     * Creates a table for a parser that collects an arbitrary number
+     * of additional tokens after the last positional parameter.
+     * This is the table version of {@link VarargsParameterParser}.
+     *
+     * @param command the program name of the command
+     * @param optionNames maps option names to option keys
+     * @param numParams number of non-repeatable positional parameters
+     * @param optionKinds option kinds, by ordinal of the option key
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     */
+    public static <T> ParserTable<T> varargs(
+            String command,
+            OptionLookup<T> optionNames,
+            int numParams,
+            OptionKind... optionKinds) {
+        return new ParserTable<>(command, optionNames, optionKinds, numParams, Rest.VARARGS);
+    }
+
+    /**
+     * Creates a table for a command without named options.
+     *
+     * @param command the program name of the command
+     * @param numParams number of non-repeatable positional parameters
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     * @see #varargs(String, OptionLookup, int, OptionKind...)
+     */
+    public static <T> ParserTable<T> varargs(String command, int numParams) {
+        return varargs(command, noOptions(), numParams, NO_OPTIONS);
+    }
+
+    /**
+     * Creates a table for a parser that stops option parsing after the
+     * last positional parameter, and collects all remaining tokens.
+     * This is the table version of {@link SuperParser}.
+     *
+     * @param command the program name of the command
+     * @param optionNames maps option names to option keys
+     * @param numParams number of positional parameters
+     * @param optionKinds option kinds, by ordinal of the option key
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     */
+    public static <T> ParserTable<T> superCommand(
+            String command,
+            OptionLookup<T> optionNames,
+            int numParams,
+            OptionKind... optionKinds) {
+        return new ParserTable<>(command, optionNames, optionKinds, numParams, Rest.SUPER_COMMAND);
+    }
+
+    /**
+     * Creates a table for a command without named options.
+     *
+     * @param command the program name of the command
+     * @param numParams number of positional parameters
+     * @param <T> type of keys that identify named options
+     * @return a parser table
+     * @see #superCommand(String, OptionLookup, int, OptionKind...)
+     */
+    public static <T> ParserTable<T> superCommand(String command, int numParams) {
+        return superCommand(command, noOptions(), numParams, NO_OPTIONS);
+    }
+
+    /**
+     * Creates a mutable parser for this table.
+     * The parser can only be used once.
+     *
+     * @return a new parser
+     */
+    public TableParser<T> newParser() {
+        return new TableParser<>(this);
+    }
+
+    private static <T> OptionLookup<T> noOptions() {
+        return OptionLookup.fromMap(Map.of());
+    }
+
+    String command() {
+        return command;
+    }
+
+    OptionLookup<T> optionNames() {
+        return optionNames;
+    }
+
+    OptionKind optionKind(int index) {
+        return optionKinds[index];
+    }
+
+    int numOptions() {
+        return optionKinds.length;
+    }
+
+    int numParams() {
+        return numParams;
+    }
+
+    Rest rest() {
+        return rest;
+    }
+}
@@ -3,6 +3,7 @@ package net.jbock.parse;
 import net.jbock.util.ErrTokenType;
 import net.jbock.util.ExToken;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -15,11 +16,17 @@ import java.util.stream.Stream;
  * double-dash escape.
  *
  * @param <T> type of keys that identify named options
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class StandardParser<T> extends SubParser<T> {
 
     private StandardParser(
-            Map<String, T> optionNames,
+            OptionLookup<T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
         super(optionNames, optionStates, numParams);
@@ -39,6 +46,23 @@ public final class StandardParser<T> extends SubParser<T> {
             Map<String, T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
+        return new StandardParser<>(OptionLookup.fromMap(optionNames), optionStates, numParams);
+    }
+
+    /**
+     * Creates a StandardParser.
+     *
+     * @param optionNames maps option names to option keys
+     * @param optionStates maps option keys to option states
+     * @param numParams number of positional parameters
+     * @param <T> type of keys that identify named options
+     *
+     * @return a parser instance
+     */
+    public static <T> StandardParser<T> create(
+            OptionLookup<T> optionNames,
+            Map<T, OptionState> optionStates,
+            int numParams) {
         return new StandardParser<>(optionNames, optionStates, numParams);
     }
 
@@ -51,4 +75,9 @@ public final class StandardParser<T> extends SubParser<T> {
     public Stream<String> rest() {
         return Stream.empty();
     }
+
+    @Override
+    public List<String> restValues() {
+        return List.of();
+    }
 }
@@ -4,10 +4,19 @@ import net.jbock.util.ExToken;
 
 import java.util.Map;
 
+/**
+ * Base class of the parsers that were used before {@link TableParser}.
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
+ */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 abstract class SubParser<T> extends AbstractParser<T> {
 
     SubParser(
-            Map<String, T> optionNames,
+            OptionLookup<T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
         super(optionNames, optionStates, numParams);
@@ -1,6 +1,7 @@
 package net.jbock.parse;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -14,13 +15,19 @@ import java.util.stream.Stream;
  * The generated parser does not support double-dash escape.
  *
  * @param <T> type of keys that identify named options
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class SuperParser<T> extends AbstractParser<T> {
 
     private final List<String> rest = new ArrayList<>();
 
     private SuperParser(
-            Map<String, T> optionNames,
+            OptionLookup<T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
         super(optionNames, optionStates, numParams);
@@ -40,6 +47,23 @@ public final class SuperParser<T> extends AbstractParser<T> {
             Map<String, T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
+        return new SuperParser<>(OptionLookup.fromMap(optionNames), optionStates, numParams);
+    }
+
+    /**
+     * Creates a SuperParser.
+     *
+     * @param optionNames maps option names to option keys
+     * @param optionStates maps option keys to option states
+     * @param numParams number of positional parameters
+     * @param <T> type of keys that identify named options
+     *
+     * @return a parser instance
+     */
+    public static <T> SuperParser<T> create(
+            OptionLookup<T> optionNames,
+            Map<T, OptionState> optionStates,
+            int numParams) {
         return new SuperParser<>(optionNames, optionStates, numParams);
     }
 
@@ -70,4 +94,9 @@ public final class SuperParser<T> extends AbstractParser<T> {
     public Stream<String> rest() {
         return rest.stream();
     }
+
+    @Override
+    public List<String> restValues() {
+        return Collections.unmodifiableList(rest);
+    }
 }
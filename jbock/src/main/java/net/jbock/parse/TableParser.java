@@ -0,0 +1,229 @@
+package net.jbock.parse;
+
+import net.jbock.jfr.Jfr;
+import net.jbock.jfr.ParseEvent;
+import net.jbock.util.ErrTokenType;
+import net.jbock.util.ExToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static net.jbock.parse.OptionStateUtil.readOptionArgument;
+import static net.jbock.util.ErrTokenType.INVALID_OPTION;
+
+/**
+ * Mutable command line parser that is driven by a {@link ParserTable}.
+ * This is a single implementation for all commands,
+ * which replaces the combination of {@link StandardParser},
+ * {@link VarargsParameterParser}, {@link SuperParser}
+ * and the {@link OptionState} objects.
+ * The option values are stored in an array that is indexed
+ * by the ordinal of the option key.
+ *
+ * <p>Instances are created with {@link ParserTable#newParser()}.
+ * Mutable parsers are not re-usable.
+ *
+ * @param <T> type of keys that identify named options,
+ *            an enum or {@code Void}
+ */
+public final class TableParser<T> implements ParseResult<T> {
+
+    private static final Pattern SUSPICIOUS = Pattern.compile("-[a-zA-Z0-9]+|--[a-zA-Z0-9-]+");
+
+    private static final String FLAG_PRESENT = "";
+
+    private final ParserTable<T> table;
+
+    // String for mode flags and non-repeatable options, List<String> for repeatable options
+    private final Object[] optionValues;
+    private final String[] params;
+    private List<String> rest;
+
+    TableParser(ParserTable<T> table) {
+        this.table = table;
+        this.optionValues = new Object[table.numOptions()];
+        this.params = new String[table.numParams()];
+        this.rest = table.rest() == ParserTable.Rest.VARARGS ? new ArrayList<>() : List.of();
+    }
+
+    /**
+     * Parse the given input and store the result internally.
+     * This method should only be invoked once.
+     *
+     * <p>If this is a super command, the {@link #restValues() remaining tokens}
+     * are a view of the end of {@code tokens}, so the input list
+     * should not be modified after this method was invoked.
+     *
+     * <p>If the flight recorder is available, a {@code net.jbock.Parse}
+     * event is recorded.
+     *
+     * @param tokens command line input
+     * @throws ExToken if the input is not valid command line syntax
+     */
+    public void parse(List<String> tokens) throws ExToken {
+        if (!Jfr.AVAILABLE) {
+            parseTokens(tokens);
+            return;
+        }
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            parseTokens(tokens);
+            success = true;
+        } finally {
+            event.record(table.command(), tokens.size(), success);
+        }
+    }
+
+    private void parseTokens(List<String> tokens) throws ExToken {
+        ListIterator<String> it = tokens.listIterator();
+        boolean superCommand = table.rest() == ParserTable.Rest.SUPER_COMMAND;
+        int position = 0;
+        boolean endOfOptionParsing = false;
+        while (it.hasNext()) {
+            if (superCommand && position >= params.length) {
+                rest = tokens.subList(it.nextIndex(), tokens.size());
+                return;
+            }
+            String token = it.next();
+            if (!endOfOptionParsing) {
+                if (!superCommand && "--".equals(token)) {
+                    endOfOptionParsing = true;
+                    continue;
+                }
+                if (tryReadOption(token, it)) {
+                    continue;
+                }
+                if (SUSPICIOUS.matcher(token).matches()) {
+                    throw new ExToken(INVALID_OPTION, token);
+                }
+            }
+            if (position < params.length) {
+                params[position++] = token;
+            } else if (table.rest() == ParserTable.Rest.NONE) {
+                throw new ExToken(ErrTokenType.EXCESS_PARAM, token);
+            } else {
+                rest.add(token);
+            }
+        }
+    }
+
+    private boolean tryReadOption(String token, Iterator<String> it) throws ExToken {
+        int end = optionNameEnd(token);
+        if (end < 0) {
+            return false;
+        }
+        OptionLookup<T> optionNames = table.optionNames();
+        T opt = optionNames.lookup(token, end);
+        if (opt == null) {
+            return false;
+        }
+        String t = token;
+        while ((t = read(index(opt), t, it)) != null) {
+            if ((end = optionNameEnd(t)) < 0) {
+                throw new ExToken(ErrTokenType.INVALID_UNIX_GROUP, token);
+            }
+            if ((opt = optionNames.lookup(t, end)) == null) {
+                throw new ExToken(ErrTokenType.INVALID_UNIX_GROUP, token);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the option at {@code index}, see {@link OptionState#read(String, Iterator)}.
+     */
+    private String read(int index, String token, Iterator<String> it) throws ExToken {
+        switch (table.optionKind(index)) {
+            case MODE_FLAG:
+                if (optionValues[index] != null) {
+                    throw new ExToken(ErrTokenType.OPTION_REPETITION, token);
+                }
+                optionValues[index] = FLAG_PRESENT;
+                if (token.startsWith("--") || token.length() == 2) {
+                    return null;
+                }
+                return '-' + token.substring(2);
+            case NON_REPEATABLE:
+                if (optionValues[index] != null) {
+                    throw new ExToken(ErrTokenType.OPTION_REPETITION, token);
+                }
+                optionValues[index] = readOptionArgument(token, it);
+                return null;
+            default:
+                if (optionValues[index] == null) {
+                    optionValues[index] = new ArrayList<String>();
+                }
+                repeatableValues(index).add(readOptionArgument(token, it));
+                return null;
+        }
+    }
+
+    /**
+     * Returns the length of the option name at the start of {@code token},
+     * or {@code -1} if the token does not start with an option name.
+     */
+    private static int optionNameEnd(String token) {
+        if (token.length() < 2 || token.charAt(0) != '-') {
+            return -1;
+        }
+        if (token.charAt(1) != '-') {
+            return 2;
+        }
+        int eq = token.indexOf('=');
+        return eq < 0 ? token.length() : eq;
+    }
+
+    @Override
+    public Stream<String> option(T option) {
+        return optionValues(option).stream();
+    }
+
+    @Override
+    public List<String> optionValues(T option) {
+        int index = index(option);
+        Object value = optionValues[index];
+        if (value == null) {
+            return List.of();
+        }
+        if (table.optionKind(index) == OptionKind.REPEATABLE) {
+            return Collections.unmodifiableList(repeatableValues(index));
+        }
+        return List.of((String) value);
+    }
+
+    @Override
+    public Optional<String> param(int index) {
+        if (index < 0 || index >= params.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(params[index]);
+    }
+
+    @Override
+    public Stream<String> rest() {
+        return rest.stream();
+    }
+
+    @Override
+    public List<String> restValues() {
+        return Collections.unmodifiableList(rest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> repeatableValues(int index) {
+        return (List<String>) optionValues[index];
+    }
+
+    /* The option keys are enum constants, unless there are no named options. */
+    private static int index(Object option) {
+        return ((Enum<?>) option).ordinal();
+    }
+}
@@ -0,0 +1,100 @@
+package net.jbock.parse;
+
+import net.jbock.model.CommandModel;
+import net.jbock.model.ItemType;
+import net.jbock.util.ParseListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ParseResult} that reports the conversion time of each item
+ * to a {@link ParseListener}.
+ * The generated code converts one item after the other,
+ * and each item's values are requested right before its conversion starts.
+ * Therefore, an item's conversion ends when the next item is requested,
+ * or when {@link #finish()} is invoked.
+ *
+ * <p>Instances are created by the generated {@code parse} method,
+ * only if a listener is registered.
+ *
+ * @param <T> type of keys that identify named options,
+ *            an enum or {@code Void}
+ */
+public final class TimedParseResult<T> implements ParseResult<T> {
+
+    private final ParseResult<T> delegate;
+    private final ParseListener listener;
+    private final CommandModel model;
+
+    private ItemType itemType;
+    private int index;
+    private long start;
+
+    /**
+     * Constructor to be used by generated code.
+     *
+     * @param delegate the parser, after parsing was successful
+     * @param listener the listener that receives the timings
+     * @param model the command model
+     */
+    public TimedParseResult(ParseResult<T> delegate, ParseListener listener, CommandModel model) {
+        this.delegate = delegate;
+        this.listener = listener;
+        this.model = model;
+    }
+
+    @Override
+    public Stream<String> option(T optionKey) {
+        begin(ItemType.OPTION, ((Enum<?>) optionKey).ordinal());
+        return delegate.option(optionKey);
+    }
+
+    @Override
+    public List<String> optionValues(T optionKey) {
+        begin(ItemType.OPTION, ((Enum<?>) optionKey).ordinal());
+        return delegate.optionValues(optionKey);
+    }
+
+    @Override
+    public Optional<String> param(int index) {
+        begin(ItemType.PARAMETER, index);
+        return delegate.param(index);
+    }
+
+    @Override
+    public Stream<String> rest() {
+        begin(ItemType.PARAMETER, model.parameters().size() - 1);
+        return delegate.rest();
+    }
+
+    @Override
+    public List<String> restValues() {
+        begin(ItemType.PARAMETER, model.parameters().size() - 1);
+        return delegate.restValues();
+    }
+
+    /**
+     * Reports the conversion time of the last item.
+     * This is invoked after all items were converted successfully.
+     */
+    public void finish() {
+        end(System.nanoTime());
+    }
+
+    private void begin(ItemType itemType, int index) {
+        long now = System.nanoTime();
+        end(now);
+        this.itemType = itemType;
+        this.index = index;
+        this.start = now;
+    }
+
+    private void end(long now) {
+        if (itemType != null) {
+            listener.converted(model, itemType, index, now - start);
+            itemType = null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.jbock.parse;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -12,13 +13,19 @@ import java.util.stream.Stream;
  * double-dash escape.
  *
  * @param <T> type of keys that identify named options
+ *
+ * @deprecated The generated code uses {@link ParserTable} and {@link TableParser} instead.
+ *             This class is kept for parsers that were generated
+ *             by earlier versions, and will be removed in a future release.
  */
+@Deprecated(forRemoval = true)
+@SuppressWarnings("removal")
 public final class VarargsParameterParser<T> extends SubParser<T> {
 
     private final List<String> rest = new ArrayList<>();
 
     private VarargsParameterParser(
-            Map<String, T> optionNames,
+            OptionLookup<T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
         super(optionNames, optionStates, numParams);
@@ -38,6 +45,23 @@ public final class VarargsParameterParser<T> extends SubParser<T> {
             Map<String, T> optionNames,
             Map<T, OptionState> optionStates,
             int numParams) {
+        return new VarargsParameterParser<>(OptionLookup.fromMap(optionNames), optionStates, numParams);
+    }
+
+    /**
+     * Creates a VarargsParameterParser.
+     *
+     * @param optionNames maps option names to option keys
+     * @param optionStates maps option keys to option states
+     * @param numParams number of non-repeatable positional parameters
+     * @param <T> type of keys that identify named options
+     *
+     * @return a parser instance
+     */
+    public static <T> VarargsParameterParser<T> create(
+            OptionLookup<T> optionNames,
+            Map<T, OptionState> optionStates,
+            int numParams) {
         return new VarargsParameterParser<>(optionNames, optionStates, numParams);
     }
 
@@ -58,4 +82,9 @@ public final class VarargsParameterParser<T> extends SubParser<T> {
     public Stream<String> rest() {
         return rest.stream();
     }
+
+    @Override
+    public List<String> restValues() {
+        return Collections.unmodifiableList(rest);
+    }
 }
@@ -0,0 +1,126 @@
+package net.jbock.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import static net.jbock.util.ShellQuoting.closingQuote;
+import static net.jbock.util.ShellQuoting.isQuote;
+import static net.jbock.util.ShellQuoting.isWhitespace;
+import static net.jbock.util.ShellQuoting.unquote;
+
+/**
+ * The tokens of a command line that was given as a single string.
+ * The command line is split at unquoted whitespace.
+ * The quoting rules are the same as for the lines of an {@code @file}:
+ * Single quotes preserve all characters literally,
+ * a backslash escapes the next character outside of single quotes,
+ * and {@code \n}, {@code \r} and {@code \t} are the usual control characters.
+ * The generated {@code parse(CharSequence)} method and
+ * {@link net.jbock.contrib.CommandShell CommandShell} use this class.
+ *
+ * <p>The input is scanned once, and only the bounds of each token are stored.
+ * A token is converted to a {@code String} when it is first accessed.
+ * If the token contains neither quotes nor backslashes,
+ * this is a plain copy of the corresponding region of the input.
+ * The input must not be modified while the list is in use.
+ *
+ * <p>Instances of this class are unmodifiable lists.
+ */
+public final class CommandLineTokens extends AbstractList<String> implements RandomAccess {
+
+    private final CharSequence input;
+
+    // start and end of each token; the end is negated if the token contains quotes or backslashes
+    private final int[] bounds;
+    private final String[] tokens;
+
+    private CommandLineTokens(CharSequence input, int[] bounds, int size) {
+        this.input = input;
+        this.bounds = bounds;
+        this.tokens = new String[size];
+    }
+
+    /**
+     * Splits the command line {@code input} into tokens.
+     * This method is used by the generated {@code parse(CharSequence)} method.
+     * The exception is internal API, so client code should invoke
+     * the generated method instead.
+     *
+     * @param input a command line
+     * @return the tokens of the command line
+     * @throws ExToken if a quote is not closed,
+     *                 or the input ends with a backslash
+     */
+    public static CommandLineTokens tokenize(CharSequence input) throws ExToken {
+        Objects.requireNonNull(input);
+        int length = input.length();
+        int[] bounds = new int[16];
+        int size = 0;
+        int i = 0;
+        while (true) {
+            while (i < length && isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                return new CommandLineTokens(input, bounds, size);
+            }
+            int start = i;
+            boolean plain = true;
+            while (i < length && !isWhitespace(input.charAt(i))) {
+                char c = input.charAt(i);
+                if (c == '\\') {
+                    plain = false;
+                    if (i + 1 == length) {
+                        throw new ExToken(ErrTokenType.TRAILING_BACKSLASH, input.subSequence(start, length).toString());
+                    }
+                    i += 2;
+                } else if (isQuote(c)) {
+                    plain = false;
+                    i = closingQuote(input, i);
+                    if (i < 0) {
+                        throw new ExToken(ErrTokenType.UNMATCHED_QUOTE, input.subSequence(start, length).toString());
+                    }
+                    i++;
+                } else {
+                    i++;
+                }
+            }
+            if (2 * size + 2 > bounds.length) {
+                bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+            }
+            bounds[2 * size] = start;
+            bounds[2 * size + 1] = plain ? i : -i;
+            size++;
+        }
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, tokens.length);
+        String token = tokens[index];
+        if (token == null) {
+            token = createToken(index);
+            tokens[index] = token;
+        }
+        return token;
+    }
+
+    @Override
+    public int size() {
+        return tokens.length;
+    }
+
+    private String createToken(int index) {
+        int start = bounds[2 * index];
+        int end = bounds[2 * index + 1];
+        if (end >= 0) {
+            return input.subSequence(start, end).toString();
+        }
+        end = -end;
+        StringBuilder sb = new StringBuilder(end - start);
+        unquote(input, start, end, sb);
+        return sb.toString();
+    }
+}
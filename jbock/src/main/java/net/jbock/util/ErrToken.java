@@ -55,6 +55,10 @@ public final class ErrToken extends ParsingFailed {
                 return String.format("Option '%s' is a repetition", token);
             case INVALID_UNIX_GROUP:
                 return "Invalid token: " + token;
+            case UNMATCHED_QUOTE:
+                return "Unmatched quote: " + token;
+            case TRAILING_BACKSLASH:
+                return "Backslash at end of input: " + token;
             default:
                 throw new AssertionError("all cases exhausted");
         }
@@ -36,4 +36,18 @@ public enum ErrTokenType {
      * @see net.jbock.model.Arity
      */
     MISSING_ARGUMENT,
+
+    /**
+     * A quote in a command line string was not closed.
+     *
+     * @see CommandLineTokens
+     */
+    UNMATCHED_QUOTE,
+
+    /**
+     * A command line string ends with a backslash.
+     *
+     * @see CommandLineTokens
+     */
+    TRAILING_BACKSLASH,
 }
@@ -28,6 +28,15 @@ public final class ExToken extends ExFailure {
         this.token = token;
     }
 
+    /**
+     * Returns the error type.
+     *
+     * @return error type
+     */
+    public ErrTokenType errorType() {
+        return errorType;
+    }
+
     @Override
     public ParsingFailed toError(CommandModel model) {
         return new ErrToken(model, errorType, token);
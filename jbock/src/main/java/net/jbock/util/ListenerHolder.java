@@ -0,0 +1,12 @@
+package net.jbock.util;
+
+/**
+ * Holds the registered {@link ParseListener}.
+ */
+final class ListenerHolder {
+
+    static volatile ParseListener listener;
+
+    private ListenerHolder() {
+    }
+}
@@ -0,0 +1,96 @@
+package net.jbock.util;
+
+import net.jbock.model.CommandModel;
+import net.jbock.model.ItemType;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Receives timings from the generated {@code parse} and {@code parseOrExit} methods.
+ * A listener is registered globally with {@link #register(ParseListener)}.
+ * If no listener is registered, the generated code does not measure anything.
+ *
+ * <p>All methods have an empty default implementation.
+ * They are invoked on the thread that is parsing, so implementations
+ * must be thread-safe if several threads are parsing at the same time.
+ * Times are measured with {@link System#nanoTime()}.
+ */
+public interface ParseListener {
+
+    /**
+     * Registers the listener that receives the timings of all subsequent
+     * parsing operations, replacing any previously registered listener.
+     *
+     * @param listener a listener
+     */
+    static void register(ParseListener listener) {
+        ListenerHolder.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Removes the registered listener, if there is one.
+     */
+    static void unregister() {
+        ListenerHolder.listener = null;
+    }
+
+    /**
+     * Returns the registered listener.
+     * This method is used by generated code,
+     * which skips all measurements if the result is {@code null}.
+     *
+     * @return the registered listener, or {@code null}
+     */
+    static ParseListener registered() {
+        return ListenerHolder.listener;
+    }
+
+    /**
+     * Invoked after an {@code @-file} was read successfully.
+     *
+     * @param path the {@code @-file}
+     * @param tokenCount number of tokens after expansion,
+     *                   including the tokens that followed the {@code @-file} argument
+     * @param nanos time spent reading and tokenizing the file
+     */
+    default void atFileExpanded(Path path, int tokenCount, long nanos) {
+    }
+
+    /**
+     * Invoked after the tokens were assigned to options and parameters,
+     * before any conversion is done.
+     * This is also invoked if the tokens could not be assigned,
+     * for example because of an unknown option,
+     * before {@link #failed(ParsingFailed)} is invoked.
+     *
+     * @param model the command model
+     * @param tokenCount number of input tokens
+     * @param nanos time spent in the parser
+     */
+    default void tokenized(CommandModel model, int tokenCount, long nanos) {
+    }
+
+    /**
+     * Invoked after the value of an option or parameter was converted.
+     * This is not invoked for the item whose conversion failed.
+     *
+     * @see CommandModel#getItem(ItemType, int)
+     * @param model the command model
+     * @param itemType whether the item is an option or a parameter
+     * @param index the index of the item in the command model
+     * @param nanos time spent in the converter
+     */
+    default void converted(CommandModel model, ItemType itemType, int index, long nanos) {
+    }
+
+    /**
+     * Invoked when parsing failed.
+     * The type of the failure is one of
+     * {@link ErrToken}, {@link ErrConvert} or {@link ErrMissingItem}.
+     *
+     * @param failure the failure
+     */
+    default void failed(ParsingFailed failure) {
+    }
+}
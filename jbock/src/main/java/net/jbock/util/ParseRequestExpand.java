@@ -1,6 +1,8 @@
 package net.jbock.util;
 
 import io.jbock.util.Either;
+import net.jbock.jfr.AtFileExpandEvent;
+import net.jbock.jfr.Jfr;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -24,15 +26,32 @@ final class ParseRequestExpand extends ParseRequest {
 
     @Override
     public Either<? extends AtFileError, List<String>> expand() {
+        if (!Jfr.AVAILABLE) {
+            return readAtFile();
+        }
+        AtFileExpandEvent event = new AtFileExpandEvent();
+        event.begin();
+        Either<? extends AtFileError, List<String>> result = readAtFile();
+        event.record(path, result.getRight().map(List::size).orElse(0), result.isRight());
+        return result;
+    }
+
+    private Either<? extends AtFileError, List<String>> readAtFile() {
+        ParseListener listener = ParseListener.registered();
+        long start = listener == null ? 0L : System.nanoTime();
         try {
             List<String> lines = Files.readAllLines(path);
-            return readAtLines(lines)
+            Either<AtFileSyntaxError, List<String>> result = readAtLines(lines)
                     .mapLeft(r -> new AtFileSyntaxError(path, r.number, r.lineResult.message()))
                     .map(atLines -> {
                         List<String> atLinesWithRest = new ArrayList<>(atLines);
                         atLinesWithRest.addAll(args);
                         return atLinesWithRest;
                     });
+            if (listener != null && result.isRight()) {
+                listener.atFileExpanded(path, result.getRight().orElseThrow().size(), System.nanoTime() - start);
+            }
+            return result;
         } catch (Exception e) {
             return left(new AtFileReadError(e, path));
         }
@@ -69,44 +88,13 @@ final class ParseRequestExpand extends ParseRequest {
     }
 
     private LineResult readLine(String line, StringBuilder sb) {
-        boolean esc = false;
-        Mode mode = Mode.PLAIN;
-        int length = line.length();
-        for (int i = 0; i < length; i++) {
-            char c = line.charAt(i);
-            if (c == '\'' && mode != Mode.DOUBLE_QUOTE) {
-                if (esc) {
-                    sb.append('\'');
-                } else {
-                    mode = mode.toggle(Mode.SINGLE_QUOTE);
-                }
-            } else if (mode != Mode.SINGLE_QUOTE && c == '\\') {
-                if (esc) {
-                    sb.append('\\');
-                    esc = false;
-                } else {
-                    esc = true;
-                }
-            } else if (mode != Mode.SINGLE_QUOTE && !esc && c == '\"') {
-                mode = mode.toggle(Mode.DOUBLE_QUOTE);
-            } else if (esc) {
-                sb.append(escapeValue(c));
-                esc = false;
-            } else { // either quoted or not escaped
-                sb.append(c);
-            }
-        }
-        if (mode != Mode.PLAIN) {
-            return LineResult.UNMATCHED_QUOTE;
-        }
-        return esc ? LineResult.CONTINUE : LineResult.END;
-    }
-
-    private enum Mode {
-        SINGLE_QUOTE, DOUBLE_QUOTE, PLAIN;
-
-        Mode toggle(Mode other) {
-            return this == other ? PLAIN : other;
+        switch (ShellQuoting.unquote(line, 0, line.length(), sb)) {
+            case CONTINUE:
+                return LineResult.CONTINUE;
+            case UNMATCHED_QUOTE:
+                return LineResult.UNMATCHED_QUOTE;
+            default:
+                return LineResult.END;
         }
     }
 
@@ -173,17 +161,4 @@ final class ParseRequestExpand extends ParseRequest {
             return "";
         }
     }
-
-    private char escapeValue(char c) {
-        switch (c) {
-            case 'n':
-                return '\n';
-            case 'r':
-                return '\r';
-            case 't':
-                return '\t';
-            default:
-                return c;
-        }
-    }
 }
@@ -0,0 +1,104 @@
+package net.jbock.util;
+
+/**
+ * The quoting rules that are shared by {@code @file} lines
+ * and {@link CommandLineTokens}.
+ * Single quotes preserve all characters literally,
+ * a backslash escapes the next character outside of single quotes,
+ * and {@code \n}, {@code \r} and {@code \t} are the usual control characters.
+ */
+final class ShellQuoting {
+
+    enum Result {
+
+        /** The quotes are balanced, and there is no trailing backslash. */
+        END,
+
+        /** The input ends with an unquoted backslash. */
+        CONTINUE,
+
+        /** A quote is not closed. */
+        UNMATCHED_QUOTE
+    }
+
+    private ShellQuoting() {
+    }
+
+    /**
+     * Removes the quotes and escapes from a region of {@code input},
+     * and appends the result to {@code sb}.
+     * Whitespace is not treated specially.
+     *
+     * @param input the input
+     * @param start start of the region, inclusive
+     * @param end end of the region, exclusive
+     * @param sb output
+     * @return the state at the end of the region
+     */
+    static Result unquote(CharSequence input, int start, int end, StringBuilder sb) {
+        char quote = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (quote == '\'') {
+                if (c == '\'') {
+                    quote = 0;
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '\\') {
+                if (i + 1 == end) {
+                    return quote == 0 ? Result.CONTINUE : Result.UNMATCHED_QUOTE;
+                }
+                sb.append(escapeValue(input.charAt(++i)));
+            } else if (c == quote) {
+                quote = 0;
+            } else if (quote == 0 && (c == '\'' || c == '"')) {
+                quote = c;
+            } else {
+                sb.append(c);
+            }
+        }
+        return quote == 0 ? Result.END : Result.UNMATCHED_QUOTE;
+    }
+
+    /**
+     * Returns the index of the quote that closes the quote at index {@code open},
+     * or {@code -1} if there is none.
+     */
+    static int closingQuote(CharSequence input, int open) {
+        char quote = input.charAt(open);
+        int length = input.length();
+        for (int i = open + 1; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == quote) {
+                return i;
+            }
+            if (c == '\\' && quote == '"') {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isQuote(char c) {
+        return c == '\'' || c == '"';
+    }
+
+    static char escapeValue(char c) {
+        switch (c) {
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                return c;
+        }
+    }
+
+    /* Same as the regex \s */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
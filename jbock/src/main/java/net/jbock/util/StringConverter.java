@@ -1,6 +1,9 @@
 package net.jbock.util;
 
 import io.jbock.util.Either;
+import net.jbock.jfr.ConvertEvent;
+import net.jbock.jfr.Jfr;
+import net.jbock.model.ItemType;
 
 import java.util.function.Function;
 
@@ -54,12 +57,25 @@ public abstract class StringConverter<T> implements Function<String, Either<Conv
     /**
      * This method is internal API and should not be used
      * in client code.
+     * If the flight recorder is available, a {@code net.jbock.Convert}
+     * event is recorded.
      *
      * @param token a non-null string
      * @return conversion result
      */
     @Override
     public final Either<ConverterFailure, T> apply(String token) {
+        if (!Jfr.AVAILABLE) {
+            return applyConvert(token);
+        }
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        Either<ConverterFailure, T> result = applyConvert(token);
+        event.record(null, getClass(), null, -1, result.isRight());
+        return result;
+    }
+
+    private Either<ConverterFailure, T> applyConvert(String token) {
         try {
             T result = convert(token);
             if (result == null) {
@@ -70,4 +86,46 @@ public abstract class StringConverter<T> implements Function<String, Either<Conv
             return left(new ConverterThrewException(e));
         }
     }
+
+    /**
+     * This method is internal API and should not be used
+     * in client code.
+     * It is the same as {@link #apply(String)}, but throws
+     * instead of returning a failure.
+     *
+     * @param token a non-null string
+     * @param command the program name of the command, for the flight recorder
+     * @param itemType the type of the item that is converted
+     * @param itemIndex the index of the item that is converted
+     * @return conversion result
+     * @throws ExConvert if the conversion fails
+     */
+    public final T applyOrThrow(String token, String command, ItemType itemType, int itemIndex) throws ExConvert {
+        if (!Jfr.AVAILABLE) {
+            return convertOrThrow(token, itemType, itemIndex);
+        }
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            T result = convertOrThrow(token, itemType, itemIndex);
+            success = true;
+            return result;
+        } finally {
+            event.record(command, getClass(), itemType.name(), itemIndex, success);
+        }
+    }
+
+    private T convertOrThrow(String token, ItemType itemType, int itemIndex) throws ExConvert {
+        T result;
+        try {
+            result = convert(token);
+        } catch (Exception e) {
+            throw new ExConvert(new ConverterThrewException(e), itemType, itemIndex);
+        }
+        if (result == null) {
+            throw new ExConvert(new ConverterReturnedNull(), itemType, itemIndex);
+        }
+        return result;
+    }
 }
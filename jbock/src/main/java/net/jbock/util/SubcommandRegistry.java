@@ -0,0 +1,101 @@
+package net.jbock.util;
+
+import io.jbock.util.Either;
+import net.jbock.model.CommandModel;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A table of subcommands, which is generated for a super command
+ * that has the {@link net.jbock.SuperCommand#subcommands()} attribute.
+ * The parser of a subcommand is not loaded until it is used,
+ * so the startup time does not depend on the number of subcommands.
+ * Instances of this class are immutable, and can be shared between threads.
+ */
+public abstract class SubcommandRegistry {
+
+    private final String[] names;
+
+    /**
+     * Constructor to be used by generated code.
+     *
+     * @param names the subcommand names, sorted in ascending order
+     */
+    protected SubcommandRegistry(String... names) {
+        this.names = names;
+    }
+
+    /**
+     * Returns the names of all subcommands.
+     *
+     * @return an unmodifiable list of subcommand names, sorted in ascending order
+     */
+    public final List<String> names() {
+        return List.of(names);
+    }
+
+    /**
+     * Checks if there is a subcommand with the given name.
+     *
+     * @param name a subcommand name
+     * @return {@code true} if the subcommand exists
+     */
+    public final boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * Parses the tokens with the parser of the named subcommand.
+     *
+     * @param name a subcommand name
+     * @param tokens command line input, for example {@link SuperResult#getRestTokens()}
+     * @return the parse result, or an empty {@code Optional}
+     *         if there is no subcommand with this name
+     */
+    public final Optional<Either<ParsingFailed, ?>> parse(String name, List<String> tokens) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(parseSubcommand(index, tokens));
+    }
+
+    /**
+     * Creates the model of the named subcommand,
+     * which can be used to print its usage documentation.
+     *
+     * @param name a subcommand name
+     * @return the command model, or an empty {@code Optional}
+     *         if there is no subcommand with this name
+     */
+    public final Optional<CommandModel> createModel(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(createSubcommandModel(index));
+    }
+
+    /**
+     * Invokes the parser of a subcommand.
+     *
+     * @param index the position of the subcommand in {@link #names()}
+     * @param tokens command line input
+     * @return the parse result
+     */
+    protected abstract Either<ParsingFailed, ?> parseSubcommand(int index, List<String> tokens);
+
+    /**
+     * Invokes the {@code createModel} method of a subcommand.
+     *
+     * @param index the position of the subcommand in {@link #names()}
+     * @return the command model
+     */
+    protected abstract CommandModel createSubcommandModel(int index);
+
+    private int indexOf(String name) {
+        return Arrays.binarySearch(names, name);
+    }
+}
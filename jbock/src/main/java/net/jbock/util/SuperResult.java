@@ -17,7 +17,7 @@ public final class SuperResult<S> {
      *
      * @param superCommand command instance
      * @param rest remaining tokens ignored by the SuperCommand,
-     *             to be used by a subcommand
+     *             to be used by a subcommand, an unmodifiable list
      */
     public SuperResult(S superCommand, List<String> rest) {
         this.superCommand = superCommand;
@@ -60,10 +60,24 @@ public final class SuperResult<S> {
 
     /**
      * Returns the remaining tokens, after the SuperCommand's last parameter.
+     * This method creates a new array on each invocation,
+     * consider using {@link #getRestTokens()} instead.
      *
      * @return remaining tokens, suitable for further parsing
      */
     public String[] getRest() {
         return rest.toArray(new String[0]);
     }
+
+    /**
+     * Returns the remaining tokens, after the SuperCommand's last parameter.
+     * The result is an unmodifiable view of the end of the parser input,
+     * which can be passed to the {@code parse} method of a subcommand parser
+     * without copying.
+     *
+     * @return remaining tokens, an unmodifiable list
+     */
+    public List<String> getRestTokens() {
+        return rest;
+    }
 }
@@ -0,0 +1,129 @@
+package net.jbock.contrib;
+
+import io.jbock.util.Either;
+import net.jbock.model.CommandModel;
+import net.jbock.util.ErrToken;
+import net.jbock.util.ErrTokenType;
+import net.jbock.util.ParsingFailed;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandShellTest {
+
+    private static final CommandModel ECHO = CommandModel.builder()
+            .withProgramName("echo")
+            .addUsageDocumentation(80, false, "echo usage\n")
+            .build();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final List<List<String>> echoed = new ArrayList<>();
+    private int modelCalls;
+
+    private final CommandShell shell = CommandShell.builder()
+            .withOutputStream(new PrintStream(out))
+            .withAnsi(false)
+            .addCommand("echo", this::model, this::parse, echoed::add)
+            .build();
+
+    @Test
+    void testRun() throws IOException {
+        int failures = shell.run(new StringReader(String.join("\n",
+                "echo a 'b c'",
+                "",
+                "  # comment",
+                "echo d \\",
+                "  e",
+                "echo")));
+        assertEquals(0, failures);
+        assertEquals(List.of(List.of("a", "b c"), List.of("d", "e"), List.of()), echoed);
+        assertEquals("", out.toString());
+    }
+
+    @Test
+    void testParsingFailed() {
+        assertFalse(shell.execute("echo --fail"));
+        assertTrue(echoed.isEmpty());
+        assertEquals(String.join(System.lineSeparator(),
+                "ERROR: Invalid option: --fail",
+                "Usage: echo",
+                "Type 'echo --help' for more information.",
+                ""), out.toString());
+    }
+
+    @Test
+    void testHelp() {
+        assertTrue(shell.execute("echo --help"));
+        assertTrue(shell.execute("echo --help"));
+        assertEquals("echo usage" + System.lineSeparator() + "echo usage" + System.lineSeparator(), out.toString());
+        assertEquals(1, modelCalls);
+    }
+
+    @Test
+    void testUnknownCommand() {
+        assertFalse(shell.execute("ls -l"));
+        assertEquals(String.join(System.lineSeparator(),
+                "ERROR: unknown command: ls",
+                "Commands: echo",
+                ""), out.toString());
+    }
+
+    @Test
+    void testSyntaxErrors() throws IOException {
+        int failures = shell.run(new StringReader(String.join("\n",
+                "echo 'a",
+                "echo b",
+                "echo c \\")));
+        assertEquals(2, failures);
+        assertEquals(List.of(List.of("b")), echoed);
+        assertEquals(String.join(System.lineSeparator(),
+                "ERROR: Unmatched quote: 'a",
+                "Usage: echo",
+                "Type 'echo --help' for more information.",
+                "ERROR: Backslash at end of input: \\",
+                "Usage: echo",
+                "Type 'echo --help' for more information.",
+                ""), out.toString());
+    }
+
+    @Test
+    void testSyntaxErrorInUnknownCommand() {
+        assertFalse(shell.execute("ls 'a"));
+        assertEquals(String.join(System.lineSeparator(),
+                "ERROR: unknown command: ls",
+                "Commands: echo",
+                ""), out.toString());
+    }
+
+    @Test
+    void testDuplicateCommand() {
+        CommandShell.Builder builder = CommandShell.builder()
+                .addCommand("echo", this::model, this::parse, echoed::add);
+        assertThrows(IllegalArgumentException.class, () ->
+                builder.addCommand("echo", this::model, this::parse, echoed::add));
+    }
+
+    private CommandModel model() {
+        modelCalls++;
+        return ECHO;
+    }
+
+    private Either<ParsingFailed, List<String>> parse(List<String> tokens) {
+        for (String token : tokens) {
+            if (token.startsWith("--")) {
+                return Either.left(new ErrToken(ECHO, ErrTokenType.INVALID_OPTION, token));
+            }
+        }
+        return Either.right(List.copyOf(tokens));
+    }
+}
@@ -0,0 +1,77 @@
+package net.jbock.contrib;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageSourceTest {
+
+    private static final String BUNDLE = "net.jbock.contrib.TestMessages";
+
+    @Test
+    void bundleMessages() {
+        MessageSource messages = MessageSource.fromBundle(BUNDLE, Locale.ROOT);
+        assertEquals(Optional.of("the input file"), messages.getMessage("file.description"));
+        assertEquals(Optional.empty(), messages.getMessage("unknown"));
+    }
+
+    @Test
+    void bundleIsLoadedFromContextClassLoader() throws IOException {
+        ClassLoader loader1 = bundleLoader("one");
+        ClassLoader loader2 = bundleLoader("two");
+        MessageSource messages1 = fromBundle(loader1);
+        MessageSource messages2 = fromBundle(loader2);
+        assertEquals(Optional.of("one"), messages1.getMessage("value"));
+        assertEquals(Optional.of("two"), messages2.getMessage("value"));
+        assertEquals(Optional.of("two"),
+                MessageSource.fromBundle("test.Plugin", Locale.ROOT, loader2).getMessage("value"));
+    }
+
+    private static MessageSource fromBundle(ClassLoader contextClassLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(contextClassLoader);
+        try {
+            return MessageSource.fromBundle("test.Plugin", Locale.ROOT);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /* Creates a class loader that contains a bundle test.Plugin with the given value. */
+    private static ClassLoader bundleLoader(String value) throws IOException {
+        Path dir = Files.createTempDirectory("jbock-bundle");
+        Files.createDirectories(dir.resolve("test"));
+        Files.writeString(dir.resolve("test/Plugin.properties"), "value=" + value + "\n");
+        return new URLClassLoader(new URL[]{dir.toUri().toURL()}, null);
+    }
+
+    @Test
+    void bundleIsNotLoadedBeforeFirstLookup() {
+        // no exception, even though the bundle does not exist
+        MessageSource.fromBundle("net.jbock.contrib.NoSuchBundle", Locale.ROOT);
+    }
+
+    @Test
+    void missingBundleIsEmpty() {
+        MessageSource messages = MessageSource.fromBundle("net.jbock.contrib.NoSuchBundle", Locale.ROOT);
+        assertEquals(Optional.empty(), messages.getMessage("file.description"));
+        assertEquals(Optional.empty(), messages.getMessage("file.description"));
+    }
+
+    @Test
+    void mapMessages() {
+        MessageSource messages = MessageSource.fromMap(Map.of("a", "b"));
+        assertEquals(Optional.of("b"), messages.getMessage("a"));
+        assertEquals(Optional.empty(), messages.getMessage("c"));
+    }
+}
@@ -0,0 +1,143 @@
+package net.jbock.contrib;
+
+import io.jbock.util.Either;
+import net.jbock.model.CommandModel;
+import net.jbock.util.ErrToken;
+import net.jbock.util.ErrTokenType;
+import net.jbock.util.ParsingFailed;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.jbock.util.Either.left;
+import static io.jbock.util.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParseCacheTest {
+
+    private static final CommandModel MODEL = CommandModel.builder().withProgramName("join").build();
+
+    private int parserCalls;
+
+    private Either<ParsingFailed, String> parse(List<String> tokens) {
+        parserCalls++;
+        if (tokens.contains("--bad")) {
+            return left(new ErrToken(MODEL, ErrTokenType.INVALID_OPTION, "--bad"));
+        }
+        return right(String.join(",", tokens));
+    }
+
+    @Test
+    void testHit() {
+        ParseCache<String> cache = ParseCache.builder(this::parse).build();
+        Either<ParsingFailed, String> first = cache.parse(List.of("a", "b"));
+        Either<ParsingFailed, String> second = cache.parse(new ArrayList<>(List.of("a", "b")));
+        assertEquals("a,b", first.getRight().orElseThrow());
+        assertSame(first, second);
+        assertEquals(1, parserCalls);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFailureIsCached() {
+        ParseCache<String> cache = ParseCache.builder(this::parse).build();
+        ParsingFailed failure = cache.parse(List.of("--bad")).getLeft().orElseThrow();
+        assertSame(failure, cache.parse(List.of("--bad")).getLeft().orElseThrow());
+        assertEquals(1, parserCalls);
+    }
+
+    @Test
+    void testKeyIsCopied() {
+        ParseCache<String> cache = ParseCache.builder(this::parse).build();
+        List<String> tokens = new ArrayList<>(List.of("a"));
+        cache.parse(tokens);
+        tokens.set(0, "b");
+        assertEquals("b", cache.parse(tokens).getRight().orElseThrow());
+        assertEquals("a", cache.parse(List.of("a")).getRight().orElseThrow());
+        assertEquals(2, parserCalls);
+    }
+
+    @Test
+    void testMaximumSize() {
+        ParseCache<String> cache = ParseCache.builder(this::parse)
+                .withMaximumSize(2)
+                .build();
+        cache.parse(List.of("a"));
+        cache.parse(List.of("b"));
+        cache.parse(List.of("c"));
+        assertEquals(2, cache.size());
+        cache.parse(List.of("c"));
+        cache.parse(List.of("a")); // evicted
+        assertEquals(4, parserCalls);
+        assertEquals(1, cache.hitCount());
+        assertEquals(4, cache.missCount());
+    }
+
+    @Test
+    void testSkip() {
+        ParseCache<String> cache = ParseCache.builder(this::parse)
+                .withSkip(tokens -> tokens.contains("--file"))
+                .build();
+        cache.parse(List.of("--file", "x"));
+        cache.parse(List.of("--file", "x"));
+        assertEquals(2, parserCalls);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.missCount());
+    }
+
+    @Test
+    void testClear() {
+        ParseCache<String> cache = ParseCache.builder(this::parse).build();
+        cache.parse(List.of("a"));
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.parse(List.of("a"));
+        assertEquals(2, parserCalls);
+        assertTrue(cache.parse(List.of("a")).isRight());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void testConcurrentClear() throws InterruptedException {
+        ParseCache<String> cache = ParseCache.<String>builder(tokens -> right(String.join(",", tokens)))
+                .withMaximumSize(8)
+                .build();
+        AtomicInteger maxSize = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    cache.parse(List.of(Integer.toString(i * 4 + offset)));
+                    if (i % 100 == 0) {
+                        cache.clear();
+                    }
+                    maxSize.accumulateAndGet(cache.size(), Math::max);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(maxSize.get() <= 8);
+        assertTrue(cache.size() <= 8);
+        cache.clear();
+        for (int i = 0; i < 8; i++) {
+            cache.parse(List.of("x" + i));
+        }
+        assertEquals(8, cache.size());
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> ParseCache.builder(this::parse).withMaximumSize(0));
+    }
+}
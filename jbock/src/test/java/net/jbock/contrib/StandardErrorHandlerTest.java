@@ -0,0 +1,159 @@
+package net.jbock.contrib;
+
+import net.jbock.model.CommandModel;
+import net.jbock.model.Multiplicity;
+import net.jbock.model.Option;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandardErrorHandlerTest {
+
+    private static final String PRERENDERED = "pre-rendered\n";
+
+    private final CommandModel model = CommandModel.builder()
+            .withProgramName("test")
+            .addOption(Option.unary(Multiplicity.OPTIONAL)
+                    .withParamLabel("FILE")
+                    .withNames(List.of("-f", "--file"))
+                    .addDescriptionLine("the file")
+                    .build())
+            .addUsageDocumentation(80, false, PRERENDERED)
+            .build();
+
+    @Test
+    void renderUsageDocumentation() {
+        String text = StandardErrorHandler.builder()
+                .withAnsi(false)
+                .build()
+                .renderUsageDocumentation(model);
+        assertEquals("USAGE\n" +
+                "  test [OPTIONS]\n" +
+                "\n" +
+                "OPTIONS\n" +
+                "  -f, --file FILE  the file\n", text);
+    }
+
+    @Test
+    void usesPrerenderedUsageDocumentation() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StandardErrorHandler.builder()
+                .withOutputStream(new PrintStream(out))
+                .withAnsi(false)
+                .build()
+                .printUsageDocumentation(model);
+        assertEquals(PRERENDERED.replace("\n", System.lineSeparator()), out.toString());
+    }
+
+    @Test
+    void fallbackOtherTerminalWidth() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StandardErrorHandler errorHandler = StandardErrorHandler.builder()
+                .withOutputStream(new PrintStream(out))
+                .withTerminalWidth(100)
+                .withAnsi(false)
+                .build();
+        errorHandler.printUsageDocumentation(model);
+        String expected = errorHandler.renderUsageDocumentation(model);
+        assertEquals(expected.replace("\n", System.lineSeparator()), out.toString());
+    }
+
+    @Test
+    void prerenderedWithUnusedMessages() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StandardErrorHandler.builder()
+                .withOutputStream(new PrintStream(out))
+                .withMessages(Map.of("key", "value"))
+                .withAnsi(false)
+                .build()
+                .printUsageDocumentation(model);
+        assertEquals(PRERENDERED.replace("\n", System.lineSeparator()), out.toString());
+    }
+
+    @Test
+    void wrapsLongDescriptions() {
+        CommandModel model = CommandModel.builder()
+                .withProgramName("test")
+                .addDescriptionLine("  one two\tthree  ")
+                .addDescriptionLine("four")
+                .addOption(Option.nullary()
+                        .withParamLabel("Q")
+                        .withNames(List.of("-q"))
+                        .addDescriptionLine("alpha beta gamma delta")
+                        .build())
+                .build();
+        String text = StandardErrorHandler.builder()
+                .withAnsi(false)
+                .withTerminalWidth(14)
+                .build()
+                .renderUsageDocumentation(model);
+        assertEquals("one two three \n" +
+                "four\n" +
+                "\n" +
+                "USAGE\n" +
+                "  test\n" +
+                "        [OPTIONS]\n" +
+                "\n" +
+                "OPTIONS\n" +
+                "  -q  alpha\n" +
+                "      beta\n" +
+                "      gamma\n" +
+                "      delta\n", text);
+    }
+
+    @Test
+    void messageSource() {
+        CommandModel model = CommandModel.builder()
+                .withProgramName("test")
+                .addOption(Option.unary(Multiplicity.OPTIONAL)
+                        .withParamLabel("FILE")
+                        .withNames(List.of("--file"))
+                        .withDescriptionKey("file.description")
+                        .addDescriptionLine("default description")
+                        .build())
+                .addUsageDocumentation(80, false, PRERENDERED)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StandardErrorHandler.builder()
+                .withOutputStream(new PrintStream(out))
+                .withMessageSource(MessageSource.fromBundle("net.jbock.contrib.TestMessages", Locale.ROOT))
+                .withAnsi(false)
+                .build()
+                .printUsageDocumentation(model);
+        assertEquals(String.join(System.lineSeparator(),
+                "USAGE",
+                "  test [OPTIONS]",
+                "",
+                "OPTIONS",
+                "  --file FILE  the input file",
+                ""), out.toString());
+    }
+
+    @Test
+    void missingBundle() {
+        CommandModel model = CommandModel.builder()
+                .withProgramName("test")
+                .addOption(Option.unary(Multiplicity.OPTIONAL)
+                        .withParamLabel("FILE")
+                        .withNames(List.of("--file"))
+                        .withDescriptionKey("file.description")
+                        .addDescriptionLine("default description")
+                        .build())
+                .addUsageDocumentation(80, false, PRERENDERED)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StandardErrorHandler.builder()
+                .withOutputStream(new PrintStream(out))
+                .withMessageSource(MessageSource.fromBundle("net.jbock.contrib.NoSuchBundle", Locale.ROOT))
+                .withAnsi(false)
+                .build()
+                .printUsageDocumentation(model);
+        assertEquals(PRERENDERED.replace("\n", System.lineSeparator()), out.toString());
+    }
+}
@@ -0,0 +1,106 @@
+package net.jbock.jfr;
+
+import net.jbock.model.ItemType;
+import net.jbock.parse.ParserTable;
+import net.jbock.parse.TableParser;
+import net.jbock.util.ExConvert;
+import net.jbock.util.ExToken;
+import net.jbock.util.ParseRequest;
+import net.jbock.util.StringConverter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    private static final ParserTable<Void> TABLE = ParserTable.standard("jfr-test", 1);
+
+    private static final StringConverter<Integer> CONVERTER = StringConverter.create(Integer::valueOf);
+
+    @Test
+    void testParse() throws Exception {
+        List<RecordedEvent> events = record("net.jbock.Parse", () -> {
+            TableParser<Void> parser = TABLE.newParser();
+            parser.parse(List.of("a"));
+            assertThrows(ExToken.class, () -> TABLE.newParser().parse(List.of("a", "b")));
+        });
+        assertEquals(2, events.size());
+        assertEquals("jfr-test", events.get(0).getString("command"));
+        assertEquals(1, events.get(0).getInt("tokenCount"));
+        assertEquals("success", events.get(0).getString("outcome"));
+        assertEquals(2, events.get(1).getInt("tokenCount"));
+        assertEquals("failure", events.get(1).getString("outcome"));
+    }
+
+    @Test
+    void testConvert() throws Exception {
+        List<RecordedEvent> events = record("net.jbock.Convert", () -> {
+            assertEquals(1, CONVERTER.applyOrThrow("1", "jfr-test", ItemType.PARAMETER, 0));
+            assertThrows(ExConvert.class, () -> CONVERTER.applyOrThrow("x", "jfr-test", ItemType.OPTION, 2));
+            assertTrue(CONVERTER.apply("2").isRight());
+        });
+        assertEquals(3, events.size());
+        assertEquals("jfr-test", events.get(0).getString("command"));
+        assertEquals("PARAMETER", events.get(0).getString("itemType"));
+        assertEquals(0, events.get(0).getInt("itemIndex"));
+        assertEquals("success", events.get(0).getString("outcome"));
+        assertEquals(CONVERTER.getClass().getName(), events.get(0).getClass("converter").getName());
+        assertEquals("OPTION", events.get(1).getString("itemType"));
+        assertEquals(2, events.get(1).getInt("itemIndex"));
+        assertEquals("failure", events.get(1).getString("outcome"));
+        assertEquals(null, events.get(2).getString("command"));
+        assertEquals(-1, events.get(2).getInt("itemIndex"));
+        assertEquals("success", events.get(2).getString("outcome"));
+    }
+
+    @Test
+    void testAtFileExpand() throws Exception {
+        Path file = Files.createTempFile("jbock", ".txt");
+        Path missing = file.resolveSibling(file.getFileName() + ".missing");
+        try {
+            Files.write(file, List.of("a", "b"));
+            List<RecordedEvent> events = record("net.jbock.AtFileExpand", () -> {
+                assertTrue(ParseRequest.from(new String[]{"@" + file, "c"}).expand().isRight());
+                assertTrue(ParseRequest.from(new String[]{"@" + missing}).expand().isLeft());
+            });
+            assertEquals(2, events.size());
+            assertEquals(file.toString(), events.get(0).getString("path"));
+            assertEquals(3, events.get(0).getInt("tokenCount"));
+            assertEquals("success", events.get(0).getString("outcome"));
+            assertEquals(missing.toString(), events.get(1).getString("path"));
+            assertEquals("failure", events.get(1).getString("outcome"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> record(String eventName, Action action) throws Exception {
+        Path dump = Files.createTempFile("jbock", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,78 @@
+package net.jbock.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandModelTest {
+
+    @Test
+    void builderChangesDoNotAffectModel() {
+        CommandModel.Builder builder = CommandModel.builder()
+                .withProgramName("test")
+                .addDescriptionLine("first");
+        CommandModel model = builder.build();
+        builder.addDescriptionLine("second");
+        builder.addParameter(Parameter.builder(Multiplicity.REQUIRED).withParamLabel("A").build());
+        assertEquals(List.of("first"), model.descriptionLines());
+        assertEquals(List.of(), model.parameters());
+    }
+
+    @Test
+    void listsAreUnmodifiable() {
+        Option option = Option.nullary()
+                .withParamLabel("V")
+                .withNames(List.of("-v"))
+                .addDescriptionLine("verbose")
+                .build();
+        CommandModel model = CommandModel.builder()
+                .withProgramName("test")
+                .addOption(option)
+                .build();
+        assertThrows(UnsupportedOperationException.class, () -> model.options().clear());
+        assertThrows(UnsupportedOperationException.class, () -> model.descriptionLines().add(""));
+        assertThrows(UnsupportedOperationException.class, () -> option.names().clear());
+        assertThrows(UnsupportedOperationException.class, () -> option.description().clear());
+    }
+
+    @Test
+    void indexes() {
+        Option verbose = Option.nullary()
+                .withParamLabel("VERBOSE")
+                .withNames(List.of("-v", "--verbose"))
+                .build();
+        Option file = Option.unary(Multiplicity.REQUIRED)
+                .withParamLabel("FILE")
+                .withNames(List.of("--file"))
+                .build();
+        Parameter source = Parameter.builder(Multiplicity.REQUIRED)
+                .withParamLabel("SOURCE")
+                .build();
+        Parameter rest = Parameter.builder(Multiplicity.REPEATABLE)
+                .withParamLabel("REST")
+                .build();
+        CommandModel model = CommandModel.builder()
+                .withProgramName("test")
+                .addOption(verbose)
+                .addOption(file)
+                .addParameter(source)
+                .addParameter(rest)
+                .build();
+        assertSame(verbose, model.getOption("-v").orElseThrow());
+        assertSame(verbose, model.getOption("--verbose").orElseThrow());
+        assertSame(file, model.getOption("--file").orElseThrow());
+        assertTrue(model.getOption("-x").isEmpty());
+        assertSame(source, model.getParameter("SOURCE").orElseThrow());
+        assertTrue(model.getParameter("TARGET").isEmpty());
+        assertEquals(List.of(file), model.requiredOptions());
+        assertEquals(List.of(verbose), model.getOptions(Multiplicity.OPTIONAL));
+        assertEquals(List.of(), model.getOptions(Multiplicity.REPEATABLE));
+        assertEquals(List.of(source), model.getParameters(Multiplicity.REQUIRED));
+        assertSame(rest, model.varargsParameter().orElseThrow());
+    }
+}
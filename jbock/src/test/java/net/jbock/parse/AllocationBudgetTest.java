@@ -0,0 +1,202 @@
+package net.jbock.parse;
+
+import net.jbock.util.ExToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the bytes that are allocated per parse, and compares them
+ * with the budgets in {@code allocation-budgets.properties}.
+ * Each measurement is the minimum over several rounds, after a warmup,
+ * so the budgets describe the steady state of the hot path.
+ * If a change reduces allocation, lower the budget.
+ */
+@SuppressWarnings("removal")
+class AllocationBudgetTest {
+
+    private static final Properties BUDGETS = budgets();
+
+    private static final int WIDE = 100;
+
+    private enum Flag {
+        A, B, C, D, E
+    }
+
+    private static final ParserTable<Flag> FLAGS_TABLE = ParserTable.standard("test",
+            OptionLookup.fromMap(Map.of("-a", Flag.A, "-b", Flag.B, "-c", Flag.C, "-d", Flag.D, "--e", Flag.E)), 0,
+            OptionKind.MODE_FLAG, OptionKind.MODE_FLAG, OptionKind.MODE_FLAG, OptionKind.MODE_FLAG, OptionKind.MODE_FLAG);
+
+    private static final List<String> FLAGS_TOKENS = List.of("-abc", "-d", "--e");
+
+    private static final Map<String, Wide> WIDE_NAMES = wideNames();
+
+    private static final ParserTable<Wide> WIDE_TABLE = ParserTable.standard("test",
+            OptionLookup.fromMap(WIDE_NAMES), 1, wideKinds());
+
+    private static final List<String> WIDE_TOKENS = wideTokens();
+
+    private static final ParserTable<Void> VARARGS_TABLE = ParserTable.varargs("test", 1);
+
+    private static final List<String> VARARGS_TOKENS = varargsTokens();
+
+    @Test
+    void flags() {
+        assertWithinBudget("tableParser.flags", 10_000, () -> {
+            TableParser<Flag> parser = FLAGS_TABLE.newParser();
+            parser.parse(FLAGS_TOKENS);
+            return parser.optionValues(Flag.E);
+        });
+    }
+
+    @Test
+    void wide() {
+        assertWithinBudget("tableParser.wide", 2_000, () -> {
+            TableParser<Wide> parser = WIDE_TABLE.newParser();
+            parser.parse(WIDE_TOKENS);
+            return parser.optionValues(Wide.O99);
+        });
+    }
+
+    @Test
+    void varargs() {
+        assertWithinBudget("tableParser.varargs", 50, () -> {
+            TableParser<Void> parser = VARARGS_TABLE.newParser();
+            parser.parse(VARARGS_TOKENS);
+            return parser.restValues();
+        });
+    }
+
+    @Test
+    void standardParserWide() {
+        assertWithinBudget("standardParser.wide", 2_000, () -> {
+            Map<Wide, OptionState> optionStates = new EnumMap<>(Wide.class);
+            for (Wide option : Wide.values()) {
+                optionStates.put(option, option.ordinal() % 2 == 0 ?
+                        new OptionStateNonRepeatable() :
+                        new OptionStateRepeatable());
+            }
+            StandardParser<Wide> parser = StandardParser.create(WIDE_NAMES, optionStates, 1);
+            parser.parse(WIDE_TOKENS);
+            return parser.optionValues(Wide.O99);
+        });
+    }
+
+    @Test
+    void varargsParameterParser() {
+        assertWithinBudget("varargsParameterParser.varargs", 50, () -> {
+            VarargsParameterParser<Void> parser = VarargsParameterParser.create(Map.of(), Map.of(), 1);
+            parser.parse(VARARGS_TOKENS);
+            return parser.restValues();
+        });
+    }
+
+    private interface Parse {
+        Object run() throws ExToken;
+    }
+
+    private static void assertWithinBudget(String key, int iterations, Parse parse) {
+        String budget = BUDGETS.getProperty(key);
+        assertTrue(budget != null, "no budget for " + key);
+        long bytes = bytesPerParse(iterations, parse);
+        assertTrue(bytes <= Long.parseLong(budget), String.format(Locale.ROOT,
+                "%s allocates %d bytes per parse, but the budget is %s bytes", key, bytes, budget));
+    }
+
+    private static long bytesPerParse(int iterations, Parse parse) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long result = Long.MAX_VALUE;
+        Object sink = null;
+        try {
+            for (int i = 0; i < 5 * iterations; i++) {
+                sink = parse.run();
+            }
+            for (int round = 0; round < 5; round++) {
+                long before = threads.getThreadAllocatedBytes(threadId);
+                for (int i = 0; i < iterations; i++) {
+                    sink = parse.run();
+                }
+                long after = threads.getThreadAllocatedBytes(threadId);
+                result = Math.min(result, (after - before) / iterations);
+            }
+        } catch (ExToken e) {
+            throw new AssertionError(e);
+        }
+        assertTrue(sink != null);
+        return result;
+    }
+
+    private static Properties budgets() {
+        Properties properties = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("allocation-budgets.properties")) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    private static Map<String, Wide> wideNames() {
+        Map<String, Wide> result = new HashMap<>();
+        for (Wide option : Wide.values()) {
+            result.put("--" + option.name().toLowerCase(Locale.ROOT), option);
+        }
+        assertEquals(WIDE, result.size());
+        return result;
+    }
+
+    private static OptionKind[] wideKinds() {
+        OptionKind[] result = new OptionKind[WIDE];
+        for (Wide option : Wide.values()) {
+            result[option.ordinal()] = option.ordinal() % 2 == 0 ?
+                    OptionKind.NON_REPEATABLE :
+                    OptionKind.REPEATABLE;
+        }
+        return result;
+    }
+
+    private static List<String> wideTokens() {
+        List<String> result = new ArrayList<>();
+        result.add("param");
+        for (Wide option : Wide.values()) {
+            result.add("--" + option.name().toLowerCase(Locale.ROOT) + "=" + option.ordinal());
+        }
+        return List.copyOf(result);
+    }
+
+    private static List<String> varargsTokens() {
+        List<String> result = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            result.add("token" + i);
+        }
+        return List.copyOf(result);
+    }
+
+    private enum Wide {
+        O0, O1, O2, O3, O4, O5, O6, O7, O8, O9,
+        O10, O11, O12, O13, O14, O15, O16, O17, O18, O19,
+        O20, O21, O22, O23, O24, O25, O26, O27, O28, O29,
+        O30, O31, O32, O33, O34, O35, O36, O37, O38, O39,
+        O40, O41, O42, O43, O44, O45, O46, O47, O48, O49,
+        O50, O51, O52, O53, O54, O55, O56, O57, O58, O59,
+        O60, O61, O62, O63, O64, O65, O66, O67, O68, O69,
+        O70, O71, O72, O73, O74, O75, O76, O77, O78, O79,
+        O80, O81, O82, O83, O84, O85, O86, O87, O88, O89,
+        O90, O91, O92, O93, O94, O95, O96, O97, O98, O99
+    }
+}
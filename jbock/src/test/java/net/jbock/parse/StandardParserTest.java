@@ -3,17 +3,21 @@ package net.jbock.parse;
 import net.jbock.util.ExToken;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+@SuppressWarnings("removal")
 class StandardParserTest {
 
     @Test
@@ -160,4 +164,26 @@ class StandardParserTest {
         assertTrue(parser.option("A").findAny().isPresent());
         assertEquals(List.of("1"), parser.option("B").toList());
     }
+
+    @Test
+    void testOptionLookup() throws ExToken {
+        List<String> lookups = new ArrayList<>();
+        OptionLookup<String> optionNames = (token, end) -> {
+            lookups.add(token.substring(0, end));
+            return token.startsWith("--file") && end == 6 || token.startsWith("-f") && end == 2 ? "file" : null;
+        };
+        StandardParser<String> parser = StandardParser.create(optionNames,
+                Map.of("file", new OptionStateRepeatable()), 0);
+        parser.parse(List.of("--file=a", "-fb", "--file", "c"));
+        assertEquals(List.of("a", "b", "c"), parser.option("file").collect(Collectors.toList()));
+        assertEquals(List.of("--file", "-f", "--file"), lookups);
+    }
+
+    @Test
+    void testOptionLookupFromMap() {
+        OptionLookup<String> optionNames = OptionLookup.fromMap(Map.of("--file", "file"));
+        assertEquals("file", optionNames.lookup("--file", 6));
+        assertEquals("file", optionNames.lookup("--file=a", 6));
+        assertNull(optionNames.lookup("--files", 7));
+    }
 }
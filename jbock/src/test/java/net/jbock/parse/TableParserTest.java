@@ -0,0 +1,160 @@
+package net.jbock.parse;
+
+import net.jbock.model.CommandModel;
+import net.jbock.util.ErrToken;
+import net.jbock.util.ErrTokenType;
+import net.jbock.util.ExToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableParserTest {
+
+    private enum Opt {
+        FLAG, VALUE, LIST
+    }
+
+    private static final OptionLookup<Opt> OPTION_NAMES = OptionLookup.fromMap(Map.of(
+            "-f", Opt.FLAG,
+            "--flag", Opt.FLAG,
+            "-v", Opt.VALUE,
+            "--value", Opt.VALUE,
+            "-l", Opt.LIST));
+
+    private static final OptionKind[] KINDS = {
+            OptionKind.MODE_FLAG, OptionKind.NON_REPEATABLE, OptionKind.REPEATABLE};
+
+    @Test
+    void testStandardOptions() throws ExToken {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of("-l1", "--value=x", "p", "-f", "-l", "2"));
+        assertEquals(List.of(""), parser.optionValues(Opt.FLAG));
+        assertEquals(List.of("x"), parser.optionValues(Opt.VALUE));
+        assertEquals(List.of("1", "2"), parser.option(Opt.LIST).toList());
+        assertEquals(Optional.of("p"), parser.param(0));
+        assertTrue(parser.param(1).isEmpty());
+        assertTrue(parser.restValues().isEmpty());
+    }
+
+    @Test
+    void testStandardAbsentOptions() throws ExToken {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of());
+        for (Opt opt : Opt.values()) {
+            assertEquals(List.of(), parser.optionValues(opt));
+        }
+        assertTrue(parser.param(0).isEmpty());
+    }
+
+    @Test
+    void testStandardExcessParam() {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 1, KINDS).newParser();
+        ExToken e = assertThrows(ExToken.class, () -> parser.parse(List.of("a", "b")));
+        assertEquals(ErrTokenType.EXCESS_PARAM, errorType(e));
+    }
+
+    @Test
+    void testStandardEscape() throws ExToken {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of("--", "-f"));
+        assertEquals(Optional.of("-f"), parser.param(0));
+        assertEquals(List.of(), parser.optionValues(Opt.FLAG));
+    }
+
+    @Test
+    void testSuspicious() {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 1, KINDS).newParser();
+        ExToken e = assertThrows(ExToken.class, () -> parser.parse(List.of("--other")));
+        assertEquals(ErrTokenType.INVALID_OPTION, errorType(e));
+    }
+
+    @Test
+    void testRepetition() {
+        TableParser<Opt> flag = ParserTable.standard("test", OPTION_NAMES, 0, KINDS).newParser();
+        ExToken e1 = assertThrows(ExToken.class, () -> flag.parse(List.of("-f", "--flag")));
+        assertEquals(ErrTokenType.OPTION_REPETITION, errorType(e1));
+        TableParser<Opt> value = ParserTable.standard("test", OPTION_NAMES, 0, KINDS).newParser();
+        ExToken e2 = assertThrows(ExToken.class, () -> value.parse(List.of("-v1", "-v2")));
+        assertEquals(ErrTokenType.OPTION_REPETITION, errorType(e2));
+    }
+
+    @Test
+    void testMissingArgument() {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 0, KINDS).newParser();
+        ExToken e = assertThrows(ExToken.class, () -> parser.parse(List.of("--value")));
+        assertEquals(ErrTokenType.MISSING_ARGUMENT, errorType(e));
+    }
+
+    @Test
+    void testUnixGroup() throws ExToken {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 0, KINDS).newParser();
+        parser.parse(List.of("-fv1"));
+        assertEquals(List.of(""), parser.optionValues(Opt.FLAG));
+        assertEquals(List.of("1"), parser.optionValues(Opt.VALUE));
+    }
+
+    @Test
+    void testInvalidUnixGroup() {
+        TableParser<Opt> parser = ParserTable.standard("test", OPTION_NAMES, 0, KINDS).newParser();
+        ExToken e = assertThrows(ExToken.class, () -> parser.parse(List.of("-fx")));
+        assertEquals(ErrTokenType.INVALID_UNIX_GROUP, errorType(e));
+    }
+
+    @Test
+    void testVarargs() throws ExToken {
+        TableParser<Opt> parser = ParserTable.varargs("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of("a", "b", "-f", "c", "--", "-v"));
+        assertEquals(Optional.of("a"), parser.param(0));
+        assertEquals(List.of("b", "c", "-v"), parser.restValues());
+        assertEquals(List.of(""), parser.optionValues(Opt.FLAG));
+    }
+
+    @Test
+    void testSuperCommand() throws ExToken {
+        TableParser<Opt> parser = ParserTable.superCommand("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of("-f", "a", "-v", "--", "--other"));
+        assertEquals(Optional.of("a"), parser.param(0));
+        assertEquals(List.of("-v", "--", "--other"), parser.rest().toList());
+        assertEquals(List.of(""), parser.optionValues(Opt.FLAG));
+        assertEquals(List.of(), parser.optionValues(Opt.VALUE));
+    }
+
+    @Test
+    void testSuperCommandRestIsView() throws ExToken {
+        List<String> tokens = new ArrayList<>(List.of("a", "-v", "b"));
+        TableParser<Opt> parser = ParserTable.superCommand("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(tokens);
+        assertEquals(List.of("-v", "b"), parser.restValues());
+        tokens.set(2, "c");
+        assertEquals(List.of("-v", "c"), parser.restValues());
+        assertThrows(UnsupportedOperationException.class, () -> parser.restValues().add("d"));
+    }
+
+    @Test
+    void testSuperCommandNoRest() throws ExToken {
+        TableParser<Opt> parser = ParserTable.superCommand("test", OPTION_NAMES, 1, KINDS).newParser();
+        parser.parse(List.of("-f", "a"));
+        assertEquals(List.of(), parser.restValues());
+    }
+
+    @Test
+    void testNoOptions() throws ExToken {
+        TableParser<Void> parser = ParserTable.<Void>varargs("test", 0).newParser();
+        parser.parse(List.of("a", "b"));
+        assertEquals(List.of("a", "b"), parser.restValues());
+        TableParser<Void> suspicious = ParserTable.<Void>standard("test", 1).newParser();
+        assertThrows(ExToken.class, () -> suspicious.parse(List.of("-a")));
+    }
+
+    private static ErrTokenType errorType(ExToken e) {
+        CommandModel model = CommandModel.builder().withProgramName("test").build();
+        return ((ErrToken) e.toError(model)).errorType();
+    }
+}
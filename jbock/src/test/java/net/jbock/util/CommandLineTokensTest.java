@@ -0,0 +1,99 @@
+package net.jbock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandLineTokensTest {
+
+    @Test
+    void testPlain() throws ExToken {
+        assertEquals(List.of("cp", "-r", "a", "b"), CommandLineTokens.tokenize("  cp -r\ta \n b "));
+    }
+
+    @Test
+    void testEmpty() throws ExToken {
+        assertEquals(List.of(), CommandLineTokens.tokenize(""));
+        assertEquals(List.of(), CommandLineTokens.tokenize(" \t "));
+    }
+
+    @Test
+    void testQuotes() throws ExToken {
+        assertEquals(List.of("a b", "c d", "", "e'f", "g\"h"),
+                CommandLineTokens.tokenize("'a b' \"c d\" '' \"e'f\" 'g\"h'"));
+        assertEquals(List.of("--file=my file", "xyz"),
+                CommandLineTokens.tokenize("--file='my file' x'y'\"z\""));
+    }
+
+    @Test
+    void testEscapes() throws ExToken {
+        assertEquals(List.of("a b", "\t", "\\", "\"", "'", "\\n"),
+                CommandLineTokens.tokenize("a\\ b \\t \\\\ \"\\\"\" \\' '\\n'"));
+    }
+
+    @Test
+    void testQuotesInsideToken() throws ExToken {
+        assertEquals(List.of("a b", "c\"d", "e'f", "", "g h"),
+                CommandLineTokens.tokenize("'a b' 'c\"d' \"e'f\" \"\" g\" \"h"));
+    }
+
+    @Test
+    void testEscapedQuotes() throws ExToken {
+        assertEquals(List.of("a b", "\n", "\\", "'", "\"x\""),
+                CommandLineTokens.tokenize("a\\ b \\n \\\\ \\' \"\\\"x\\\"\""));
+    }
+
+    @Test
+    void testSingleQuotesAreLiteral() throws ExToken {
+        assertEquals(List.of("a\\nb"), CommandLineTokens.tokenize("'a\\nb'"));
+        assertEquals(List.of("a\\", "b"), CommandLineTokens.tokenize("'a\\' b"));
+    }
+
+    @Test
+    void testUnmatchedQuote() {
+        ExToken e = assertThrows(ExToken.class, () -> CommandLineTokens.tokenize("a 'b c"));
+        ErrToken error = (ErrToken) e.toError(null);
+        assertEquals(ErrTokenType.UNMATCHED_QUOTE, error.errorType());
+        assertEquals("'b c", error.token());
+        assertThrows(ExToken.class, () -> CommandLineTokens.tokenize("\"a\\\""));
+    }
+
+    @Test
+    void testTrailingBackslash() {
+        ExToken e = assertThrows(ExToken.class, () -> CommandLineTokens.tokenize("a b\\"));
+        ErrToken error = (ErrToken) e.toError(null);
+        assertEquals(ErrTokenType.TRAILING_BACKSLASH, error.errorType());
+        assertEquals("b\\", error.token());
+        assertEquals(ErrTokenType.TRAILING_BACKSLASH,
+                assertThrows(ExToken.class, () -> CommandLineTokens.tokenize("a\\\\\\")).errorType());
+    }
+
+    @Test
+    void testEscapedBackslashAtEnd() throws ExToken {
+        assertEquals(List.of("a", "b\\"), CommandLineTokens.tokenize("a b\\\\"));
+    }
+
+    @Test
+    void testTokenIsCreatedOnce() throws ExToken {
+        List<String> tokens = CommandLineTokens.tokenize(new StringBuilder("a 'b'"));
+        assertSame(tokens.get(0), tokens.get(0));
+        assertSame(tokens.get(1), tokens.get(1));
+        assertEquals("b", tokens.get(1));
+    }
+
+    @Test
+    void testManyTokens() throws ExToken {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(i).append(' ');
+        }
+        List<String> tokens = CommandLineTokens.tokenize(sb);
+        assertEquals(100, tokens.size());
+        assertEquals("99", tokens.get(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> tokens.get(100));
+    }
+}